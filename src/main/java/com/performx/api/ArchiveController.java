@@ -0,0 +1,26 @@
+package com.performx.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.performx.response.ColdArchiveResult;
+import com.performx.service.ArchiveService;
+
+@RestController
+@RequestMapping("/archive")
+public class ArchiveController {
+
+	@Autowired
+	private ArchiveService archiveService;
+
+	@PostMapping("/run")
+	public ResponseEntity<List<ColdArchiveResult>> runArchive() {
+		return ResponseEntity.ok(archiveService.runArchive());
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.performx.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.performx.response.CacheRegionStats;
+import com.performx.service.CacheService;
+
+@RestController
+@RequestMapping("/cache")
+public class CacheController {
+
+	@Autowired
+	private CacheService cacheService;
+
+	@GetMapping("/statistics")
+	public ResponseEntity<List<CacheRegionStats>> getStatistics() {
+		return ResponseEntity.ok(cacheService.getStatistics());
+	}
+
+	@DeleteMapping("/{region}")
+	public ResponseEntity<Void> evictRegion(@PathVariable String region) {
+		cacheService.evictRegion(region);
+		return ResponseEntity.noContent().build();
+	}
+
+}
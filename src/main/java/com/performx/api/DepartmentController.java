@@ -1,10 +1,47 @@
 package com.performx.api;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.performx.dto.DepartmentMasterDTO;
+import com.performx.service.DepartmentService;
 
 @RestController
 @RequestMapping("/department")
 public class DepartmentController {
 
+	@Autowired
+	private DepartmentService departmentService;
+
+	/**
+	 * Lists all departments. The response carries the reference data version as ETag,
+	 * so clients revalidate with {@code If-None-Match} and get a 304 while the
+	 * table is unchanged.
+	 */
+	@GetMapping
+	public ResponseEntity<List<DepartmentMasterDTO>> findAll(WebRequest request) {
+		String eTag = '"' + Long.toString(departmentService.getReferenceVersion()) + '"';
+		if (request.checkNotModified(eTag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(eTag).body(departmentService.findAll());
+	}
+
+	@GetMapping("/{id}")
+	public ResponseEntity<DepartmentMasterDTO> findById(@PathVariable Long id) {
+		return ResponseEntity.ok(departmentService.findById(id));
+	}
+
+	@GetMapping("/name/{name}")
+	public ResponseEntity<DepartmentMasterDTO> findByName(@PathVariable String name) {
+		return ResponseEntity.of(departmentService.findByName(name));
+	}
+
 }
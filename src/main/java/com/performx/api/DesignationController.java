@@ -1,10 +1,47 @@
 package com.performx.api;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.performx.dto.DesignationMasterDTO;
+import com.performx.service.DesignationService;
 
 @RestController
 @RequestMapping("/designation")
 public class DesignationController {
 
+	@Autowired
+	private DesignationService designationService;
+
+	/**
+	 * Lists all designations. The response carries the reference data version as ETag,
+	 * so clients revalidate with {@code If-None-Match} and get a 304 while the
+	 * table is unchanged.
+	 */
+	@GetMapping
+	public ResponseEntity<List<DesignationMasterDTO>> findAll(WebRequest request) {
+		String eTag = '"' + Long.toString(designationService.getReferenceVersion()) + '"';
+		if (request.checkNotModified(eTag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(eTag).body(designationService.findAll());
+	}
+
+	@GetMapping("/{id}")
+	public ResponseEntity<DesignationMasterDTO> findById(@PathVariable Long id) {
+		return ResponseEntity.ok(designationService.findById(id));
+	}
+
+	@GetMapping("/title/{title}")
+	public ResponseEntity<DesignationMasterDTO> findByTitle(@PathVariable String title) {
+		return ResponseEntity.of(designationService.findByTitle(title));
+	}
+
 }
@@ -1,10 +1,57 @@
 package com.performx.api;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.performx.dto.EmployeeDTO;
+import com.performx.request.FilterRequest;
+import com.performx.service.EmployeeService;
+import com.performx.util.StreamingExporter;
 
 @RestController
 @RequestMapping("/employee")
 public class EmployeeController {
 
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private StreamingExporter streamingExporter;
+
+	/**
+	 * Lists only the requested fields of the matching employees, e.g.
+	 * {@code "fields": ["id", "name", "department", "salary"]} for list screens.
+	 */
+	@PostMapping("/fields")
+	public ResponseEntity<List<Map<String, Object>>> findFields(@RequestBody FilterRequest filterRequest) {
+		return ResponseEntity.ok(employeeService.findFields(filterRequest));
+	}
+
+	/**
+	 * Exports the matching employee records as newline-delimited JSON, streamed
+	 * straight from the database cursor.
+	 */
+	@PostMapping(value = "/export/ndjson", produces = StreamingExporter.NDJSON)
+	public ResponseEntity<StreamingResponseBody> exportNdjson(
+			@RequestBody(required = false) FilterRequest filterRequest) {
+		return streamingExporter.ndjson(() -> employeeService.findAllAsStream(filterRequest), "employee");
+	}
+
+	/**
+	 * Exports the matching employee records as CSV, streamed straight from the
+	 * database cursor.
+	 */
+	@PostMapping(value = "/export/csv", produces = StreamingExporter.CSV)
+	public ResponseEntity<StreamingResponseBody> exportCsv(@RequestBody(required = false) FilterRequest filterRequest) {
+		return streamingExporter.csv(() -> employeeService.findAllAsStream(filterRequest), EmployeeDTO.class, "employee");
+	}
+
 }
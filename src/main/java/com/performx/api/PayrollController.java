@@ -1,10 +1,88 @@
 package com.performx.api;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.performx.dto.PayrollDTO;
+import com.performx.request.FilterRequest;
+import com.performx.response.PayrollArchiveResult;
+import com.performx.response.PayrollRunResult;
+import com.performx.service.PayrollService;
+import com.performx.util.StreamingExporter;
 
 @RestController
 @RequestMapping("/payroll")
 public class PayrollController {
 
+	@Autowired
+	private PayrollService payrollService;
+
+	@Autowired
+	private StreamingExporter streamingExporter;
+
+	/**
+	 * Exports the matching payroll records as newline-delimited JSON, streamed
+	 * straight from the database cursor.
+	 */
+	@PostMapping(value = "/export/ndjson", produces = StreamingExporter.NDJSON)
+	public ResponseEntity<StreamingResponseBody> exportNdjson(
+			@RequestBody(required = false) FilterRequest filterRequest) {
+		return streamingExporter.ndjson(() -> payrollService.findAllAsStream(filterRequest), "payroll");
+	}
+
+	/**
+	 * Exports the matching payroll records as CSV, streamed straight from the
+	 * database cursor.
+	 */
+	@PostMapping(value = "/export/csv", produces = StreamingExporter.CSV)
+	public ResponseEntity<StreamingResponseBody> exportCsv(@RequestBody(required = false) FilterRequest filterRequest) {
+		return streamingExporter.csv(() -> payrollService.findAllAsStream(filterRequest), PayrollDTO.class, "payroll");
+	}
+
+	/**
+	 * Runs the payroll of a month ({@code yyyy-MM}), or resumes it after a
+	 * failed attempt.
+	 */
+	@PostMapping("/run/{month}")
+	public ResponseEntity<PayrollRunResult> run(@PathVariable String month) {
+		return ResponseEntity.ok(payrollService.runPayroll(month));
+	}
+
+	/**
+	 * Queues every line of a month ({@code yyyy-MM}) for recalculation after a
+	 * pay rule change, and returns the number of lines queued.
+	 */
+	@PostMapping("/recalculate/{month}")
+	public ResponseEntity<Integer> recalculate(@PathVariable String month) {
+		return ResponseEntity.ok(payrollService.recalculatePayroll(month));
+	}
+
+	/**
+	 * Archives a closed month ({@code yyyy-MM}): its rows leave the payroll
+	 * table for an archive table of their own.
+	 */
+	@PostMapping("/archive/{month}")
+	public ResponseEntity<PayrollArchiveResult> archive(@PathVariable String month) {
+		return ResponseEntity.ok(payrollService.archivePayrollMonth(month));
+	}
+
+	/**
+	 * Reconciles a month against an earlier one (both {@code yyyy-MM}): the
+	 * added, removed and changed lines with their deltas, as newline-delimited
+	 * JSON streamed while both months are read.
+	 */
+	@GetMapping(value = "/reconcile/{fromMonth}/{toMonth}", produces = StreamingExporter.NDJSON)
+	public ResponseEntity<StreamingResponseBody> reconcile(@PathVariable String fromMonth,
+			@PathVariable String toMonth) {
+		return streamingExporter.ndjson(() -> payrollService.reconcilePayroll(fromMonth, toMonth),
+				"payroll-" + fromMonth + "-" + toMonth);
+	}
+
 }
@@ -0,0 +1,50 @@
+package com.performx.archive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Marks the date field by which old rows of an entity move to the cold
+ * archive, one segment per month.
+ *
+ * <p>
+ * Filter reads ({@code findAll}, {@code count} and {@code exists}) whose
+ * conditions on the field reach archived months also return the archived rows
+ * of those months. The mapper gives the month of a value as {@code yyyyMM}
+ * and must preserve order: {@code a < b} implies {@code mapper(a) <= mapper(b)}.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ArchiveKey {
+
+	/**
+	 * Maps a value of the field, already of the field's type, to its month;
+	 * needs a no-arg constructor.
+	 */
+	Class<? extends Function<Object, Object>> mapper();
+
+	/** The month of a {@link Date}, in the JVM's time zone. */
+	final class MonthOfDate implements Function<Object, Object> {
+
+		@Override
+		public Object apply(Object date) {
+			if (date == null) {
+				return null;
+			}
+			YearMonth month = YearMonth.from(Instant.ofEpochMilli(((Date) date).getTime()).atZone(ZoneId.systemDefault()));
+			return month.getYear() * 100 + month.getMonthValue();
+		}
+	}
+
+}
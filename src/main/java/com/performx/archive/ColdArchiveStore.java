@@ -0,0 +1,482 @@
+package com.performx.archive;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import com.performx.constant.LogicalOperator;
+import com.performx.constant.MessageCode;
+import com.performx.entity.ColdSegment;
+import com.performx.exception.GlobalException;
+import com.performx.repository.ColdSegmentRepository;
+import com.performx.request.FilterCondition;
+import com.performx.request.FilterRequest;
+import com.performx.util.TypeConverterRegistry;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only local store of archived rows: one directory per entity under
+ * {@code performx.archive.dir}, holding compressed column-major segment files
+ * (see {@link SegmentFormat}) of one month each, listed in the
+ * {@code cold_segment} table.
+ *
+ * <p>
+ * The filter reads of entities with an {@link ArchiveKey} consult the store
+ * when their conditions on the key reach archived months: the segments of
+ * those months are read, filtered in memory with the same semantics as the
+ * database, and merged into the result, sorted again when the request sorts.
+ * A request constrains the months it reads when, under AND, one of its
+ * conditions is an EQUALS, IN, BETWEEN or range condition on the key, or,
+ * under OR, every one of them is. Reads that do not constrain the key, such as
+ * paged and projection reads, only see the database: archived rows are found
+ * by asking for their dates.
+ * </p>
+ *
+ * <p>
+ * The list of segments is cached and reloaded every {@code manifest-refresh},
+ * or at once after a segment is added here.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ColdArchiveStore {
+
+	private static final String SEGMENT_SUFFIX = ".seg";
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private static final ClassValue<KeyField> KEYS = new ClassValue<>() {
+
+		@Override
+		protected KeyField computeValue(Class<?> type) {
+			return scan(type);
+		}
+	};
+
+	private static final KeyField NONE = new KeyField(null, null, null);
+
+	private final ColdSegmentRepository segmentRepository;
+	private final EntityManagerFactory entityManagerFactory;
+	private final RowFilter rowFilter;
+	private final TypeConverterRegistry converters;
+	private final Path root;
+	private final long refreshNanos;
+
+	private volatile Manifest manifest;
+
+	public ColdArchiveStore(ColdSegmentRepository segmentRepository, EntityManagerFactory entityManagerFactory,
+			TypeConverterRegistry converters, @Value("${performx.archive.dir:archive}") String dir,
+			@Value("${performx.archive.manifest-refresh:1m}") String manifestRefresh) {
+		this.segmentRepository = segmentRepository;
+		this.entityManagerFactory = entityManagerFactory;
+		this.converters = converters;
+		this.rowFilter = new RowFilter(converters);
+		this.root = Paths.get(dir);
+		this.refreshNanos = DurationStyle.detectAndParse(manifestRefresh).toNanos();
+	}
+
+	/** Whether an entity has an {@link ArchiveKey}, so rows of it may be archived. */
+	public boolean isArchivable(Class<?> entityClass) {
+		return KEYS.get(entityClass) != NONE;
+	}
+
+	/**
+	 * A filter read's rows from the database together with the archived rows
+	 * it reaches, sorted as the request asks.
+	 *
+	 * @param live The rows read from the database, which are not modified.
+	 */
+	public <T> List<T> withArchived(Class<T> entityClass, FilterRequest request, List<T> live) {
+		List<T> archived = read(entityClass, request);
+		if (archived.isEmpty()) {
+			return live;
+		}
+		List<T> rows = new ArrayList<>(live.size() + archived.size());
+		rows.addAll(live);
+		rows.addAll(archived);
+		Comparator<Object> order = rowFilter.comparator(request.getSortOrders());
+		if (order != null) {
+			rows.sort(order);
+		}
+		return rows;
+	}
+
+	/**
+	 * The number of archived rows a filter read reaches and matches, counted on
+	 * the segments' values without building entities.
+	 */
+	public long count(Class<?> entityClass, FilterRequest request) {
+		long[] matched = { 0 };
+		scan(entityClass, request, (segment, values) -> {
+			matched[0]++;
+			return true;
+		});
+		return matched[0];
+	}
+
+	/** Whether any archived row a filter read reaches matches; stops at the first. */
+	public boolean exists(Class<?> entityClass, FilterRequest request) {
+		boolean[] found = { false };
+		scan(entityClass, request, (segment, values) -> {
+			found[0] = true;
+			return false;
+		});
+		return found[0];
+	}
+
+	/**
+	 * The archived rows of an entity matching a filter, in the months its
+	 * conditions on the archive key reach; none when they reach none. Only the
+	 * matching rows become entities.
+	 */
+	public <T> List<T> read(Class<T> entityClass, FilterRequest request) {
+		List<T> rows = new ArrayList<>();
+		scan(entityClass, request, (segment, values) -> {
+			rows.add(toEntity(entityClass, segment, values));
+			return true;
+		});
+		return rows;
+	}
+
+	/**
+	 * Passes every archived row a filter read reaches and matches to
+	 * {@code visitor}, segment by segment, until it returns {@code false}.
+	 */
+	private void scan(Class<?> entityClass, FilterRequest request, RowVisitor visitor) {
+		KeyField key = KEYS.get(entityClass);
+		if (key == NONE || request == null || request.getConditions() == null) {
+			return;
+		}
+		NavigableMap<Integer, List<String>> segments = manifest().periods(entityName(entityClass));
+		if (segments.isEmpty()) {
+			return;
+		}
+		NavigableSet<Integer> periods = selectPeriods(key, request, segments.navigableKeySet());
+		if (periods.isEmpty()) {
+			return;
+		}
+		int scanned = 0;
+		int matched = 0;
+		scan: for (Integer period : periods) {
+			for (String fileName : segments.get(period)) {
+				SegmentFormat.Segment segment = load(entityClass, fileName);
+				Map<String, Integer> index = RowFilter.SegmentRow.index(segment.columns());
+				for (Object[] values : segment.rows()) {
+					scanned++;
+					if (rowFilter.matches(new RowFilter.SegmentRow(index, segment.columns(), values), request)) {
+						matched++;
+						if (!visitor.visit(segment, values)) {
+							break scan;
+						}
+					}
+				}
+			}
+		}
+		log.info(MessageCode.ARCHIVE_READ.getMessage(), entityClass.getSimpleName(), periods, matched, scanned);
+	}
+
+	/**
+	 * Writes rows of a month to a new segment and lists it in the caller's
+	 * transaction, which must also remove the rows from their table. The file
+	 * is deleted if the transaction rolls back.
+	 *
+	 * @param period The month of the rows as {@code yyyyMM}.
+	 */
+	ColdSegment append(Class<?> entityClass, int period, List<?> rows) {
+		String entityName = entityName(entityClass);
+		List<SegmentFormat.Column> columns = columns(entityClass);
+		List<Object[]> values = new ArrayList<>(rows.size());
+		for (Object row : rows) {
+			BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+			Object[] rowValues = new Object[columns.size()];
+			for (int c = 0; c < rowValues.length; c++) {
+				rowValues[c] = wrapper.getPropertyValue(columns.get(c).name());
+			}
+			values.add(rowValues);
+		}
+		String fileName = period + "-" + System.currentTimeMillis() + SEGMENT_SUFFIX;
+		Path file = root.resolve(entityName).resolve(fileName);
+		long size;
+		try {
+			Files.createDirectories(file.getParent());
+			Path temp = file.resolveSibling(fileName + TEMP_SUFFIX);
+			SegmentFormat.write(temp, columns, values);
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+			size = Files.size(file);
+		} catch (IOException e) {
+			throw new GlobalException(
+					String.format(MessageCode.ARCHIVE_SEGMENT_UNREADABLE.getMessage(), file, e.getMessage()), e);
+		}
+		ColdSegment segment = segmentRepository.save(new ColdSegment(0, entityName, period, fileName, rows.size(),
+				size, new Timestamp(System.currentTimeMillis())));
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					manifest = null;
+				} else {
+					deleteQuietly(file);
+				}
+			}
+		});
+		return segment;
+	}
+
+	/**
+	 * Deletes segment files that are not listed, left behind by archive runs
+	 * that did not commit. Must not run concurrently with {@link #append}.
+	 */
+	void removeOrphans() {
+		if (!Files.isDirectory(root)) {
+			return;
+		}
+		try (DirectoryStream<Path> entities = Files.newDirectoryStream(root, Files::isDirectory)) {
+			for (Path entity : entities) {
+				Set<String> listed = new HashSet<>();
+				segmentRepository.findByEntityName(entity.getFileName().toString())
+						.forEach(segment -> listed.add(segment.getFileName()));
+				try (DirectoryStream<Path> files = Files.newDirectoryStream(entity)) {
+					for (Path file : files) {
+						String name = file.getFileName().toString();
+						if ((name.endsWith(SEGMENT_SUFFIX) || name.endsWith(TEMP_SUFFIX)) && !listed.contains(name)) {
+							deleteQuietly(file);
+							log.warn(MessageCode.ARCHIVE_ORPHAN_REMOVED.getMessage(), file);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new GlobalException(
+					String.format(MessageCode.ARCHIVE_SEGMENT_UNREADABLE.getMessage(), root, e.getMessage()), e);
+		}
+	}
+
+	/** The archived months of an entity, as {@code yyyyMM}. */
+	public NavigableSet<Integer> getPeriods(Class<?> entityClass) {
+		return Collections.unmodifiableNavigableSet(manifest().periods(entityName(entityClass)).navigableKeySet());
+	}
+
+	/**
+	 * The archived months a request reads: under AND those allowed by every
+	 * condition on the key, under OR those allowed by any, and none when the
+	 * conditions leave the key unconstrained.
+	 */
+	private NavigableSet<Integer> selectPeriods(KeyField key, FilterRequest request, NavigableSet<Integer> archived) {
+		boolean or = request.getLogicalOperator() == LogicalOperator.OR;
+		NavigableSet<Integer> selected = or ? new TreeSet<>() : new TreeSet<>(archived);
+		boolean constrained = false;
+		for (FilterCondition fc : request.getConditions()) {
+			Set<Integer> periods = key.field().equals(fc.getField()) ? periodsOf(key, fc, archived) : null;
+			if (periods == null) {
+				if (or) {
+					return Collections.emptyNavigableSet();
+				}
+				continue;
+			}
+			constrained = true;
+			if (or) {
+				selected.addAll(periods);
+			} else {
+				selected.retainAll(periods);
+			}
+		}
+		return constrained ? selected : Collections.emptyNavigableSet();
+	}
+
+	/** The archived months a condition on the key allows, or {@code null} for any. */
+	private Set<Integer> periodsOf(KeyField key, FilterCondition fc, NavigableSet<Integer> archived) {
+		if (fc.getOperator() == null) {
+			return null;
+		}
+		switch (fc.getOperator()) {
+		case EQUALS: {
+			Integer period = key.period(fc.getValue(), converters);
+			return period != null && archived.contains(period) ? Set.of(period) : Set.of();
+		}
+		case GREATER_THAN:
+		case GREATER_THAN_EQUAL: {
+			Integer from = key.period(fc.getValue(), converters);
+			return from == null ? Set.of() : archived.tailSet(from, true);
+		}
+		case LESS_THAN:
+		case LESS_THAN_EQUAL: {
+			Integer to = key.period(fc.getValue(), converters);
+			return to == null ? Set.of() : archived.headSet(to, true);
+		}
+		case BETWEEN: {
+			Integer from = key.period(fc.getValue(), converters);
+			Integer to = key.period(fc.getAdditionalValue(), converters);
+			return from == null || to == null || from > to ? Set.of() : archived.subSet(from, true, to, true);
+		}
+		case IN: {
+			if (!(fc.getValue() instanceof Collection<?> values)) {
+				return null;
+			}
+			Set<Integer> periods = new HashSet<>();
+			for (Object value : values) {
+				Integer period = key.period(value, converters);
+				if (period != null && archived.contains(period)) {
+					periods.add(period);
+				}
+			}
+			return periods;
+		}
+		default:
+			return null;
+		}
+	}
+
+	private SegmentFormat.Segment load(Class<?> entityClass, String fileName) {
+		Path file = root.resolve(entityName(entityClass)).resolve(fileName);
+		try {
+			return SegmentFormat.read(file);
+		} catch (IOException e) {
+			throw new GlobalException(
+					String.format(MessageCode.ARCHIVE_SEGMENT_UNREADABLE.getMessage(), file, e.getMessage()), e);
+		}
+	}
+
+	private static <T> T toEntity(Class<T> entityClass, SegmentFormat.Segment segment, Object[] values) {
+		T row;
+		try {
+			row = entityClass.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new GlobalException("Cannot create " + entityClass.getName(), e);
+		}
+		BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+		for (int c = 0; c < values.length; c++) {
+			String name = segment.columns().get(c).name();
+			// columns dropped from the entity since the segment was written are skipped
+			if (values[c] != null && wrapper.isWritableProperty(name)) {
+				wrapper.setPropertyValue(name, values[c]);
+			}
+		}
+		return row;
+	}
+
+	/** The persistent properties of an entity, by name. */
+	private List<SegmentFormat.Column> columns(Class<?> entityClass) {
+		EntityType<?> type = entityManagerFactory.getMetamodel().entity(entityClass);
+		List<SegmentFormat.Column> columns = new ArrayList<>();
+		for (SingularAttribute<?, ?> attribute : type.getSingularAttributes()) {
+			columns.add(new SegmentFormat.Column(attribute.getName(),
+					ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType())));
+		}
+		columns.sort(Comparator.comparing(SegmentFormat.Column::name));
+		return columns;
+	}
+
+	private String entityName(Class<?> entityClass) {
+		return entityManagerFactory.getMetamodel().entity(entityClass).getName();
+	}
+
+	private Manifest manifest() {
+		Manifest current = manifest;
+		if (current == null || System.nanoTime() - current.loadedAt() > refreshNanos) {
+			synchronized (this) {
+				current = manifest;
+				if (current == null || System.nanoTime() - current.loadedAt() > refreshNanos) {
+					Map<String, NavigableMap<Integer, List<String>>> segments = new HashMap<>();
+					for (ColdSegment segment : segmentRepository.findAll()) {
+						segments.computeIfAbsent(segment.getEntityName(), name -> new TreeMap<>())
+								.computeIfAbsent(segment.getPeriod(), period -> new ArrayList<>())
+								.add(segment.getFileName());
+					}
+					current = new Manifest(segments, System.nanoTime());
+					manifest = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	private static void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// removed by the next run
+		}
+	}
+
+	private static KeyField scan(Class<?> type) {
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				ArchiveKey key = field.getAnnotation(ArchiveKey.class);
+				if (key != null) {
+					try {
+						return new KeyField(field.getName(), field.getType(),
+								key.mapper().getDeclaredConstructor().newInstance());
+					} catch (ReflectiveOperationException e) {
+						throw new GlobalException("Cannot create archive key mapper " + key.mapper().getName(), e);
+					}
+				}
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * The {@link ArchiveKey} of an entity.
+	 *
+	 * @param field  The key's field.
+	 * @param type   Its type, which filter values are converted to.
+	 * @param mapper Maps a value of the field to its month.
+	 */
+	private record KeyField(String field, Class<?> type, Function<Object, Object> mapper) {
+
+		Integer period(Object value, TypeConverterRegistry converters) {
+			return (Integer) mapper.apply(converters.convert(value, type));
+		}
+	}
+
+	/** Receives matching segment rows; returns {@code false} to stop the scan. */
+	@FunctionalInterface
+	private interface RowVisitor {
+
+		boolean visit(SegmentFormat.Segment segment, Object[] values);
+	}
+
+	/** The listed segments, by entity and month. */
+	private record Manifest(Map<String, NavigableMap<Integer, List<String>>> segments, long loadedAt) {
+
+		NavigableMap<Integer, List<String>> periods(String entityName) {
+			return segments.getOrDefault(entityName, Collections.emptyNavigableMap());
+		}
+	}
+
+}
@@ -0,0 +1,266 @@
+package com.performx.archive;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.performx.cache.QueryResultCache;
+import com.performx.constant.MessageCode;
+import com.performx.entity.ColdSegment;
+import com.performx.entity.Payroll;
+import com.performx.entity.PayrollArchive;
+import com.performx.entity.PerformanceReview;
+import com.performx.payroll.PayPeriod;
+import com.performx.payroll.PayrollStorage;
+import com.performx.query.InListStrategy;
+import com.performx.repository.PayrollArchiveRepository;
+import com.performx.response.ColdArchiveResult;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves months older than {@code retention-months} out of the database into
+ * the {@link ColdArchiveStore}, every {@code interval} and on demand.
+ *
+ * <p>
+ * Payroll months go through the archive tables of {@link PayrollStorage}: a
+ * month still in the payroll table is archived there first, then the rows of
+ * its archive table become a segment and the table is dropped. The month keeps
+ * its {@code payroll_archive} row, so it cannot be run again. The filter reads
+ * do not read archive tables, so every one of them moves on, whatever its age;
+ * {@link #moveArchived} moves a month's at once. Performance
+ * reviews move a month of {@code reviewDate} at a time, locked while they are
+ * written out. In both cases the segment is listed in the transaction that
+ * removes the rows, so a failed month stays where it was.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ColdArchiver {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private final ColdArchiveStore store;
+	private final PayrollStorage payrollStorage;
+	private final PayrollArchiveRepository payrollArchiveRepository;
+	private final InListStrategy inListStrategy;
+	private final QueryResultCache queryResultCache;
+	private final TransactionTemplate transaction;
+	private final int retentionMonths;
+	private final int openMonths;
+	private final ScheduledExecutorService worker;
+
+	public ColdArchiver(ColdArchiveStore store, PayrollStorage payrollStorage,
+			PayrollArchiveRepository payrollArchiveRepository, InListStrategy inListStrategy,
+			QueryResultCache queryResultCache, PlatformTransactionManager transactionManager,
+			@Value("${performx.archive.enabled:true}") boolean enabled,
+			@Value("${performx.archive.interval:1d}") String interval,
+			@Value("${performx.archive.retention-months:36}") int retentionMonths,
+			@Value("${performx.payroll.open-months:2}") int openMonths) {
+		this.store = store;
+		this.payrollStorage = payrollStorage;
+		this.payrollArchiveRepository = payrollArchiveRepository;
+		this.inListStrategy = inListStrategy;
+		this.queryResultCache = queryResultCache;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.retentionMonths = retentionMonths;
+		this.openMonths = openMonths;
+		if (enabled) {
+			long delay = DurationStyle.detectAndParse(interval).toMillis();
+			worker = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "cold-archiver");
+				thread.setDaemon(true);
+				return thread;
+			});
+			worker.scheduleWithFixedDelay(this::runQuietly, delay, delay, TimeUnit.MILLISECONDS);
+		} else {
+			worker = null;
+		}
+	}
+
+	/**
+	 * Moves every month before the retention to the cold archive now; also run
+	 * by the worker.
+	 *
+	 * @return The months moved, one per segment written.
+	 */
+	public synchronized List<ColdArchiveResult> run() {
+		long start = System.nanoTime();
+		YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+		store.removeOrphans();
+		List<ColdArchiveResult> results = new ArrayList<>();
+		results.addAll(archivePayroll(Math.min(PayPeriod.of(cutoff), PayPeriod.firstOpen(openMonths))));
+		results.addAll(archiveReviews(cutoff));
+		log.info(MessageCode.ARCHIVE_RUN_DONE.getMessage(), results.size(), cutoff,
+				(System.nanoTime() - start) / 1_000_000);
+		return results;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (worker != null) {
+			worker.shutdownNow();
+		}
+	}
+
+	/**
+	 * Moves the archive table of a payroll month to the cold archive now.
+	 *
+	 * @param month The month as {@code yyyy-MM}.
+	 * @return The segment written, or {@code null} if the month has no archive
+	 *         table.
+	 */
+	public synchronized ColdArchiveResult moveArchived(String month) {
+		PayrollArchive archive = payrollArchiveRepository.findById(month).orElse(null);
+		if (archive == null || !archive.getTableName().startsWith(PayrollStorage.ARCHIVE_TABLE_PREFIX)) {
+			return null;
+		}
+		ColdArchiveResult result = moveArchiveTable(archive);
+		dropTable(PayrollStorage.archiveTable(archive.getPayPeriod()));
+		queryResultCache.invalidate(Payroll.class);
+		return result;
+	}
+
+	private void runQuietly() {
+		try {
+			run();
+		} catch (RuntimeException e) {
+			log.error(String.format(MessageCode.ARCHIVE_RUN_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	private List<ColdArchiveResult> archivePayroll(int beforePeriod) {
+		List<String> live = transaction.execute(status -> entityManager
+				.createQuery("select distinct p.month from Payroll p where p.payPeriod < :period order by p.month",
+						String.class)
+				.setParameter("period", beforePeriod)
+				.getResultList());
+		for (String month : live) {
+			if (!payrollStorage.isArchived(month)) {
+				payrollStorage.archive(month);
+			}
+		}
+		// archived months are closed: none is left where the filter reads miss it
+		List<PayrollArchive> warm = payrollArchiveRepository.findAll().stream()
+				.sorted(Comparator.comparingInt(PayrollArchive::getPayPeriod))
+				.toList();
+		List<ColdArchiveResult> results = new ArrayList<>();
+		for (PayrollArchive archive : warm) {
+			if (archive.getTableName().startsWith(PayrollStorage.ARCHIVE_TABLE_PREFIX)) {
+				results.add(moveArchiveTable(archive));
+			}
+			// also drops a table left behind by a move whose drop failed
+			dropTable(PayrollStorage.archiveTable(archive.getPayPeriod()));
+		}
+		if (!results.isEmpty()) {
+			queryResultCache.invalidate(Payroll.class);
+		}
+		return results;
+	}
+
+	private ColdArchiveResult moveArchiveTable(PayrollArchive archive) {
+		long start = System.nanoTime();
+		String table = archive.getTableName();
+		ColdSegment segment = transaction.execute(status -> {
+			@SuppressWarnings("unchecked")
+			List<Payroll> rows = entityManager.createNativeQuery("select * from " + table, Payroll.class)
+					.getResultList();
+			ColdSegment written = store.append(Payroll.class, archive.getPayPeriod(), rows);
+			entityManager.clear();
+			archive.setTableName(written.getFileName());
+			payrollArchiveRepository.save(archive);
+			return written;
+		});
+		return result(segment, PayPeriod.toYearMonth(archive.getPayPeriod()), start);
+	}
+
+	private void dropTable(String table) {
+		transaction.executeWithoutResult(status -> entityManager.unwrap(Session.class).doWork(connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("drop table if exists " + table);
+			}
+		}));
+	}
+
+	private List<ColdArchiveResult> archiveReviews(YearMonth cutoff) {
+		List<ColdArchiveResult> results = new ArrayList<>();
+		Date before = Date.valueOf(cutoff.atDay(1));
+		while (true) {
+			java.util.Date oldest = transaction.execute(status -> entityManager
+					.createQuery("select min(r.reviewDate) from PerformanceReview r where r.reviewDate < :before",
+							java.util.Date.class)
+					.setParameter("before", before)
+					.getSingleResult());
+			if (oldest == null) {
+				break;
+			}
+			ColdArchiveResult result = moveReviewMonth(
+					YearMonth.from(new Date(oldest.getTime()).toLocalDate()));
+			if (result == null) {
+				break;
+			}
+			results.add(result);
+		}
+		if (!results.isEmpty()) {
+			queryResultCache.invalidate(PerformanceReview.class);
+		}
+		return results;
+	}
+
+	/** Moves the reviews of a month, or returns {@code null} if it has none. */
+	private ColdArchiveResult moveReviewMonth(YearMonth month) {
+		long start = System.nanoTime();
+		ColdSegment segment = transaction.execute(status -> {
+			List<PerformanceReview> rows = entityManager
+					.createQuery("select r from PerformanceReview r where r.reviewDate >= :from and r.reviewDate < :to"
+							+ " order by r.id", PerformanceReview.class)
+					.setParameter("from", Date.valueOf(month.atDay(1)))
+					.setParameter("to", Date.valueOf(month.plusMonths(1).atDay(1)))
+					.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+					.getResultList();
+			if (rows.isEmpty()) {
+				return null;
+			}
+			ColdSegment written = store.append(PerformanceReview.class, PayPeriod.of(month), rows);
+			List<Long> ids = rows.stream().map(PerformanceReview::getId).toList();
+			entityManager.clear();
+			for (List<Long> chunk : inListStrategy.chunks(ids)) {
+				entityManager.createQuery("delete from PerformanceReview r where r.id in :ids")
+						.setParameter("ids", chunk)
+						.executeUpdate();
+			}
+			return written;
+		});
+		return segment == null ? null : result(segment, month, start);
+	}
+
+	private ColdArchiveResult result(ColdSegment segment, YearMonth month, long start) {
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		log.info(MessageCode.ARCHIVE_SEGMENT_WRITTEN.getMessage(), segment.getRowCount(), segment.getEntityName(),
+				month, segment.getFileName(), segment.getByteSize(), elapsedMillis);
+		return new ColdArchiveResult(segment.getEntityName(), month.toString(), segment.getFileName(),
+				segment.getRowCount(), segment.getByteSize(), elapsedMillis);
+	}
+
+}
@@ -0,0 +1,219 @@
+package com.performx.archive;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import com.performx.constant.LogicalOperator;
+import com.performx.constant.SortDirection;
+import com.performx.exception.GlobalException;
+import com.performx.request.FilterCondition;
+import com.performx.request.FilterRequest;
+import com.performx.request.SortOrder;
+import com.performx.util.TypeConverterRegistry;
+
+/**
+ * Evaluates a filter request against archived rows in memory, the way the
+ * filter queries evaluate it in the database: a condition on a {@code null}
+ * value is false except {@code IS_NULL}, values are converted to the field's
+ * type by the shared {@link TypeConverterRegistry}, and {@code null}s sort
+ * first. Strings are compared, matched and sorted ignoring case, as under
+ * MySQL's default {@code utf8mb4_0900_ai_ci} collation; unlike it, accented
+ * letters stay distinct from unaccented ones.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+final class RowFilter {
+
+	private final TypeConverterRegistry converters;
+
+	RowFilter(TypeConverterRegistry converters) {
+		this.converters = converters;
+	}
+
+	/**
+	 * The fields of a row being filtered.
+	 */
+	interface Row {
+
+		Object value(String field);
+
+		/** The Java type of a field, read only when its value is not {@code null}. */
+		Class<?> type(String field);
+	}
+
+	/**
+	 * A row of a segment as read, so segments can be filtered without building
+	 * entities. A field the segment has no column for reads as {@code null}.
+	 *
+	 * @param index The position of each column by name.
+	 */
+	record SegmentRow(Map<String, Integer> index, List<SegmentFormat.Column> columns, Object[] values)
+			implements Row {
+
+		static Map<String, Integer> index(List<SegmentFormat.Column> columns) {
+			Map<String, Integer> index = new HashMap<>();
+			for (int c = 0; c < columns.size(); c++) {
+				index.put(columns.get(c).name(), c);
+			}
+			return index;
+		}
+
+		@Override
+		public Object value(String field) {
+			Integer c = index.get(field);
+			return c == null ? null : values[c];
+		}
+
+		@Override
+		public Class<?> type(String field) {
+			return columns.get(index.get(field)).type();
+		}
+	}
+
+	boolean matches(Row row, FilterRequest request) {
+		if (request == null || request.getConditions() == null || request.getConditions().isEmpty()) {
+			return true;
+		}
+		boolean or = request.getLogicalOperator() == LogicalOperator.OR;
+		for (FilterCondition fc : request.getConditions()) {
+			if (matches(row, fc) == or) {
+				return or;
+			}
+		}
+		return !or;
+	}
+
+	/** Orders entities by the sort instructions, or {@code null} for none. */
+	Comparator<Object> comparator(List<SortOrder> sortOrders) {
+		if (sortOrders == null || sortOrders.isEmpty()) {
+			return null;
+		}
+		List<SortOrder> keys = List.copyOf(sortOrders);
+		return (a, b) -> {
+			BeanWrapper left = PropertyAccessorFactory.forBeanPropertyAccess(a);
+			BeanWrapper right = PropertyAccessorFactory.forBeanPropertyAccess(b);
+			for (SortOrder key : keys) {
+				Object x = left.getPropertyValue(key.getField());
+				Object y = right.getPropertyValue(key.getField());
+				int c = x == null ? (y == null ? 0 : -1) : y == null ? 1 : compare(x, y);
+				if (c != 0) {
+					return key.getDirection() == SortDirection.DESC ? -c : c;
+				}
+			}
+			return 0;
+		};
+	}
+
+	private boolean matches(Row row, FilterCondition fc) {
+		Object actual = row.value(fc.getField());
+		if (fc.getOperator() == null) {
+			throw new GlobalException("Unsupported operator: null");
+		}
+		switch (fc.getOperator()) {
+		case IS_NULL:
+			return actual == null;
+		case IS_NOT_NULL:
+			return actual != null;
+		default:
+			if (actual == null) {
+				return false;
+			}
+		}
+		Class<?> type = row.type(fc.getField());
+		switch (fc.getOperator()) {
+		case LIKE:
+			if (!(actual instanceof String text)) {
+				throw new GlobalException("LIKE is only valid for String fields: " + fc.getField());
+			}
+			return like(text, "%" + fc.getValue() + "%");
+		case IN:
+			return contains(actual, fc, type);
+		case NOT_IN:
+			return !contains(actual, fc, type);
+		default:
+			break;
+		}
+		Object expected = converters.convert(fc.getValue(), type);
+		if (expected == null) {
+			// as in SQL, a comparison with null matches nothing
+			return false;
+		}
+		int c = compare(actual, expected);
+		switch (fc.getOperator()) {
+		case EQUALS:
+			return c == 0;
+		case NOT_EQUALS:
+			return c != 0;
+		case GREATER_THAN:
+			return c > 0;
+		case GREATER_THAN_EQUAL:
+			return c >= 0;
+		case LESS_THAN:
+			return c < 0;
+		case LESS_THAN_EQUAL:
+			return c <= 0;
+		case BETWEEN: {
+			Object upper = converters.convert(fc.getAdditionalValue(), type);
+			return upper != null && c >= 0 && compare(actual, upper) <= 0;
+		}
+		default:
+			throw new GlobalException("Unsupported operator: " + fc.getOperator());
+		}
+	}
+
+	private boolean contains(Object actual, FilterCondition fc, Class<?> type) {
+		if (!(fc.getValue() instanceof Collection<?> values)) {
+			throw new GlobalException("Value for " + fc.getOperator() + " must be a collection: " + fc.getField());
+		}
+		for (Object value : converters.convertAll(values, type)) {
+			if (value != null && compare(actual, value) == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Object a, Object b) {
+		if (a instanceof Date x && b instanceof Date y) {
+			return Long.compare(x.getTime(), y.getTime());
+		}
+		if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+			return x.compareTo(y);
+		}
+		if (a instanceof String x && b instanceof String y) {
+			return String.CASE_INSENSITIVE_ORDER.compare(x, y);
+		}
+		return ((Comparable) a).compareTo(b);
+	}
+
+	/** SQL LIKE with {@code %} and {@code _} wildcards, ignoring case. */
+	private static boolean like(String text, String pattern) {
+		List<String> parts = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		for (char ch : pattern.toCharArray()) {
+			if (ch == '%' || ch == '_') {
+				parts.add(Pattern.quote(literal.toString()));
+				parts.add(ch == '%' ? ".*" : ".");
+				literal.setLength(0);
+			} else {
+				literal.append(ch);
+			}
+		}
+		parts.add(Pattern.quote(literal.toString()));
+		int flags = Pattern.DOTALL | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+		return Pattern.compile(String.join("", parts), flags).matcher(text).matches();
+	}
+
+}
@@ -0,0 +1,330 @@
+package com.performx.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.performx.constant.MessageCode;
+import com.performx.exception.GlobalException;
+
+/**
+ * The file format of a cold segment: rows stored column by column, then
+ * gzip-compressed.
+ *
+ * <p>
+ * After a magic number and a version, the compressed body holds the row
+ * count, a header of column names and types, then each column in turn: a
+ * bitmap of its nulls followed by its non-null values. Integers, dates and
+ * timestamps are stored as zigzag varint deltas from the previous value, so
+ * IDs and dates that increase slowly take a byte or two; strings are
+ * dictionary-encoded, so a column such as a month costs one dictionary entry;
+ * decimals keep their scale and unscaled digits exactly.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+final class SegmentFormat {
+
+	private static final int MAGIC = 0x50585347; // "PXSG"
+	private static final int VERSION = 1;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final byte LONG = 1;
+	private static final byte DOUBLE = 2;
+	private static final byte DECIMAL = 3;
+	private static final byte STRING = 4;
+	private static final byte DATE = 5;
+	private static final byte TIMESTAMP = 6;
+
+	private SegmentFormat() {
+	}
+
+	/**
+	 * A column of a segment.
+	 *
+	 * @param name The entity property.
+	 * @param type Its boxed Java type, which values are read back as.
+	 */
+	record Column(String name, Class<?> type) {
+	}
+
+	/** The columns of a segment and its rows, one value per column. */
+	record Segment(List<Column> columns, List<Object[]> rows) {
+	}
+
+	/**
+	 * Writes rows to a new file.
+	 *
+	 * @throws GlobalException If a column type cannot be stored.
+	 */
+	static void write(Path file, List<Column> columns, List<Object[]> rows) throws IOException {
+		byte[] tags = new byte[columns.size()];
+		for (int c = 0; c < tags.length; c++) {
+			tags[c] = tagOf(columns.get(c));
+		}
+		try (OutputStream raw = Files.newOutputStream(file)) {
+			DataOutputStream prefix = new DataOutputStream(raw);
+			prefix.writeInt(MAGIC);
+			prefix.writeByte(VERSION);
+			DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new GZIPOutputStream(raw, BUFFER_SIZE), BUFFER_SIZE));
+			writeVarLong(out, rows.size());
+			writeVarLong(out, columns.size());
+			for (int c = 0; c < tags.length; c++) {
+				writeString(out, columns.get(c).name());
+				writeString(out, columns.get(c).type().getName());
+				out.writeByte(tags[c]);
+			}
+			for (int c = 0; c < tags.length; c++) {
+				writeColumn(out, tags[c], c, rows);
+			}
+			out.close();
+		}
+	}
+
+	static Segment read(Path file) throws IOException {
+		try (InputStream raw = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+			DataInputStream prefix = new DataInputStream(raw);
+			if (prefix.readInt() != MAGIC || prefix.readUnsignedByte() != VERSION) {
+				throw new IOException("not a segment of version " + VERSION);
+			}
+			DataInputStream in = new DataInputStream(
+					new BufferedInputStream(new GZIPInputStream(raw, BUFFER_SIZE), BUFFER_SIZE));
+			int rowCount = (int) readVarLong(in);
+			int columnCount = (int) readVarLong(in);
+			List<Column> columns = new ArrayList<>(columnCount);
+			byte[] tags = new byte[columnCount];
+			for (int c = 0; c < columnCount; c++) {
+				String name = readString(in);
+				String type = readString(in);
+				tags[c] = in.readByte();
+				try {
+					columns.add(new Column(name, Class.forName(type)));
+				} catch (ClassNotFoundException e) {
+					throw new IOException("unknown column type " + type, e);
+				}
+			}
+			List<Object[]> rows = new ArrayList<>(rowCount);
+			for (int r = 0; r < rowCount; r++) {
+				rows.add(new Object[columnCount]);
+			}
+			for (int c = 0; c < columnCount; c++) {
+				readColumn(in, tags[c], c, columns.get(c).type(), rows);
+			}
+			return new Segment(columns, rows);
+		}
+	}
+
+	private static byte tagOf(Column column) {
+		Class<?> type = column.type();
+		if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+				|| type == Boolean.class) {
+			return LONG;
+		}
+		if (type == Double.class || type == Float.class) {
+			return DOUBLE;
+		}
+		if (type == BigDecimal.class || type == BigInteger.class) {
+			return DECIMAL;
+		}
+		if (type == String.class) {
+			return STRING;
+		}
+		if (type == Timestamp.class) {
+			return TIMESTAMP;
+		}
+		if (Date.class.isAssignableFrom(type)) {
+			return DATE;
+		}
+		throw new GlobalException(
+				String.format(MessageCode.ARCHIVE_TYPE_UNSUPPORTED.getMessage(), column.name(), type.getName()));
+	}
+
+	private static void writeColumn(DataOutputStream out, byte tag, int c, List<Object[]> rows) throws IOException {
+		byte[] nulls = new byte[(rows.size() + 7) / 8];
+		for (int r = 0; r < rows.size(); r++) {
+			if (rows.get(r)[c] == null) {
+				nulls[r >>> 3] |= (byte) (1 << (r & 7));
+			}
+		}
+		out.write(nulls);
+		if (tag == STRING) {
+			writeStrings(out, c, rows);
+			return;
+		}
+		long previous = 0;
+		for (Object[] row : rows) {
+			Object value = row[c];
+			if (value == null) {
+				continue;
+			}
+			switch (tag) {
+			case LONG -> {
+				long v = value instanceof Boolean b ? (b ? 1 : 0) : ((Number) value).longValue();
+				writeVarLong(out, zigzag(v - previous));
+				previous = v;
+			}
+			case DOUBLE -> out.writeLong(Double.doubleToRawLongBits(((Number) value).doubleValue()));
+			case DECIMAL -> {
+				BigDecimal d = value instanceof BigInteger i ? new BigDecimal(i) : (BigDecimal) value;
+				writeVarLong(out, zigzag(d.scale()));
+				byte[] unscaled = d.unscaledValue().toByteArray();
+				writeVarLong(out, unscaled.length);
+				out.write(unscaled);
+			}
+			case DATE, TIMESTAMP -> {
+				long millis = ((Date) value).getTime();
+				writeVarLong(out, zigzag(millis - previous));
+				previous = millis;
+				if (tag == TIMESTAMP) {
+					writeVarLong(out, ((Timestamp) value).getNanos() % 1_000_000);
+				}
+			}
+			default -> throw new IOException("unknown column tag " + tag);
+			}
+		}
+	}
+
+	private static void writeStrings(DataOutputStream out, int c, List<Object[]> rows) throws IOException {
+		Map<String, Integer> dictionary = new LinkedHashMap<>();
+		for (Object[] row : rows) {
+			if (row[c] != null) {
+				dictionary.putIfAbsent((String) row[c], dictionary.size());
+			}
+		}
+		writeVarLong(out, dictionary.size());
+		for (String value : dictionary.keySet()) {
+			writeString(out, value);
+		}
+		for (Object[] row : rows) {
+			if (row[c] != null) {
+				writeVarLong(out, dictionary.get(row[c]));
+			}
+		}
+	}
+
+	private static void readColumn(DataInputStream in, byte tag, int c, Class<?> type, List<Object[]> rows)
+			throws IOException {
+		byte[] nulls = new byte[(rows.size() + 7) / 8];
+		in.readFully(nulls);
+		String[] dictionary = null;
+		if (tag == STRING) {
+			dictionary = new String[(int) readVarLong(in)];
+			for (int i = 0; i < dictionary.length; i++) {
+				dictionary[i] = readString(in);
+			}
+		}
+		long previous = 0;
+		for (int r = 0; r < rows.size(); r++) {
+			if ((nulls[r >>> 3] & (1 << (r & 7))) != 0) {
+				continue;
+			}
+			Object value;
+			switch (tag) {
+			case LONG -> {
+				previous += unzigzag(readVarLong(in));
+				value = toIntegral(previous, type);
+			}
+			case DOUBLE -> {
+				double d = Double.longBitsToDouble(in.readLong());
+				value = type == Float.class ? (Object) (float) d : (Object) d;
+			}
+			case DECIMAL -> {
+				int scale = (int) unzigzag(readVarLong(in));
+				byte[] unscaled = new byte[(int) readVarLong(in)];
+				in.readFully(unscaled);
+				BigDecimal d = new BigDecimal(new BigInteger(unscaled), scale);
+				value = type == BigInteger.class ? d.toBigIntegerExact() : d;
+			}
+			case STRING -> value = dictionary[(int) readVarLong(in)];
+			case DATE -> {
+				previous += unzigzag(readVarLong(in));
+				value = type == java.sql.Date.class ? new java.sql.Date(previous) : new Date(previous);
+			}
+			case TIMESTAMP -> {
+				previous += unzigzag(readVarLong(in));
+				Timestamp t = new Timestamp(previous);
+				t.setNanos(t.getNanos() + (int) readVarLong(in));
+				value = t;
+			}
+			default -> throw new IOException("unknown column tag " + tag);
+			}
+			rows.get(r)[c] = value;
+		}
+	}
+
+	private static Object toIntegral(long v, Class<?> type) {
+		if (type == Integer.class) {
+			return (int) v;
+		}
+		if (type == Short.class) {
+			return (short) v;
+		}
+		if (type == Byte.class) {
+			return (byte) v;
+		}
+		if (type == Boolean.class) {
+			return v != 0;
+		}
+		return v;
+	}
+
+	private static long zigzag(long v) {
+		return (v << 1) ^ (v >> 63);
+	}
+
+	private static long unzigzag(long v) {
+		return (v >>> 1) ^ -(v & 1);
+	}
+
+	private static void writeVarLong(DataOutputStream out, long v) throws IOException {
+		while ((v & ~0x7FL) != 0) {
+			out.writeByte((int) ((v & 0x7F) | 0x80));
+			v >>>= 7;
+		}
+		out.writeByte((int) v);
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long v = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			v |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return v;
+			}
+		}
+		throw new IOException("malformed varint");
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[(int) readVarLong(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.performx.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * In-process Hibernate second-level cache provider, enabled with
+ * {@code hibernate.cache.region.factory_class}.
+ *
+ * <p>
+ * Every entity and query region is a {@link LocalStorageAccess} bounded by
+ * size and TTL. Limits are read from the Hibernate properties, per region with
+ * a fallback to the defaults:
+ * </p>
+ *
+ * <pre>
+ * performx.cache.default.max-size=10000
+ * performx.cache.default.ttl=10m
+ * performx.cache.region.employee.max-size=50000
+ * performx.cache.region.employee.ttl=30m
+ * </pre>
+ *
+ * <p>
+ * The update-timestamps region is never bounded: dropping a timestamp would
+ * let a cached query outlive a write to the tables it read.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+
+	public static final String SETTINGS_PREFIX = "performx.cache.";
+
+	private static final int DEFAULT_MAX_SIZE = 10_000;
+	private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+	private final Map<String, LocalStorageAccess> storages = new ConcurrentHashMap<>();
+	private Map<String, Object> settings = Collections.emptyMap();
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions options, Map<String, Object> configValues) {
+		this.settings = configValues;
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		storages.values().forEach(LocalStorageAccess::release);
+		storages.clear();
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return boundedStorage(regionConfig.getRegionName());
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return boundedStorage(regionName);
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return storages.computeIfAbsent(regionName, name -> new LocalStorageAccess(name, Integer.MAX_VALUE, 0));
+	}
+
+	/** The storage of every region built so far, for statistics. */
+	public Collection<LocalStorageAccess> getStorages() {
+		return Collections.unmodifiableCollection(storages.values());
+	}
+
+	private LocalStorageAccess boundedStorage(String regionName) {
+		return storages.computeIfAbsent(regionName, name -> {
+			int maxSize = Integer.parseInt(setting(name, "max-size", Integer.toString(DEFAULT_MAX_SIZE)));
+			Duration ttl = DurationStyle.detectAndParse(setting(name, "ttl", DEFAULT_TTL.toString()));
+			return new LocalStorageAccess(name, maxSize, ttl.toNanos());
+		});
+	}
+
+	private String setting(String regionName, String key, String defaultValue) {
+		Object value = settings.get(SETTINGS_PREFIX + "region." + regionName + "." + key);
+		if (value == null) {
+			value = settings.get(SETTINGS_PREFIX + "default." + key);
+		}
+		return value == null ? defaultValue : value.toString().trim();
+	}
+
+}
@@ -0,0 +1,174 @@
+package com.performx.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Storage of one Hibernate cache region: a concurrent map bounded by entry
+ * count, whose entries expire a fixed time after they were written.
+ *
+ * <p>
+ * Reads take no lock; they only stamp the entry with its access time. Once a
+ * put takes the region past its size, one writer drops the least recently
+ * read entries in a batch of a sixteenth of the region, so the sort behind it
+ * is paid once per batch rather than per put, and concurrent puts can overrun
+ * the size briefly while it runs. Expired entries are dropped when they are
+ * next read or when a batch finds them. A {@code ttlNanos} of {@code 0}
+ * disables expiry.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class LocalStorageAccess implements DomainDataStorageAccess {
+
+	private final String regionName;
+	private final int maxSize;
+	private final long ttlNanos;
+	private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+	private final ReentrantLock evicting = new ReentrantLock();
+
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+
+	public LocalStorageAccess(String regionName, int maxSize, long ttlNanos) {
+		this.regionName = regionName;
+		this.maxSize = maxSize;
+		this.ttlNanos = ttlNanos;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		long now = System.nanoTime();
+		if (isExpired(entry, now)) {
+			if (entries.remove(key, entry)) {
+				expirations.increment();
+			}
+			return null;
+		}
+		entry.readAt = now;
+		return entry.value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		entries.put(key, new Entry(value, System.nanoTime()));
+		if (entries.size() > maxSize) {
+			evictLeastRecentlyRead();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getFromCache(key, null) != null;
+	}
+
+	@Override
+	public void evictData() {
+		entries.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		entries.remove(key);
+	}
+
+	@Override
+	public void release() {
+		evictData();
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getTtlNanos() {
+		return ttlNanos;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/** Entries dropped because the region was full. */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/** Entries dropped because they outlived the region's TTL. */
+	public long getExpirations() {
+		return expirations.sum();
+	}
+
+	/**
+	 * Drops expired entries, then the least recently read ones until the region
+	 * is a batch below its size. Skipped while another writer is doing it.
+	 */
+	private void evictLeastRecentlyRead() {
+		if (!evicting.tryLock()) {
+			return;
+		}
+		try {
+			long now = System.nanoTime();
+			List<Candidate> live = new ArrayList<>(entries.size());
+			for (Map.Entry<Object, Entry> e : entries.entrySet()) {
+				if (!isExpired(e.getValue(), now)) {
+					// read times keep changing, sort on a copy
+					live.add(new Candidate(e.getKey(), e.getValue(), e.getValue().readAt));
+				} else if (entries.remove(e.getKey(), e.getValue())) {
+					expirations.increment();
+				}
+			}
+			int excess = live.size() - (maxSize - Math.max(1, maxSize / 16));
+			if (excess <= 0) {
+				return;
+			}
+			live.sort(Comparator.comparingLong(Candidate::readAt));
+			for (int i = 0; i < excess; i++) {
+				if (entries.remove(live.get(i).key(), live.get(i).entry())) {
+					evictions.increment();
+				}
+			}
+		} finally {
+			evicting.unlock();
+		}
+	}
+
+	private boolean isExpired(Entry entry, long now) {
+		return ttlNanos > 0 && now - entry.writtenAt > ttlNanos;
+	}
+
+	private record Candidate(Object key, Entry entry, long readAt) {
+	}
+
+	private static final class Entry {
+
+		final Object value;
+		final long writtenAt;
+		/** Approximate, for eviction order only: racing reads may overwrite a later time. */
+		volatile long readAt;
+
+		Entry(Object value, long writtenAt) {
+			this.value = value;
+			this.writtenAt = writtenAt;
+			this.readAt = writtenAt;
+		}
+	}
+
+}
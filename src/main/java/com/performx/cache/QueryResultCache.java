@@ -0,0 +1,273 @@
+package com.performx.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.performx.constant.LogicalOperator;
+import com.performx.constant.SortDirection;
+import com.performx.request.AggregateFunction;
+import com.performx.request.AggregateRequest;
+import com.performx.request.FilterCondition;
+import com.performx.request.FilterRequest;
+import com.performx.request.SortOrder;
+import com.performx.response.CacheRegionStats;
+
+/**
+ * Bounded LRU cache of filter query results ({@code findAll}, {@code count},
+ * {@code aggregate}), keyed by entity type and a canonical fingerprint of the
+ * request including its values.
+ *
+ * <p>
+ * Each entity type has a generation counter that is part of every key. A
+ * committed write to the type increments it, so results read before the write
+ * can no longer be found, even if they are stored after it; the type's entries
+ * are then dropped to free their slots. Entries also expire after a TTL, which
+ * bounds staleness from writes that bypass the services.
+ * </p>
+ *
+ * <p>
+ * Results of more than {@code max-rows} rows are returned but not stored, so
+ * the {@code max-size} entries cannot pin whole unpaginated tables in the heap.
+ * </p>
+ *
+ * <p>
+ * When reads may be served by a lagging replica, results are not stored for
+ * {@code settle-window} after a type's last write, so a replica that has not
+ * applied the write yet cannot seed the cache with rows it superseded.
+ * </p>
+ *
+ * <p>
+ * The cache is bypassed inside read-write transactions, which may see their
+ * own uncommitted changes. Cached values are shared between callers and must
+ * not be modified.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Component
+public class QueryResultCache {
+
+	public static final String NAME = "filter-results";
+
+	private final boolean enabled;
+	private final int maxSize;
+	private final int maxRows;
+	private final long ttlNanos;
+	private final long settleNanos;
+	private final Map<Key, Entry> entries;
+	private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder puts = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+
+	public QueryResultCache(@Value("${performx.result-cache.enabled:true}") boolean enabled,
+			@Value("${performx.result-cache.max-size:1000}") int maxSize,
+			@Value("${performx.result-cache.max-rows:1000}") int maxRows,
+			@Value("${performx.result-cache.ttl:60s}") String ttl,
+			@Value("${performx.result-cache.settle-window:0s}") String settleWindow) {
+		this.enabled = enabled;
+		this.maxSize = maxSize;
+		this.maxRows = maxRows;
+		this.ttlNanos = DurationStyle.detectAndParse(ttl).toNanos();
+		this.settleNanos = DurationStyle.detectAndParse(settleWindow).toNanos();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				if (size() > QueryResultCache.this.maxSize) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached result of a query, running {@code loader} and caching
+	 * its result on a miss. {@code null} results and collections of more than
+	 * {@code max-rows} elements are not cached.
+	 *
+	 * @param entityClass The entity type the query reads.
+	 * @param fingerprint Canonical key of the query, see {@link #fingerprint}.
+	 * @param loader      Runs the query.
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V get(Class<?> entityClass, String fingerprint, Supplier<V> loader) {
+		if (!enabled || inReadWriteTransaction()) {
+			return loader.get();
+		}
+		Key key = new Key(entityClass, generation(entityClass).get(), fingerprint);
+		synchronized (entries) {
+			Entry entry = entries.get(key);
+			if (entry != null) {
+				if (System.nanoTime() - entry.writtenAt <= ttlNanos) {
+					hits.increment();
+					return (V) entry.value;
+				}
+				entries.remove(key);
+				expirations.increment();
+			}
+		}
+		misses.increment();
+		V value = loader.get();
+		if (value != null && !isSettling(entityClass) && !isTooLarge(value)) {
+			Entry entry = new Entry(value, System.nanoTime());
+			synchronized (entries) {
+				entries.put(key, entry);
+			}
+			puts.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Invalidates every cached result of an entity type. Called once a write to
+	 * the type has committed.
+	 */
+	public void invalidate(Class<?> entityClass) {
+		invalidatedAt.put(entityClass, System.nanoTime());
+		generation(entityClass).incrementAndGet();
+		synchronized (entries) {
+			for (Iterator<Key> it = entries.keySet().iterator(); it.hasNext();) {
+				if (it.next().entityClass == entityClass) {
+					it.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Whether an entity type was written within the settle window, during which
+	 * a replica may still return rows from before the write.
+	 */
+	public boolean isSettling(Class<?> entityClass) {
+		if (settleNanos == 0) {
+			return false;
+		}
+		Long at = invalidatedAt.get(entityClass);
+		return at != null && System.nanoTime() - at < settleNanos;
+	}
+
+	/**
+	 * Generation of an entity type, incremented by every committed write. Two
+	 * equal reads bracket a period without writes through the services.
+	 */
+	public long getGeneration(Class<?> entityClass) {
+		return generation(entityClass).get();
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public CacheRegionStats getStatistics() {
+		int size;
+		synchronized (entries) {
+			size = entries.size();
+		}
+		return new CacheRegionStats(NAME, hits.sum(), misses.sum(), puts.sum(), size, maxSize,
+				ttlNanos / 1_000_000_000L, evictions.sum(), expirations.sum());
+	}
+
+	/**
+	 * Canonical key of a filter request. Conditions are sorted, as are the
+	 * elements of IN lists, so requests that differ only in that order share an
+	 * entry; the order of sort instructions is kept.
+	 */
+	public static String fingerprint(FilterRequest request) {
+		StringBuilder sb = new StringBuilder();
+		if (request == null) {
+			return sb.toString();
+		}
+		sb.append(request.getLogicalOperator() == LogicalOperator.OR ? "OR" : "AND").append('|');
+		if (request.getConditions() != null) {
+			List<String> conditions = new ArrayList<>(request.getConditions().size());
+			for (FilterCondition fc : request.getConditions()) {
+				String value = canonicalValue(fc.getValue());
+				conditions.add(fc.getField() + ':' + fc.getOperator() + '=' + value.length() + '#' + value + '~'
+						+ canonicalValue(fc.getAdditionalValue()));
+			}
+			conditions.sort(null);
+			conditions.forEach(c -> sb.append(c.length()).append('#').append(c).append(';'));
+		}
+		sb.append('|');
+		if (request.getSortOrders() != null) {
+			for (SortOrder so : request.getSortOrders()) {
+				sb.append(so.getField()).append(':').append(so.getDirection() == SortDirection.DESC ? "D" : "A")
+						.append(';');
+			}
+		}
+		if (request.getSearch() != null) {
+			sb.append("|s=").append(request.getSearch());
+		}
+		if (request.getFields() != null && !request.getFields().isEmpty()) {
+			sb.append("|f=").append(String.join(",", request.getFields()));
+		}
+		return sb.toString();
+	}
+
+	/** Canonical key of an aggregate request: its functions, then its filter. */
+	public static String fingerprint(AggregateRequest request) {
+		StringBuilder sb = new StringBuilder();
+		if (request.getAggregations() != null) {
+			for (AggregateFunction af : request.getAggregations()) {
+				sb.append(af.getFunction()).append('(').append(af.getField()).append(")>").append(af.getAlias())
+						.append(';');
+			}
+		}
+		return sb.append("||").append(fingerprint(request.getFilterRequest())).toString();
+	}
+
+	private static String canonicalValue(Object value) {
+		if (value instanceof Collection<?> values) {
+			List<String> items = new ArrayList<>(values.size());
+			values.forEach(v -> items.add(String.valueOf(v)));
+			items.sort(null);
+			return items.toString();
+		}
+		return String.valueOf(value);
+	}
+
+	private boolean isTooLarge(Object value) {
+		return value instanceof Collection<?> rows && rows.size() > maxRows;
+	}
+
+	private AtomicLong generation(Class<?> entityClass) {
+		return generations.computeIfAbsent(entityClass, c -> new AtomicLong());
+	}
+
+	private static boolean inReadWriteTransaction() {
+		return TransactionSynchronizationManager.isActualTransactionActive()
+				&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private record Key(Class<?> entityClass, long generation, String fingerprint) {
+	}
+
+	private record Entry(Object value, long writtenAt) {
+	}
+
+}
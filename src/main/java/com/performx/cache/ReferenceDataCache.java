@@ -0,0 +1,136 @@
+package com.performx.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.performx.constant.MessageCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process, read-through cache of a small reference table.
+ *
+ * <p>
+ * The whole table is held as one immutable snapshot with an ID index and a
+ * case-insensitive key index, so lookups are single map reads with no locking.
+ * A reload builds a complete new snapshot and swaps it in with one volatile
+ * write (copy-on-write): readers see either the old or the new table, never a
+ * mix. Every swap increments {@link #getVersion()}, which clients can use as an
+ * ETag to revalidate cheaply.
+ * </p>
+ *
+ * @param <T>  The entity type.
+ * @param <ID> The identifier type.
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+public final class ReferenceDataCache<T, ID> {
+
+	private final String name;
+	private final Supplier<List<T>> loader;
+	private final Function<T, ID> idFunction;
+	private final Function<T, String> keyFunction;
+	private final Object reloadLock = new Object();
+	private final long initialVersion = System.currentTimeMillis();
+	private volatile Snapshot<T, ID> snapshot;
+
+	/**
+	 * @param name        Cache name, for logging.
+	 * @param loader      Reads the full table.
+	 * @param idFunction  Extracts the identifier.
+	 * @param keyFunction Extracts the natural key (name, title..).
+	 */
+	public ReferenceDataCache(String name, Supplier<List<T>> loader, Function<T, ID> idFunction,
+			Function<T, String> keyFunction) {
+		this.name = name;
+		this.loader = loader;
+		this.idFunction = idFunction;
+		this.keyFunction = keyFunction;
+	}
+
+	public Optional<T> findById(ID id) {
+		return Optional.ofNullable(current().byId.get(id));
+	}
+
+	/** Case-insensitive lookup by natural key. */
+	public Optional<T> findByKey(String key) {
+		return key == null ? Optional.empty() : Optional.ofNullable(current().byKey.get(normalize(key)));
+	}
+
+	public List<T> findAll() {
+		return current().all;
+	}
+
+	/**
+	 * Version of the current snapshot; changes on every reload. {@code 0} until
+	 * the first load.
+	 */
+	public long getVersion() {
+		Snapshot<T, ID> s = snapshot;
+		return s == null ? 0 : s.version;
+	}
+
+	/**
+	 * Re-reads the table and atomically replaces the snapshot. Concurrent reloads
+	 * are serialized so the last one to finish reflects the latest committed
+	 * state.
+	 */
+	public void reload() {
+		synchronized (reloadLock) {
+			List<T> rows = loader.get();
+			Snapshot<T, ID> previous = snapshot;
+			Snapshot<T, ID> next = new Snapshot<>(rows, idFunction, keyFunction,
+					previous == null ? initialVersion : previous.version + 1);
+			snapshot = next;
+			log.info(MessageCode.REFERENCE_CACHE_LOADED.getMessage(), name, next.all.size(), next.version);
+		}
+	}
+
+	private Snapshot<T, ID> current() {
+		Snapshot<T, ID> s = snapshot;
+		if (s == null) {
+			synchronized (reloadLock) {
+				if (snapshot == null) {
+					reload();
+				}
+				s = snapshot;
+			}
+		}
+		return s;
+	}
+
+	private static String normalize(String key) {
+		return key.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static final class Snapshot<T, ID> {
+
+		private final List<T> all;
+		private final Map<ID, T> byId;
+		private final Map<String, T> byKey;
+		private final long version;
+
+		private Snapshot(List<T> rows, Function<T, ID> idFunction, Function<T, String> keyFunction, long version) {
+			Map<ID, T> ids = new LinkedHashMap<>();
+			Map<String, T> keys = new LinkedHashMap<>();
+			for (T row : rows) {
+				ids.put(idFunction.apply(row), row);
+				String key = keyFunction.apply(row);
+				if (key != null) {
+					keys.putIfAbsent(normalize(key), row);
+				}
+			}
+			this.all = List.copyOf(rows);
+			this.byId = Map.copyOf(ids);
+			this.byKey = Map.copyOf(keys);
+			this.version = version;
+		}
+	}
+
+}
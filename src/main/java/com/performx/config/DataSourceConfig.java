@@ -0,0 +1,59 @@
+package com.performx.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.performx.datasource.ReplicaProperties;
+import com.performx.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Data sources: the primary pool from {@code spring.datasource.*}, and, when
+ * {@code performx.datasource.replicas} are configured, read replicas for
+ * read-only transactions.
+ *
+ * <p>
+ * The data source used by JPA is a {@link LazyConnectionDataSourceProxy} over
+ * the primary. It fetches the physical connection only on the first
+ * statement, after the transaction manager has marked it read-only, so
+ * {@code @Transactional(readOnly = true)} work is served by
+ * {@link ReplicaRoutingDataSource} and everything else by the primary.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+			ReplicaProperties replicaProperties) {
+		return new ReplicaRoutingDataSource(primaryDataSource, replicaProperties);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+		if (replicaRoutingDataSource.hasReplicas()) {
+			dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+		}
+		return dataSource;
+	}
+
+}
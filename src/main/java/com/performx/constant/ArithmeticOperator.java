@@ -0,0 +1,17 @@
+package com.performx.constant;
+
+public enum ArithmeticOperator {
+
+	ADD("ADD"), SUBTRACT("SUBTRACT"), MULTIPLY("MULTIPLY"), DIVIDE("DIVIDE");
+
+	private String value;
+
+	private ArithmeticOperator(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+}
@@ -24,6 +24,27 @@ public enum MessageCode {
 	ENTITY_SAVE_ERROR("MSG_SAVE_004", Severity.ERROR, "Error occurred while saving entity: {}"),
 	ENTITY_SAVE_ERROR_REASON("MSG_SAVE_005", Severity.ERROR, "Failed to save entity. Reason: %s"),
 
+	// ============================================================
+	// ========== BULK OPERATIONS =================================
+	// ============================================================
+
+	BULK_INSERT_ATTEMPT("MSG_BULK_001", Severity.INFO, "Attempting bulk insert | chunk size: {} | JDBC batch size: {}"),
+	BULK_CHUNK_SUCCESS("MSG_BULK_002", Severity.INFO, "Chunk {} committed — {} rows in {} ms ({} rows/s)"),
+	BULK_INSERT_SUCCESS("MSG_BULK_003", Severity.INFO, "Bulk insert successful — {} rows in {} ms ({} rows/s)"),
+	BULK_INSERT_FAIL("MSG_BULK_004", Severity.ERROR, "Bulk insert failed after %s committed rows. Reason: %s"),
+	BULK_UPDATE_ATTEMPT("MSG_BULK_005", Severity.INFO, "Attempting set-based bulk update | chunk size: {} | JDBC batch size: {}"),
+	BULK_UPDATE_SUCCESS("MSG_BULK_006", Severity.INFO, "Bulk update successful — {} rows in {} ms ({} rows/s), {} IDs not found"),
+	BULK_UPDATE_MISSING("MSG_BULK_007", Severity.WARN, "Bulk update found no rows for IDs: {}"),
+	BULK_UPDATE_FAIL("MSG_BULK_008", Severity.ERROR, "Bulk update failed after %s committed rows. Reason: %s"),
+	UPDATE_WHERE_ATTEMPT("MSG_BULK_009", Severity.INFO, "Attempting update by filter: {} | Assignments: {}"),
+	UPDATE_WHERE_SUCCESS("MSG_BULK_010", Severity.INFO, "Update by filter successful — {} rows updated"),
+	UPDATE_WHERE_FAIL("MSG_BULK_011", Severity.ERROR, "Failed to update by filter. Reason: %s"),
+	DELETE_WHERE_ATTEMPT("MSG_BULK_012", Severity.INFO, "Attempting delete by filter: {}"),
+	DELETE_WHERE_SUCCESS("MSG_BULK_013", Severity.INFO, "Delete by filter successful — {} rows deleted"),
+	DELETE_WHERE_FAIL("MSG_BULK_014", Severity.ERROR, "Failed to delete by filter. Reason: %s"),
+	BULK_FILTER_REQUIRED("MSG_BULK_015", Severity.WARN, "At least one filter condition is required for a bulk mutation"),
+	BULK_ASSIGNMENT_REQUIRED("MSG_BULK_016", Severity.WARN, "At least one field assignment is required for an update by filter"),
+
 	// ============================================================
 	// ========== UPDATE OPERATIONS ===============================
 	// ============================================================
@@ -38,6 +59,7 @@ public enum MessageCode {
 	ENTITY_IDS_TO_UPDATE("MSG_UPD_008", Severity.INFO, "IDs to be updated: {}"),
 	ENTITY_SET_ID_FAIL("MSG_UPD_009", Severity.WARN, "Unable to set ID field via reflection for entity: {}"),
 	ENTITY_EXTRACT_ID_FAIL("MSG_UPD_010", Severity.ERROR, "Failed to extract ID: {}"),
+	ID_ACCESSORS_REGISTERED("MSG_UPD_011", Severity.INFO, "Registered ID accessors for {} entities"),
 
 	// ============================================================
 	// ========== FIND OPERATIONS =================================
@@ -59,6 +81,23 @@ public enum MessageCode {
 	/** ✅ Pagination Support */
 	ATTEMPT_FIND_PAGE_OPERATION("MSG_FIND_011", Severity.INFO, "Attempting to find entities as page"),
 	FIND_PAGE_SUCCESS("MSG_FIND_012", Severity.INFO, "Find as page successful — {} records returned"),
+	KEYSET_PAGE_SEEK("MSG_FIND_013", Severity.INFO, "Seeking keyset page after cursor for sort: {}"),
+	STREAM_OPEN("MSG_FIND_014", Severity.INFO, "Opening result stream for filter: {} | fetch size: {}"),
+	STREAM_CLOSE("MSG_FIND_015", Severity.INFO, "Result stream closed — {} records streamed"),
+	STREAM_FAIL("MSG_FIND_016", Severity.ERROR, "Failed to stream entities. Reason: %s"),
+	COUNT_ATTEMPT("MSG_FIND_017", Severity.INFO, "Attempting to count entities for filter: {}"),
+	COUNT_SUCCESS("MSG_FIND_018", Severity.INFO, "Count successful — {} matching records"),
+	COUNT_FAIL("MSG_FIND_019", Severity.ERROR, "Failed to count entities. Reason: %s"),
+	EXISTS_ATTEMPT("MSG_FIND_020", Severity.INFO, "Attempting existence check for: {}"),
+	EXISTS_SUCCESS("MSG_FIND_021", Severity.INFO, "Existence check successful — {}"),
+	EXISTS_FAIL("MSG_FIND_022", Severity.ERROR, "Failed to check existence. Reason: %s"),
+	APPROXIMATE_COUNT_SUCCESS("MSG_FIND_023", Severity.INFO, "Approximate count of table {} from statistics: {}"),
+	APPROXIMATE_COUNT_UNAVAILABLE("MSG_FIND_024", Severity.WARN, "No row estimate for table {}, counting exactly. Reason: {}"),
+	PROJECTION_ATTEMPT("MSG_FIND_025", Severity.INFO, "Attempting projection of fields {} for filter: {}"),
+	PROJECTION_SUCCESS("MSG_FIND_026", Severity.INFO, "Projection successful — {} rows returned"),
+	PROJECTION_FAIL("MSG_FIND_027", Severity.ERROR, "Failed to project fields. Reason: %s"),
+	PROJECTION_FIELDS_REQUIRED("MSG_FIND_028", Severity.WARN, "At least one field is required for a projection"),
+	FILTER_PLAN_COMPILED("MSG_FIND_029", Severity.INFO, "Compiled filter plan for {}: {}"),
 
 	// ============================================================
 	// ========== ERROR HANDLING ==================================
@@ -68,6 +107,78 @@ public enum MessageCode {
 	ENTITY_FETCH_ALL_FAIL("MSG_ERR_002", Severity.ERROR, "Failed to fetch all entities. Reason: %s"),
 	ENTITY_FETCH_MULTI_FAIL("MSG_ERR_003", Severity.ERROR, "Failed to fetch entities by IDs. Reason: %s"),
 
+	// ============================================================
+	// ========== ANALYTICS OPERATIONS ============================
+	// ============================================================
+
+	AGGREGATE_ATTEMPT("MSG_AGG_001", Severity.INFO, "Attempting aggregation: {}"),
+	AGGREGATE_SUCCESS("MSG_AGG_002", Severity.INFO, "Aggregation successful — {} values computed"),
+	AGGREGATE_FAIL("MSG_AGG_003", Severity.ERROR, "Failed to perform aggregation. Reason: %s"),
+	AGGREGATE_NO_FUNCTIONS("MSG_AGG_004", Severity.WARN, "At least one aggregate function is required"),
+	GROUP_BY_ATTEMPT("MSG_AGG_005", Severity.INFO, "Attempting group-by: {}"),
+	GROUP_BY_SUCCESS("MSG_AGG_006", Severity.INFO, "Group-by successful — {} rows returned"),
+	GROUP_BY_FAIL("MSG_AGG_007", Severity.ERROR, "Failed to perform group-by. Reason: %s"),
+	GROUP_BY_NO_FIELDS("MSG_AGG_008", Severity.WARN, "At least one group-by field is required"),
+
+	// ============================================================
+	// ========== CACHE OPERATIONS ================================
+	// ============================================================
+
+	REFERENCE_CACHE_LOADED("MSG_CACHE_001", Severity.INFO, "Reference cache '{}' loaded — {} entries, version {}"),
+	REFERENCE_CACHE_WARMUP_FAIL("MSG_CACHE_002", Severity.WARN, "Reference cache '{}' not loaded at startup, will load on first access. Reason: {}"),
+	CACHE_REGION_EVICTED("MSG_CACHE_003", Severity.INFO, "Cache region '{}' evicted"),
+	CACHE_REGION_NOT_FOUND("MSG_CACHE_004", Severity.WARN, "No cache region named '%s'"),
+	CACHE_PROVIDER_UNSUPPORTED("MSG_CACHE_005", Severity.ERROR, "Cache statistics need the local region factory, found %s"),
+
+	// ============================================================
+	// ========== DATASOURCE OPERATIONS ===========================
+	// ============================================================
+
+	REPLICA_ROUTING_ENABLED("MSG_DS_001", Severity.INFO, "Read-only transactions routed to {} replica(s), max lag {} ms"),
+	REPLICA_UP("MSG_DS_002", Severity.INFO, "Replica '{}' in rotation, lag {} ms"),
+	REPLICA_DOWN("MSG_DS_003", Severity.WARN, "Replica '{}' out of rotation. Reason: {}"),
+	REPLICA_LAGGING("MSG_DS_004", Severity.WARN, "Replica '{}' out of rotation, lag {} ms exceeds {} ms"),
+	REPLICA_HEARTBEAT_FAIL("MSG_DS_005", Severity.WARN, "Heartbeat to '{}' on the primary failed, replicas will be reported without one. Reason: {}"),
+
+	// ============================================================
+	// ========== PAYROLL OPERATIONS ==============================
+	// ============================================================
+
+	PAYROLL_RUN_START("MSG_PAYROLL_001", Severity.INFO, "Payroll run {} started — {} partitions of {} employee IDs, {} already done"),
+	PAYROLL_PARTITION_DONE("MSG_PAYROLL_002", Severity.INFO, "Payroll run {} partition {} [{}, {}) — {} employees in {} ms"),
+	PAYROLL_PARTITION_FAIL("MSG_PAYROLL_003", Severity.ERROR, "Payroll run %s partition failed. Reason: %s"),
+	PAYROLL_RUN_COMPLETE("MSG_PAYROLL_004", Severity.INFO, "Payroll run {} completed — {} employees, net pay {}, {} ms"),
+	PAYROLL_RUN_FAIL("MSG_PAYROLL_005", Severity.ERROR, "Payroll run %s failed — %s of %s partitions failed, rerun the month to resume"),
+	PAYROLL_RUN_IN_PROGRESS("MSG_PAYROLL_006", Severity.WARN, "Payroll run %s is already in progress"),
+	PAYROLL_MONTH_INVALID("MSG_PAYROLL_007", Severity.WARN, "Invalid payroll month '%s', expected yyyy-MM"),
+	PAYROLL_FIXED_POINT_FALLBACK("MSG_PAYROLL_008", Severity.WARN, "Payroll partition of {} employees paid in BigDecimal — no exact fixed-point form: {}"),
+	PAYROLL_RECALC_MARKED("MSG_PAYROLL_009", Severity.INFO, "Queued {} payroll lines of {} employees from {} for recalculation"),
+	PAYROLL_RECALC_MONTH_MARKED("MSG_PAYROLL_010", Severity.INFO, "Queued {} payroll lines of {} for recalculation"),
+	PAYROLL_RECALC_DONE("MSG_PAYROLL_011", Severity.INFO, "Recalculated {} queued payroll lines — {} rows rewritten in {} ms"),
+	PAYROLL_MONTH_OPEN("MSG_PAYROLL_013", Severity.WARN, "Payroll month %s is still open and cannot be archived"),
+	PAYROLL_MONTH_ARCHIVED("MSG_PAYROLL_014", Severity.WARN, "Payroll month %s is archived"),
+	PAYROLL_MONTH_ARCHIVE_DONE("MSG_PAYROLL_015", Severity.INFO, "Archived payroll month {} — {} rows moved to {} in {} ms"),
+	PAYROLL_PARTITION_ADDED("MSG_PAYROLL_016", Severity.INFO, "Added monthly payroll partitions {} to {}"),
+	PAYROLL_PARTITION_UNAVAILABLE("MSG_PAYROLL_017", Severity.WARN, "Payroll month {} cannot get its own partition, it stays in a shared one"),
+	PAYROLL_PERIOD_ASSIGNMENT("MSG_PAYROLL_018", Severity.WARN, "Payroll month can only be assigned a literal yyyy-MM value, and payPeriod not at all"),
+	PAYROLL_RECALC_FAIL("MSG_PAYROLL_012", Severity.ERROR, "Payroll recalculation failed, queued lines are kept. Reason: %s"),
+	PAYROLL_RECONCILE_START("MSG_PAYROLL_019", Severity.INFO, "Reconciling payroll {} against {}"),
+	PAYROLL_RECONCILE_DONE("MSG_PAYROLL_020", Severity.INFO, "Reconciled payroll {} against {} — {} and {} lines, {} added, {} removed, {} changed in {} ms"),
+	PAYROLL_RECONCILE_FAIL("MSG_PAYROLL_021", Severity.ERROR, "Payroll reconciliation of %s against %s failed. Reason: %s"),
+
+	// ============================================================
+	// ========== COLD ARCHIVE OPERATIONS =========================
+	// ============================================================
+
+	ARCHIVE_SEGMENT_WRITTEN("MSG_ARCHIVE_001", Severity.INFO, "Archived {} {} rows of {} to cold segment {} — {} bytes in {} ms"),
+	ARCHIVE_READ("MSG_ARCHIVE_002", Severity.INFO, "Filter on {} reaches archived periods {} — {} of {} archived rows match"),
+	ARCHIVE_ORPHAN_REMOVED("MSG_ARCHIVE_003", Severity.WARN, "Removed cold segment {} of an archive run that did not commit"),
+	ARCHIVE_RUN_DONE("MSG_ARCHIVE_004", Severity.INFO, "Cold archive run moved {} segments before {} in {} ms"),
+	ARCHIVE_RUN_FAIL("MSG_ARCHIVE_005", Severity.ERROR, "Cold archive run failed, unarchived rows stay in place. Reason: %s"),
+	ARCHIVE_SEGMENT_UNREADABLE("MSG_ARCHIVE_006", Severity.ERROR, "Cold segment %s cannot be read: %s"),
+	ARCHIVE_TYPE_UNSUPPORTED("MSG_ARCHIVE_007", Severity.ERROR, "Column %s of type %s cannot be stored in a cold segment"),
+	ARCHIVE_MOVE_DEFERRED("MSG_ARCHIVE_008", Severity.WARN, "Payroll month {} archived to {} but not moved to the cold archive, left to the next run. Reason: {}"),
+
 	// ============================================================
 	// ========== DELETE OPERATIONS ===============================
 	// ============================================================
@@ -82,7 +193,10 @@ public enum MessageCode {
 
 	ENTITY_DELETE_MULTI_SUCCESS("MSG_DELETE_007", Severity.INFO, "Successfully deleted entities with IDs: {}"),
 	ENTITY_DELETE_BY_ID_SUCCESS("MSG_DELETE_008", Severity.INFO, "Successfully deleted entity with ID: {}"),
-	ENTITY_DELETE_ALL_SUCCESS("MSG_DELETE_009", Severity.INFO, "Successfully deleted all entities");
+	ENTITY_DELETE_ALL_SUCCESS("MSG_DELETE_009", Severity.INFO, "Successfully deleted all entities"),
+	ENTITY_DELETE_BATCH_ATTEMPT("MSG_DELETE_010", Severity.INFO, "Attempting batched delete of {} IDs in chunks of {}"),
+	ENTITY_DELETE_BATCH_SUCCESS("MSG_DELETE_011", Severity.INFO, "Batched delete successful — {} of {} IDs deleted"),
+	ENTITY_DELETE_BATCH_FAIL("MSG_DELETE_012", Severity.ERROR, "Failed to delete entities in batch. Reason: %s");
 
 	// ============================================================
 	// ========== ENUM STRUCTURE ==================================
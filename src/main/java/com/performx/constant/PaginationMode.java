@@ -0,0 +1,17 @@
+package com.performx.constant;
+
+public enum PaginationMode {
+
+	OFFSET("OFFSET"), KEYSET("KEYSET");
+
+	private String value;
+
+	private PaginationMode(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+}
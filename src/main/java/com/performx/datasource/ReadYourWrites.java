@@ -0,0 +1,121 @@
+package com.performx.datasource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * State that keeps reads on the primary where a replica could return stale
+ * rows: for a short window after the client's last write, and for the
+ * duration of an {@link #onPrimary(Supplier)} block.
+ *
+ * <p>
+ * A request thread is bound to the {@link Client} it serves, whose last write
+ * travels with the client between requests, so the window follows the client
+ * to whichever thread serves it next and never leaks to other clients served
+ * by the same thread. Threads serving no client, such as background jobs, keep
+ * the time of their own last write.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class ReadYourWrites {
+
+	private static final ThreadLocal<Client> CLIENT = new ThreadLocal<>();
+	private static final ThreadLocal<Long> LAST_WRITE = new ThreadLocal<>();
+	private static final ThreadLocal<Integer> PRIMARY_DEPTH = ThreadLocal.withInitial(() -> 0);
+
+	private ReadYourWrites() {
+	}
+
+	/**
+	 * The client a request is served for: when it last wrote, as it reported it,
+	 * and how to report a new write back to it.
+	 */
+	public static final class Client {
+
+		private volatile long lastWriteMillis;
+		private final LongConsumer onWrite;
+
+		/**
+		 * @param lastWriteMillis Epoch millis of the client's last write, {@code 0}
+		 *                        for none.
+		 * @param onWrite         Passes the epoch millis of a new write back to the
+		 *                        client.
+		 */
+		public Client(long lastWriteMillis, LongConsumer onWrite) {
+			this.lastWriteMillis = lastWriteMillis;
+			this.onWrite = onWrite;
+		}
+
+		public long getLastWriteMillis() {
+			return lastWriteMillis;
+		}
+	}
+
+	/** Binds the current thread to {@code client} until {@link #unbind()}. */
+	public static void bind(Client client) {
+		CLIENT.set(client);
+	}
+
+	public static void unbind() {
+		CLIENT.remove();
+	}
+
+	/** Records that the current client, or thread, has just committed a write. */
+	public static void markWritten() {
+		Client client = CLIENT.get();
+		if (client == null) {
+			LAST_WRITE.set(System.nanoTime());
+			return;
+		}
+		long now = System.currentTimeMillis();
+		client.lastWriteMillis = now;
+		client.onWrite.accept(now);
+	}
+
+	/**
+	 * Runs {@code action} with every connection it opens taken from the primary.
+	 */
+	public static <R> R onPrimary(Supplier<R> action) {
+		PRIMARY_DEPTH.set(PRIMARY_DEPTH.get() + 1);
+		try {
+			return action.get();
+		} finally {
+			int depth = PRIMARY_DEPTH.get() - 1;
+			if (depth == 0) {
+				PRIMARY_DEPTH.remove();
+			} else {
+				PRIMARY_DEPTH.set(depth);
+			}
+		}
+	}
+
+	/**
+	 * Whether the current thread must read from the primary: inside
+	 * {@link #onPrimary(Supplier)}, or within {@code windowNanos} of the last
+	 * write of its client, or of its own when it serves none.
+	 */
+	static boolean requiresPrimary(long windowNanos) {
+		if (PRIMARY_DEPTH.get() > 0) {
+			return true;
+		}
+		Client client = CLIENT.get();
+		if (client != null) {
+			long lastWrite = client.lastWriteMillis;
+			return lastWrite != 0
+					&& System.currentTimeMillis() - lastWrite < TimeUnit.NANOSECONDS.toMillis(windowNanos);
+		}
+		Long lastWrite = LAST_WRITE.get();
+		if (lastWrite == null) {
+			return false;
+		}
+		if (System.nanoTime() - lastWrite < windowNanos) {
+			return true;
+		}
+		LAST_WRITE.remove();
+		return false;
+	}
+
+}
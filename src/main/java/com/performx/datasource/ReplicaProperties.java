@@ -0,0 +1,60 @@
+package com.performx.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Read replicas and the rules for routing read-only transactions to them.
+ *
+ * <pre>
+ * performx.datasource.replicas[0].url=jdbc:mysql://replica-1:3306/performx
+ * performx.datasource.replicas[0].username=reader
+ * performx.datasource.replicas[0].password=secret
+ * performx.datasource.health-check-interval=2s
+ * performx.datasource.max-lag=10s
+ * </pre>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties("performx.datasource")
+public class ReplicaProperties {
+
+	/** Replicas to spread read-only transactions over; none keeps all on the primary. */
+	private List<Replica> replicas = new ArrayList<>();
+
+	/** How often replicas are validated and their lag measured. */
+	private Duration healthCheckInterval = Duration.ofSeconds(2);
+
+	/** Replicas further behind than this are skipped until they catch up. */
+	private Duration maxLag = Duration.ofSeconds(10);
+
+	/**
+	 * Table holding the replication heartbeat, see
+	 * {@code db/replication_heartbeat.sql}; blank disables lag measurement.
+	 */
+	private String heartbeatTable = "replication_heartbeat";
+
+	/** How long a client reads from the primary after its own write. */
+	private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+	@Getter
+	@Setter
+	public static class Replica {
+
+		private String url;
+		private String username;
+		private String password;
+		private int maximumPoolSize = 10;
+
+	}
+
+}
@@ -0,0 +1,245 @@
+package com.performx.datasource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.performx.constant.MessageCode;
+import com.performx.datasource.ReplicaProperties.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Source of read-only connections: a healthy replica, picked round-robin, or
+ * the primary when none is available.
+ *
+ * <p>
+ * A background task validates every replica each
+ * {@code healthCheckInterval}. With a heartbeat table configured it also
+ * writes the current time to the primary and reads the replicated value back
+ * from each replica; a replica whose copy is older than {@code maxLag}, or that
+ * has none, is skipped until it catches up. A client that wrote within
+ * {@code readYourWritesWindow} always gets the primary, see
+ * {@link ReadYourWrites}.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+	private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+	private final DataSource primary;
+	private final List<Node> replicas = new ArrayList<>();
+	private final long maxLagMillis;
+	private final long readYourWritesNanos;
+	private final String heartbeatTable;
+	private final ScheduledExecutorService healthChecker;
+	private final AtomicInteger next = new AtomicInteger();
+	private final LongAdder primaryFallbacks = new LongAdder();
+	private volatile boolean heartbeatFailing;
+
+	public ReplicaRoutingDataSource(DataSource primary, ReplicaProperties properties) {
+		this.primary = primary;
+		this.maxLagMillis = properties.getMaxLag().toMillis();
+		this.readYourWritesNanos = properties.getReadYourWritesWindow().toNanos();
+		this.heartbeatTable = properties.getHeartbeatTable() == null || properties.getHeartbeatTable().isBlank()
+				? null
+				: properties.getHeartbeatTable().trim();
+		for (int i = 0; i < properties.getReplicas().size(); i++) {
+			replicas.add(new Node("replica-" + (i + 1), pool("replica-" + (i + 1), properties.getReplicas().get(i))));
+		}
+		if (replicas.isEmpty()) {
+			healthChecker = null;
+		} else {
+			healthChecker = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "replica-health");
+				thread.setDaemon(true);
+				return thread;
+			});
+			healthChecker.scheduleWithFixedDelay(this::checkHealth, 0,
+					properties.getHealthCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+			log.info(MessageCode.REPLICA_ROUTING_ENABLED.getMessage(), replicas.size(), maxLagMillis);
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!replicas.isEmpty() && !ReadYourWrites.requiresPrimary(readYourWritesNanos)) {
+			int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+			for (int i = 0; i < replicas.size(); i++) {
+				Node node = replicas.get((start + i) % replicas.size());
+				if (node.healthy) {
+					try {
+						return node.dataSource.getConnection();
+					} catch (SQLException e) {
+						node.markDown(e.getMessage());
+					}
+				}
+			}
+			primaryFallbacks.increment();
+		}
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		throw new SQLFeatureNotSupportedException("Replica routing uses the configured credentials");
+	}
+
+	public boolean hasReplicas() {
+		return !replicas.isEmpty();
+	}
+
+	/** Read-only connections served by the primary because no replica was healthy. */
+	public long getPrimaryFallbacks() {
+		return primaryFallbacks.sum();
+	}
+
+	public List<ReplicaState> getReplicaStates() {
+		return replicas.stream().map(n -> new ReplicaState(n.name, n.healthy, n.lagMillis, n.reason)).toList();
+	}
+
+	/**
+	 * Writes the heartbeat and re-checks every replica now; also run on the
+	 * health-check schedule.
+	 */
+	public synchronized void checkHealth() {
+		writeHeartbeat();
+		for (Node node : replicas) {
+			node.check();
+		}
+	}
+
+	@Override
+	public void close() {
+		if (healthChecker != null) {
+			healthChecker.shutdownNow();
+		}
+		replicas.forEach(node -> node.dataSource.close());
+	}
+
+	private void writeHeartbeat() {
+		if (heartbeatTable == null) {
+			return;
+		}
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		try (Connection connection = primary.getConnection();
+				PreparedStatement update = connection
+						.prepareStatement("update " + heartbeatTable + " set beat_at = ? where id = 1")) {
+			update.setTimestamp(1, now);
+			if (update.executeUpdate() == 0) {
+				try (PreparedStatement insert = connection
+						.prepareStatement("insert into " + heartbeatTable + " (id, beat_at) values (1, ?)")) {
+					insert.setTimestamp(1, now);
+					insert.executeUpdate();
+				}
+			}
+			if (!connection.getAutoCommit()) {
+				connection.commit();
+			}
+			heartbeatFailing = false;
+		} catch (SQLException e) {
+			if (!heartbeatFailing) {
+				log.warn(MessageCode.REPLICA_HEARTBEAT_FAIL.getMessage(), heartbeatTable, e.getMessage());
+				heartbeatFailing = true;
+			}
+		}
+	}
+
+	private static HikariDataSource pool(String name, Replica replica) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName(name);
+		dataSource.setJdbcUrl(replica.getUrl());
+		dataSource.setUsername(replica.getUsername());
+		dataSource.setPassword(replica.getPassword());
+		dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+		dataSource.setReadOnly(true);
+		// start even if the replica is down; the health check keeps it out of rotation
+		dataSource.setInitializationFailTimeout(-1);
+		return dataSource;
+	}
+
+	/** Health of one replica as of its last check. */
+	public record ReplicaState(String name, boolean healthy, Long lagMillis, String reason) {
+	}
+
+	private final class Node {
+
+		private final String name;
+		private final HikariDataSource dataSource;
+		private volatile boolean healthy;
+		private volatile Long lagMillis;
+		private volatile String reason = "not checked yet";
+
+		private Node(String name, HikariDataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+
+		private void check() {
+			try (Connection connection = dataSource.getConnection()) {
+				if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+					markDown("connection is not valid");
+					return;
+				}
+				Long lag = heartbeatTable == null ? null : readLag(connection);
+				lagMillis = lag;
+				if (heartbeatTable != null && lag == null) {
+					markDown("no replicated heartbeat");
+				} else if (lag != null && lag > maxLagMillis) {
+					if (healthy || reason == null) {
+						log.warn(MessageCode.REPLICA_LAGGING.getMessage(), name, lag, maxLagMillis);
+					}
+					healthy = false;
+					reason = "lag " + lag + " ms";
+				} else {
+					if (!healthy) {
+						log.info(MessageCode.REPLICA_UP.getMessage(), name, lag);
+					}
+					healthy = true;
+					reason = null;
+				}
+			} catch (SQLException e) {
+				markDown(e.getMessage());
+			}
+		}
+
+		private Long readLag(Connection connection) throws SQLException {
+			try (PreparedStatement select = connection
+					.prepareStatement("select beat_at from " + heartbeatTable + " where id = 1");
+					ResultSet rs = select.executeQuery()) {
+				if (!rs.next() || rs.getTimestamp(1) == null) {
+					return null;
+				}
+				return Math.max(0, System.currentTimeMillis() - rs.getTimestamp(1).getTime());
+			}
+		}
+
+		private void markDown(String cause) {
+			if (healthy || reason == null || reason.startsWith("not checked")) {
+				log.warn(MessageCode.REPLICA_DOWN.getMessage(), name, cause);
+			}
+			healthy = false;
+			reason = cause;
+		}
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.performx.entity;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The persistent class for the cold_segment table: a file of the cold archive
+ * holding rows of one entity and month. A segment file exists for the archive
+ * only once its row here has committed, together with the removal of its rows
+ * from the source table.
+ * 
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode()
+@Entity
+@Table(name = "cold_segment")
+public class ColdSegment implements Serializable {
+
+	private static final long serialVersionUID = -2171394526011248533L;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+	@Column(name = "entity_name")
+	private String entityName;
+	/** {@code yyyyMM} of the rows. */
+	private int period;
+	@Column(name = "file_name")
+	private String fileName;
+	@Column(name = "row_count")
+	private long rowCount;
+	@Column(name = "byte_size")
+	private long byteSize;
+	@Column(name = "created_at")
+	private Timestamp createdAt;
+
+}
@@ -0,0 +1,56 @@
+package com.performx.entity;
+
+import java.io.Serializable;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import com.performx.query.InListStrategy;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One value of a large IN list, held in the per-connection temporary table
+ * {@value InListStrategy#TABLE} and joined as
+ * {@code e.field in (select v.numValue from InListValue v where v.listNo = n)}.
+ *
+ * <p>
+ * Mapped through a subselect so schema generation never creates the table;
+ * {@link InListStrategy} creates it as a temporary table on first use in each
+ * connection.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Subselect("select position, list_no, num_value, str_value from " + InListStrategy.TABLE)
+@Synchronize(InListStrategy.TABLE)
+public class InListValue implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Position of the value in its list; unique only together with {@link #listNo}. */
+	@Id
+	private long position;
+
+	@Column(name = "list_no")
+	private int listNo;
+
+	@Column(name = "num_value")
+	private Long numValue;
+
+	@Column(name = "str_value")
+	private String strValue;
+
+}
@@ -6,12 +6,17 @@ import java.math.BigInteger;
 import java.sql.Timestamp;
 import java.util.Date;
 
+import com.performx.archive.ArchiveKey;
+import com.performx.payroll.PayPeriod;
+import com.performx.query.PartitionKey;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.NamedQuery;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import lombok.AllArgsConstructor;
@@ -41,7 +46,8 @@ public class Payroll implements Serializable {
 	private static final long serialVersionUID = -3659895786324843918L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "payroll_id")
+	@TableGenerator(name = "payroll_id", table = "id_generator", pkColumnName = "gen_name", valueColumnName = "gen_value", pkColumnValue = "payroll", allocationSize = 500)
 	private long id;
 	@Column(name = "basic_pay")
 	private BigDecimal basicPay;
@@ -54,10 +60,25 @@ public class Payroll implements Serializable {
 	@Temporal(TemporalType.DATE)
 	@Column(name = "generated_date")
 	private Date generatedDate;
+	@ArchiveKey(mapper = PayPeriod.FromMonth.class)
 	private String month;
+	/** {@code yyyyMM} of {@link #month}, the partitioning key of the table. */
+	@PartitionKey(source = "month", mapper = PayPeriod.FromMonth.class)
+	@Column(name = "pay_period")
+	private Integer payPeriod;
 	@Column(name = "net_pay")
 	private BigDecimal netPay;
 	@Column(name = "updated_at")
 	private Timestamp updatedAt;
 
+	/**
+	 * Sets the month and its pay period.
+	 *
+	 * @param month The month as {@code yyyy-MM}.
+	 */
+	public void setMonth(String month) {
+		this.month = month;
+		this.payPeriod = month == null ? null : PayPeriod.of(month);
+	}
+
 }
\ No newline at end of file
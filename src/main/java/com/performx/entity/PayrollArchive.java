@@ -0,0 +1,51 @@
+package com.performx.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The persistent class for the payroll_archive table: a closed month whose
+ * payroll rows were moved out of the payroll table into a table of its own,
+ * and later possibly into a segment of the cold archive.
+ * 
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode()
+@Entity
+@Table(name = "payroll_archive")
+public class PayrollArchive implements Serializable {
+
+	private static final long serialVersionUID = 6093274105382297146L;
+
+	/** {@code yyyy-MM} */
+	@Id
+	private String month;
+	@Column(name = "pay_period")
+	private int payPeriod;
+	/** The archive table, or the cold segment file, holding the rows. */
+	@Column(name = "table_name")
+	private String tableName;
+	@Column(name = "row_count")
+	private long rowCount;
+	@Column(name = "total_net_pay")
+	private BigDecimal totalNetPay;
+	@Column(name = "archived_at")
+	private Timestamp archivedAt;
+
+}
@@ -0,0 +1,46 @@
+package com.performx.entity;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The persistent class for the payroll_dirty_line table: a pay line waiting to
+ * be recalculated, queued in the transaction that changed its inputs.
+ * 
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode()
+@Entity
+@Table(name = "payroll_dirty_line")
+public class PayrollDirtyLine implements Serializable {
+
+	private static final long serialVersionUID = 4417029652810334785L;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+	@Column(name = "employee_id")
+	private BigInteger employeeId;
+	private String month;
+	@Column(name = "marked_at")
+	private Timestamp markedAt;
+
+}
@@ -0,0 +1,50 @@
+package com.performx.entity;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The persistent class for the payroll_run table: one row per payroll month,
+ * fixing the employee ID partitions of the run so a resumed run processes the
+ * same ranges as the attempt it continues.
+ * 
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode()
+@Entity
+@Table(name = "payroll_run")
+public class PayrollRun implements Serializable {
+
+	private static final long serialVersionUID = 4171265329716402285L;
+
+	@Id
+	private String month;
+	@Column(name = "first_employee_id")
+	private long firstEmployeeId;
+	@Column(name = "last_employee_id")
+	private long lastEmployeeId;
+	@Column(name = "partition_size")
+	private int partitionSize;
+	private int partitions;
+	private String status;
+	@Column(name = "started_at")
+	private Timestamp startedAt;
+	@Column(name = "finished_at")
+	private Timestamp finishedAt;
+
+}
@@ -0,0 +1,52 @@
+package com.performx.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The persistent class for the payroll_run_partition table: the checkpoint of
+ * one completed partition of a payroll run, committed together with its
+ * payroll rows.
+ * 
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode()
+@Entity
+@Table(name = "payroll_run_partition")
+public class PayrollRunPartition implements Serializable {
+
+	private static final long serialVersionUID = -2085394512338516372L;
+
+	/** {@code <month>/<partitionNo>} */
+	@Id
+	private String id;
+	private String month;
+	@Column(name = "partition_no")
+	private int partitionNo;
+	@Column(name = "from_employee_id")
+	private long fromEmployeeId;
+	@Column(name = "to_employee_id")
+	private long toEmployeeId;
+	private int employees;
+	@Column(name = "total_net_pay")
+	private BigDecimal totalNetPay;
+	@Column(name = "completed_at")
+	private Timestamp completedAt;
+
+}
@@ -6,6 +6,8 @@ import java.math.BigInteger;
 import java.sql.Timestamp;
 import java.util.Date;
 
+import com.performx.archive.ArchiveKey;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,6 +15,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.NamedQuery;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import lombok.AllArgsConstructor;
@@ -43,7 +46,8 @@ public class PerformanceReview implements Serializable {
 	private static final long serialVersionUID = -636483939640965306L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "performance_review_id")
+	@TableGenerator(name = "performance_review_id", table = "id_generator", pkColumnName = "gen_name", valueColumnName = "gen_value", pkColumnValue = "performance_review", allocationSize = 100)
 	private long id;
 	@Column(name = "created_at")
 	private Timestamp createdAt;
@@ -53,6 +57,7 @@ public class PerformanceReview implements Serializable {
 	private BigInteger projectId;
 	private BigDecimal rating;
 	private String remarks;
+	@ArchiveKey(mapper = ArchiveKey.MonthOfDate.class)
 	@Temporal(TemporalType.DATE)
 	@Column(name = "review_date")
 	private Date reviewDate;
@@ -0,0 +1,100 @@
+package com.performx.filter;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+
+import com.performx.datasource.ReadYourWrites;
+import com.performx.datasource.ReplicaProperties;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Carries each client's last write between its requests, so its reads stay on
+ * the primary for {@code read-your-writes-window} whichever thread serves
+ * them.
+ *
+ * <p>
+ * A request that commits a write answers with the time of the write in the
+ * {@value #HEADER} header and the {@value #COOKIE} cookie, which expires with
+ * the window. The next request brings it back, as the cookie or the header,
+ * and is bound to it as its {@link ReadYourWrites.Client}. Times are epoch
+ * millis of the instance that wrote, so instances need synchronised clocks;
+ * times further ahead than the window are ignored. Without replicas nothing is
+ * tracked.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Component
+public class ReadYourWritesFilter implements Filter {
+
+	public static final String HEADER = "X-Last-Write";
+	public static final String COOKIE = "performx_last_write";
+
+	private final boolean enabled;
+	private final long windowMillis;
+
+	public ReadYourWritesFilter(ReplicaProperties properties) {
+		this.enabled = !properties.getReplicas().isEmpty();
+		this.windowMillis = properties.getReadYourWritesWindow().toMillis();
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		if (!enabled) {
+			chain.doFilter(request, response);
+			return;
+		}
+		HttpServletResponse httpResponse = (HttpServletResponse) response;
+		ReadYourWrites.bind(new ReadYourWrites.Client(lastWrite((HttpServletRequest) request),
+				written -> report(httpResponse, written)));
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			ReadYourWrites.unbind();
+		}
+	}
+
+	private long lastWrite(HttpServletRequest request) {
+		String value = request.getHeader(HEADER);
+		if (value == null && request.getCookies() != null) {
+			for (Cookie cookie : request.getCookies()) {
+				if (COOKIE.equals(cookie.getName())) {
+					value = cookie.getValue();
+				}
+			}
+		}
+		if (value == null) {
+			return 0;
+		}
+		try {
+			long millis = Long.parseLong(value.trim());
+			return millis > System.currentTimeMillis() + windowMillis ? 0 : millis;
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private void report(HttpServletResponse response, long written) {
+		if (response.isCommitted()) {
+			return;
+		}
+		response.setHeader(HEADER, Long.toString(written));
+		Cookie cookie = new Cookie(COOKIE, Long.toString(written));
+		cookie.setPath("/");
+		cookie.setHttpOnly(true);
+		cookie.setMaxAge((int) Math.max(1, (windowMillis + 999) / 1000));
+		response.addCookie(cookie);
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.performx.payroll;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money as a {@code long} count of minor units (cents, paise), the
+ * representation of the payroll kernel.
+ *
+ * <p>
+ * Every operation rounds half-even, like the {@link BigDecimal} rules it
+ * replaces, and throws {@link ArithmeticException} rather than lose
+ * precision or overflow, so a caller can always fall back to the exact
+ * {@code BigDecimal} path.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class FixedPoint {
+
+	/** Decimal places of a minor unit. */
+	public static final int SCALE = 2;
+
+	private static final long[] POWERS_OF_TEN = new long[19];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private FixedPoint() {
+	}
+
+	/**
+	 * Converts an amount to minor units; {@code null} is zero.
+	 *
+	 * @throws ArithmeticException If the amount has a non-zero digit below the
+	 *                             minor unit or does not fit a {@code long}.
+	 */
+	public static long toMinor(BigDecimal amount) {
+		if (amount == null) {
+			return 0;
+		}
+		return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+	}
+
+	/** Converts minor units back to an amount of scale {@link #SCALE}. */
+	public static BigDecimal toDecimal(long minor) {
+		return BigDecimal.valueOf(minor, SCALE);
+	}
+
+	/**
+	 * {@code dividend / divisor} rounded half-even to a whole number.
+	 *
+	 * @param divisor Must be positive.
+	 */
+	public static long divideHalfEven(long dividend, long divisor) {
+		long quotient = dividend / divisor;
+		long remainder = Math.abs(dividend % divisor);
+		long twice = remainder << 1;
+		if (twice > divisor || (twice == divisor && (quotient & 1) != 0)) {
+			quotient += dividend < 0 ? -1 : 1;
+		}
+		return quotient;
+	}
+
+	/**
+	 * {@code minor * rate}, rounded half-even to minor units.
+	 *
+	 * @throws ArithmeticException On overflow.
+	 */
+	public static long multiply(long minor, Rate rate) {
+		return divideHalfEven(Math.multiplyExact(minor, rate.unscaled()), POWERS_OF_TEN[rate.scale()]);
+	}
+
+	/**
+	 * A decimal factor as {@code unscaled / 10^scale}.
+	 *
+	 * @param unscaled The digits of the factor.
+	 * @param scale    Between 0 and 18.
+	 */
+	public record Rate(long unscaled, int scale) {
+
+		public Rate {
+			if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+				throw new ArithmeticException("Rate scale out of range: " + scale);
+			}
+		}
+
+		/**
+		 * The exact fixed-point form of a decimal.
+		 *
+		 * @throws ArithmeticException If it needs more than 18 decimal places or
+		 *                             its digits do not fit a {@code long}.
+		 */
+		public static Rate of(BigDecimal value) {
+			BigDecimal stripped = value.stripTrailingZeros();
+			if (stripped.scale() < 0) {
+				stripped = stripped.setScale(0);
+			}
+			return new Rate(stripped.unscaledValue().longValueExact(), stripped.scale());
+		}
+	}
+
+}
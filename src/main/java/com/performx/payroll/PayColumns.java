@@ -0,0 +1,53 @@
+package com.performx.payroll;
+
+/**
+ * Pay lines of a partition in minor units, one primitive array per amount and
+ * one index per employee.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class PayColumns {
+
+	final long[] basicPay;
+	final long[] bonus;
+	final long[] deductions;
+	final long[] netPay;
+
+	PayColumns(int size) {
+		basicPay = new long[size];
+		bonus = new long[size];
+		deductions = new long[size];
+		netPay = new long[size];
+	}
+
+	public int size() {
+		return netPay.length;
+	}
+
+	public long basicPay(int i) {
+		return basicPay[i];
+	}
+
+	public long bonus(int i) {
+		return bonus[i];
+	}
+
+	public long deductions(int i) {
+		return deductions[i];
+	}
+
+	public long netPay(int i) {
+		return netPay[i];
+	}
+
+	/** Sum of net pay, in minor units. */
+	public long totalNetPay() {
+		long total = 0;
+		for (long net : netPay) {
+			total = Math.addExact(total, net);
+		}
+		return total;
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.performx.payroll;
+
+import java.math.BigDecimal;
+
+/**
+ * The computed pay of one employee for one month.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public record PayLine(BigDecimal basicPay, BigDecimal bonus, BigDecimal deductions, BigDecimal netPay) {
+}
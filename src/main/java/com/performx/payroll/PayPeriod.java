@@ -0,0 +1,71 @@
+package com.performx.payroll;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+import com.performx.constant.MessageCode;
+import com.performx.exception.GlobalException;
+
+/**
+ * The year-month key of payroll storage: {@code yyyyMM} as an {@code int},
+ * e.g. {@code 202404} for the month {@code 2024-04}. Keys sort like the
+ * months they stand for, so a range of months is a range of keys.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class PayPeriod {
+
+	private PayPeriod() {
+	}
+
+	/**
+	 * @param month The month as {@code yyyy-MM}.
+	 * @throws GlobalException If the month is not of that form.
+	 */
+	public static int of(String month) {
+		try {
+			if (month != null) {
+				return of(YearMonth.parse(month));
+			}
+		} catch (DateTimeParseException e) {
+			// reported below
+		}
+		throw new GlobalException(String.format(MessageCode.PAYROLL_MONTH_INVALID.getMessage(), month));
+	}
+
+	public static int of(YearMonth month) {
+		return month.getYear() * 100 + month.getMonthValue();
+	}
+
+	public static YearMonth toYearMonth(int period) {
+		return YearMonth.of(period / 100, period % 100);
+	}
+
+	/**
+	 * The first period still open for changes: the current month and the
+	 * {@code openMonths - 1} before it are open, earlier months are closed.
+	 */
+	public static int firstOpen(int openMonths) {
+		return of(YearMonth.now().minusMonths(Math.max(openMonths, 1) - 1L));
+	}
+
+	/** The key of the month after {@code period}. */
+	public static int next(int period) {
+		return of(toYearMonth(period).plusMonths(1));
+	}
+
+	/**
+	 * Maps filter values on {@code Payroll.month} to their pay period, see
+	 * {@link com.performx.query.PartitionKey}.
+	 */
+	public static final class FromMonth implements Function<Object, Object> {
+
+		@Override
+		public Object apply(Object month) {
+			return month == null ? null : of(month.toString());
+		}
+	}
+
+}
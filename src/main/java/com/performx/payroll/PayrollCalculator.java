@@ -0,0 +1,118 @@
+package com.performx.payroll;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.performx.constant.MessageCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pay rules of the monthly run: basic pay is the annual salary spread over
+ * {@code salary-periods}, bonus and deductions are fixed shares of basic pay,
+ * and net pay is basic pay plus bonus minus deductions. Every amount is
+ * rounded to cents, half-even.
+ *
+ * <p>
+ * The rules have two implementations with identical results: one line at a
+ * time in {@link BigDecimal}, the reference, and a partition at a time in
+ * {@code long} cents over primitive arrays, which the payroll run uses. The
+ * fixed-point form throws {@link ArithmeticException} for inputs it cannot
+ * represent exactly, after which the caller uses the reference instead.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PayrollCalculator {
+
+	private static final int SCALE = 2;
+
+	private final BigDecimal salaryPeriods;
+	private final BigDecimal bonusRate;
+	private final BigDecimal deductionRate;
+	private final long periods;
+	private final FixedPoint.Rate bonusFixed;
+	private final FixedPoint.Rate deductionFixed;
+
+	public PayrollCalculator(@Value("${performx.payroll.salary-periods:12}") int salaryPeriods,
+			@Value("${performx.payroll.bonus-rate:0}") BigDecimal bonusRate,
+			@Value("${performx.payroll.deduction-rate:0}") BigDecimal deductionRate) {
+		this.salaryPeriods = BigDecimal.valueOf(salaryPeriods);
+		this.bonusRate = bonusRate;
+		this.deductionRate = deductionRate;
+		this.periods = salaryPeriods;
+		this.bonusFixed = fixedRate(bonusRate);
+		this.deductionFixed = fixedRate(deductionRate);
+	}
+
+	/**
+	 * @param salary Annual salary; {@code null} pays nothing.
+	 */
+	public PayLine calculate(BigDecimal salary) {
+		BigDecimal basicPay = salary == null ? BigDecimal.ZERO.setScale(SCALE)
+				: salary.divide(salaryPeriods, SCALE, RoundingMode.HALF_EVEN);
+		BigDecimal bonus = basicPay.multiply(bonusRate).setScale(SCALE, RoundingMode.HALF_EVEN);
+		BigDecimal deductions = basicPay.multiply(deductionRate).setScale(SCALE, RoundingMode.HALF_EVEN);
+		return new PayLine(basicPay, bonus, deductions, basicPay.add(bonus).subtract(deductions));
+	}
+
+	/**
+	 * Pays a partition in fixed point.
+	 *
+	 * @param salaries Annual salaries in cents, see {@link FixedPoint#toMinor}.
+	 * @throws ArithmeticException If a rate needs more than 18 decimal places or
+	 *                             an amount overflows a {@code long}.
+	 */
+	public PayColumns calculate(long[] salaries) {
+		if (bonusFixed == null || deductionFixed == null) {
+			throw new ArithmeticException("Rate has no fixed-point form");
+		}
+		PayColumns pay = new PayColumns(salaries.length);
+		for (int i = 0; i < salaries.length; i++) {
+			long basicPay = FixedPoint.divideHalfEven(salaries[i], periods);
+			long bonus = FixedPoint.multiply(basicPay, bonusFixed);
+			long deductions = FixedPoint.multiply(basicPay, deductionFixed);
+			pay.basicPay[i] = basicPay;
+			pay.bonus[i] = bonus;
+			pay.deductions[i] = deductions;
+			pay.netPay[i] = Math.subtractExact(Math.addExact(basicPay, bonus), deductions);
+		}
+		return pay;
+	}
+
+	/**
+	 * Pays a set of salaries in fixed point, or returns {@code null} when a
+	 * salary or amount has no exact {@code long} cents form and they must be
+	 * paid line by line with {@link #calculate(BigDecimal)}.
+	 */
+	public PayColumns calculateExact(List<BigDecimal> salaries) {
+		try {
+			long[] minor = new long[salaries.size()];
+			for (int i = 0; i < minor.length; i++) {
+				minor[i] = FixedPoint.toMinor(salaries.get(i));
+			}
+			PayColumns pay = calculate(minor);
+			pay.totalNetPay(); // an overflowing total falls back too
+			return pay;
+		} catch (ArithmeticException e) {
+			log.warn(MessageCode.PAYROLL_FIXED_POINT_FALLBACK.getMessage(), salaries.size(), e.getMessage());
+			return null;
+		}
+	}
+
+	private static FixedPoint.Rate fixedRate(BigDecimal rate) {
+		try {
+			return FixedPoint.Rate.of(rate);
+		} catch (ArithmeticException e) {
+			return null;
+		}
+	}
+
+}
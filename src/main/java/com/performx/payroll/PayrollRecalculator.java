@@ -0,0 +1,287 @@
+package com.performx.payroll;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.performx.cache.QueryResultCache;
+import com.performx.constant.MessageCode;
+import com.performx.entity.Payroll;
+import com.performx.entity.PayrollDirtyLine;
+import com.performx.query.InListStrategy;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recalculates individual payroll lines instead of rerunning a whole month.
+ *
+ * <p>
+ * A change to a pay input queues the affected {@code (employee, month)} lines
+ * in {@code payroll_dirty_line}, in the transaction of the change, so a line
+ * is never left stale by a crash between the two. A background worker drains
+ * the queue every {@code interval}: it reads the current salaries of the
+ * queued employees, recomputes their lines with {@link PayrollCalculator} and
+ * rewrites the amounts with JDBC-batched UPDATEs, then deletes exactly the
+ * queue rows it read. A line queued again while it was being recalculated has
+ * a new queue row and is recalculated once more.
+ * </p>
+ *
+ * <p>
+ * Salary changes only queue lines of the last {@code open-months} months,
+ * counting the current one; earlier months are considered paid. A rule change
+ * queues a whole month explicitly with {@link #markMonth(String)}. Only the
+ * amounts are recalculated: lines are neither added nor removed, which takes
+ * a payroll run.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PayrollRecalculator {
+
+	private static final String UPDATE_SQL = "update payroll set basic_pay = ?, bonus = ?, deductions = ?,"
+			+ " net_pay = ?, updated_at = ? where employee_id = ? and pay_period = ?";
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private final PayrollCalculator calculator;
+	private final InListStrategy inListStrategy;
+	private final QueryResultCache queryResultCache;
+	private final TransactionTemplate transaction;
+	private final int batchSize;
+	private final int jdbcBatchSize;
+	private final int openMonths;
+	private final ScheduledExecutorService worker;
+
+	public PayrollRecalculator(PayrollCalculator calculator, InListStrategy inListStrategy,
+			QueryResultCache queryResultCache, PlatformTransactionManager transactionManager,
+			@Value("${performx.payroll.recalc.enabled:true}") boolean enabled,
+			@Value("${performx.payroll.recalc.interval:5s}") String interval,
+			@Value("${performx.payroll.recalc.batch-size:1000}") int batchSize,
+			@Value("${performx.payroll.open-months:2}") int openMonths,
+			@Value("${performx.bulk.jdbc-batch-size:500}") int jdbcBatchSize) {
+		this.calculator = calculator;
+		this.inListStrategy = inListStrategy;
+		this.queryResultCache = queryResultCache;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.jdbcBatchSize = jdbcBatchSize;
+		this.openMonths = openMonths;
+		if (enabled) {
+			long delay = DurationStyle.detectAndParse(interval).toMillis();
+			worker = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "payroll-recalc");
+				thread.setDaemon(true);
+				return thread;
+			});
+			worker.scheduleWithFixedDelay(this::drain, delay, delay, TimeUnit.MILLISECONDS);
+		} else {
+			worker = null;
+		}
+	}
+
+	/**
+	 * Queues the open-month lines of employees whose salary changed. Joins the
+	 * caller's transaction, so the lines are queued if and only if the change
+	 * commits.
+	 *
+	 * @return The number of lines queued.
+	 */
+	public int markEmployees(Collection<Long> employeeIds) {
+		if (employeeIds.isEmpty()) {
+			return 0;
+		}
+		int fromPeriod = PayPeriod.firstOpen(openMonths);
+		List<BigInteger> ids = employeeIds.stream().map(BigInteger::valueOf).toList();
+		int marked = transaction.execute(status -> {
+			int rows = 0;
+			for (List<BigInteger> chunk : inListStrategy.chunks(ids)) {
+				rows += entityManager.createQuery("insert into PayrollDirtyLine (employeeId, month, markedAt)"
+						+ " select distinct p.employeeId, p.month, current_timestamp from Payroll p"
+						+ " where p.employeeId in :ids and p.payPeriod >= :fromPeriod")
+						.setParameter("ids", chunk)
+						.setParameter("fromPeriod", fromPeriod)
+						.executeUpdate();
+			}
+			return rows;
+		});
+		log.info(MessageCode.PAYROLL_RECALC_MARKED.getMessage(), marked, employeeIds.size(),
+				PayPeriod.toYearMonth(fromPeriod));
+		return marked;
+	}
+
+	/**
+	 * Queues every line of a month, after a change to the pay rules.
+	 *
+	 * @param month The month as {@code yyyy-MM}.
+	 * @return The number of lines queued.
+	 */
+	public int markMonth(String month) {
+		int period = PayPeriod.of(month);
+		int marked = transaction.execute(status -> entityManager
+				.createQuery("insert into PayrollDirtyLine (employeeId, month, markedAt)"
+						+ " select distinct p.employeeId, p.month, current_timestamp from Payroll p"
+						+ " where p.payPeriod = :period")
+				.setParameter("period", period)
+				.executeUpdate());
+		log.info(MessageCode.PAYROLL_RECALC_MONTH_MARKED.getMessage(), marked, month);
+		return marked;
+	}
+
+	/**
+	 * Recalculates every queued line now; also run by the worker.
+	 *
+	 * @return The number of payroll rows rewritten.
+	 */
+	public synchronized int recalculatePending() {
+		long start = System.nanoTime();
+		int queued = 0;
+		int updated = 0;
+		Batch batch;
+		do {
+			batch = transaction.execute(status -> recalculateBatch());
+			if (batch.updated() > 0) {
+				queryResultCache.invalidate(Payroll.class);
+			}
+			queued += batch.queued();
+			updated += batch.updated();
+		} while (batch.queued() == batchSize);
+		if (queued > 0) {
+			log.info(MessageCode.PAYROLL_RECALC_DONE.getMessage(), queued, updated,
+					(System.nanoTime() - start) / 1_000_000);
+		}
+		return updated;
+	}
+
+	/** Lines queued and not yet recalculated. */
+	public long getPendingLines() {
+		return transaction.execute(status -> entityManager
+				.createQuery("select count(d) from PayrollDirtyLine d", Long.class).getSingleResult());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (worker != null) {
+			worker.shutdownNow();
+		}
+	}
+
+	private void drain() {
+		try {
+			recalculatePending();
+		} catch (RuntimeException e) {
+			log.error(String.format(MessageCode.PAYROLL_RECALC_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Recalculates the oldest {@code batch-size} queue rows and deletes them,
+	 * inside the caller's transaction.
+	 */
+	private Batch recalculateBatch() {
+		List<PayrollDirtyLine> queue = entityManager
+				.createQuery("select d from PayrollDirtyLine d order by d.id", PayrollDirtyLine.class)
+				.setMaxResults(batchSize)
+				.getResultList();
+		if (queue.isEmpty()) {
+			return new Batch(0, 0);
+		}
+		Set<Line> lines = new LinkedHashSet<>();
+		Set<Long> employeeIds = new LinkedHashSet<>();
+		for (PayrollDirtyLine dirty : queue) {
+			lines.add(new Line(dirty.getEmployeeId().longValue(), dirty.getMonth()));
+			employeeIds.add(dirty.getEmployeeId().longValue());
+		}
+		Map<Long, BigDecimal> salaries = new HashMap<>();
+		for (List<Long> chunk : inListStrategy.chunks(new ArrayList<>(employeeIds))) {
+			entityManager.createQuery("select e.id, e.salary from Employee e where e.id in :ids", Object[].class)
+					.setParameter("ids", chunk)
+					.getResultList()
+					.forEach(row -> salaries.put(((Number) row[0]).longValue(), (BigDecimal) row[1]));
+		}
+		// lines of deleted employees are dropped from the queue unchanged
+		List<Line> found = lines.stream().filter(line -> salaries.containsKey(line.employeeId())).toList();
+		int updated = write(found, salaries);
+
+		List<Long> queueIds = queue.stream().map(PayrollDirtyLine::getId).toList();
+		entityManager.clear();
+		for (List<Long> chunk : inListStrategy.chunks(queueIds)) {
+			entityManager.createQuery("delete from PayrollDirtyLine d where d.id in :ids")
+					.setParameter("ids", chunk)
+					.executeUpdate();
+		}
+		return new Batch(queue.size(), updated);
+	}
+
+	/** Rewrites the amounts of a set of lines with batched UPDATEs. */
+	private int write(List<Line> lines, Map<Long, BigDecimal> salaries) {
+		if (lines.isEmpty()) {
+			return 0;
+		}
+		List<BigDecimal> lineSalaries = lines.stream().map(line -> salaries.get(line.employeeId())).toList();
+		PayColumns pay = calculator.calculateExact(lineSalaries);
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+		// plain JDBC bypasses Hibernate: invalidate cached queries on the table
+		BulkOperationCleanupAction.schedule(session,
+				session.getFactory().getMappingMetamodel().getEntityDescriptor(Payroll.class));
+		int[] updated = new int[1];
+		session.doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(UPDATE_SQL)) {
+				for (int from = 0; from < lines.size(); from += jdbcBatchSize) {
+					int to = Math.min(from + jdbcBatchSize, lines.size());
+					for (int i = from; i < to; i++) {
+						PayLine line = pay != null ? new PayLine(FixedPoint.toDecimal(pay.basicPay(i)),
+								FixedPoint.toDecimal(pay.bonus(i)), FixedPoint.toDecimal(pay.deductions(i)),
+								FixedPoint.toDecimal(pay.netPay(i))) : calculator.calculate(lineSalaries.get(i));
+						statement.setBigDecimal(1, line.basicPay());
+						statement.setBigDecimal(2, line.bonus());
+						statement.setBigDecimal(3, line.deductions());
+						statement.setBigDecimal(4, line.netPay());
+						statement.setTimestamp(5, now);
+						statement.setLong(6, lines.get(i).employeeId());
+						statement.setInt(7, PayPeriod.of(lines.get(i).month()));
+						statement.addBatch();
+					}
+					for (int count : statement.executeBatch()) {
+						updated[0] += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+					}
+				}
+			}
+		});
+		return updated[0];
+	}
+
+	private record Line(long employeeId, String month) {
+	}
+
+	private record Batch(int queued, int updated) {
+	}
+
+}
@@ -0,0 +1,277 @@
+package com.performx.payroll;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.performx.constant.MessageCode;
+import com.performx.exception.GlobalException;
+import com.performx.response.PayrollDiffLine;
+import com.performx.response.PayrollDiffLine.Change;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the payroll lines of two months employee by employee.
+ *
+ * <p>
+ * Both months are read through forward-only cursors over the
+ * {@code (pay_period, employee_id)} index, as scalar rows, on one read-only
+ * connection and so from one snapshot; the two ordered streams are
+ * merge-joined on {@code employeeId} while the result is consumed. Only the
+ * current row of each month is held, whatever the size of the months. An
+ * employee with several lines in a month has them paired in ID order.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PayrollReconciler {
+
+	private static final String MONTH_QUERY = "select p.employeeId, p.basicPay, p.bonus, p.deductions, p.netPay"
+			+ " from Payroll p where p.payPeriod = :period order by p.employeeId, p.id";
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final PayrollStorage storage;
+	private final int fetchSize;
+
+	public PayrollReconciler(EntityManagerFactory entityManagerFactory, PayrollStorage storage,
+			@Value("${performx.stream.fetch-size:1000}") int fetchSize) {
+		this.entityManagerFactory = entityManagerFactory;
+		this.storage = storage;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * The differences from one month to another, ordered by employee. The
+	 * stream holds a connection and must be closed.
+	 *
+	 * @param fromMonth The earlier month as {@code yyyy-MM}.
+	 * @param toMonth   The later month as {@code yyyy-MM}.
+	 * @throws GlobalException If a month is invalid or archived.
+	 */
+	public Stream<PayrollDiffLine> reconcile(String fromMonth, String toMonth) {
+		int fromPeriod = PayPeriod.of(fromMonth);
+		int toPeriod = PayPeriod.of(toMonth);
+		for (String month : new String[] { fromMonth, toMonth }) {
+			if (storage.isArchived(month)) {
+				throw new GlobalException(String.format(MessageCode.PAYROLL_MONTH_ARCHIVED.getMessage(), month));
+			}
+		}
+		log.info(MessageCode.PAYROLL_RECONCILE_START.getMessage(), toMonth, fromMonth);
+		EntityManager streamManager = entityManagerFactory.createEntityManager();
+		ScrollableResults<Object[]> from = null;
+		ScrollableResults<Object[]> to = null;
+		try {
+			Session session = streamManager.unwrap(Session.class);
+			session.setDefaultReadOnly(true);
+			session.setHibernateFlushMode(FlushMode.MANUAL);
+			session.doWork(connection -> connection.setReadOnly(true));
+			streamManager.getTransaction().begin();
+			long start = System.nanoTime();
+			from = scroll(session, fromPeriod);
+			to = scroll(session, toPeriod);
+			ScrollableResults<Object[]> fromRows = from;
+			ScrollableResults<Object[]> toRows = to;
+			MergeIterator merge = new MergeIterator(rows(fromRows), rows(toRows));
+			return StreamSupport
+					.stream(Spliterators.spliteratorUnknownSize(merge, Spliterator.ORDERED | Spliterator.NONNULL),
+							false)
+					.onClose(() -> {
+						try {
+							closeAll(fromRows, toRows);
+						} finally {
+							close(streamManager);
+							log.info(MessageCode.PAYROLL_RECONCILE_DONE.getMessage(), toMonth, fromMonth,
+									merge.fromLines, merge.toLines, merge.added, merge.removed, merge.changed,
+									(System.nanoTime() - start) / 1_000_000);
+						}
+					});
+		} catch (RuntimeException e) {
+			try {
+				closeAll(from, to);
+			} finally {
+				close(streamManager);
+			}
+			String message = String.format(MessageCode.PAYROLL_RECONCILE_FAIL.getMessage(), toMonth, fromMonth,
+					e.getMessage());
+			log.error(message, e);
+			throw new GlobalException(message, e);
+		}
+	}
+
+	private ScrollableResults<Object[]> scroll(Session session, int period) {
+		return session.createQuery(MONTH_QUERY, Object[].class)
+				.setParameter("period", period)
+				.setFetchSize(fetchSize)
+				.setReadOnly(true)
+				.scroll(ScrollMode.FORWARD_ONLY);
+	}
+
+	/** A cursor as an iterator over its rows. */
+	private static Iterator<Object[]> rows(ScrollableResults<Object[]> results) {
+		return new Iterator<>() {
+
+			private Boolean advanced;
+
+			@Override
+			public boolean hasNext() {
+				if (advanced == null) {
+					advanced = results.next();
+				}
+				return advanced;
+			}
+
+			@Override
+			public Object[] next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				advanced = null;
+				return results.get();
+			}
+		};
+	}
+
+	private static void closeAll(ScrollableResults<?> from, ScrollableResults<?> to) {
+		try {
+			if (from != null) {
+				from.close();
+			}
+		} finally {
+			if (to != null) {
+				to.close();
+			}
+		}
+	}
+
+	private static void close(EntityManager streamManager) {
+		try {
+			if (streamManager.getTransaction().isActive()) {
+				streamManager.getTransaction().rollback();
+			}
+		} finally {
+			streamManager.close();
+		}
+	}
+
+	/**
+	 * Merge-joins two months' rows ordered by employee ID, each row being
+	 * {@code employeeId, basicPay, bonus, deductions, netPay}.
+	 */
+	static final class MergeIterator implements Iterator<PayrollDiffLine> {
+
+		private final Iterator<Object[]> from;
+		private final Iterator<Object[]> to;
+		private Object[] fromRow;
+		private Object[] toRow;
+		private PayrollDiffLine next;
+		private long fromLines;
+		private long toLines;
+		private long added;
+		private long removed;
+		private long changed;
+
+		MergeIterator(Iterator<Object[]> from, Iterator<Object[]> to) {
+			this.from = from;
+			this.to = to;
+			nextFrom();
+			nextTo();
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == null && (fromRow != null || toRow != null)) {
+				int c = fromRow == null ? 1 : toRow == null ? -1 : Long.compare(employeeId(fromRow), employeeId(toRow));
+				if (c < 0) {
+					next = line(Change.REMOVED, fromRow, null);
+					removed++;
+					nextFrom();
+				} else if (c > 0) {
+					next = line(Change.ADDED, null, toRow);
+					added++;
+					nextTo();
+				} else {
+					if (!sameAmounts(fromRow, toRow)) {
+						next = line(Change.CHANGED, fromRow, toRow);
+						changed++;
+					}
+					nextFrom();
+					nextTo();
+				}
+			}
+			return next != null;
+		}
+
+		@Override
+		public PayrollDiffLine next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			PayrollDiffLine line = next;
+			next = null;
+			return line;
+		}
+
+		private void nextFrom() {
+			fromRow = advance(from);
+			fromLines += fromRow != null ? 1 : 0;
+		}
+
+		private void nextTo() {
+			toRow = advance(to);
+			toLines += toRow != null ? 1 : 0;
+		}
+
+		private static Object[] advance(Iterator<Object[]> rows) {
+			return rows.hasNext() ? rows.next() : null;
+		}
+
+		private static long employeeId(Object[] row) {
+			// lines without an employee sort first, as in the query
+			return row[0] == null ? Long.MIN_VALUE : ((Number) row[0]).longValue();
+		}
+
+		private static boolean sameAmounts(Object[] a, Object[] b) {
+			for (int i = 1; i <= 4; i++) {
+				if (amount(a, i).compareTo(amount(b, i)) != 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/** The line's changes; its deltas are {@code to - from}, a missing line counting as zero. */
+		private static PayrollDiffLine line(Change change, Object[] fromRow, Object[] toRow) {
+			Object[] row = toRow != null ? toRow : fromRow;
+			return new PayrollDiffLine(row[0] == null ? null : ((Number) row[0]).longValue(), change,
+					delta(fromRow, toRow, 1), delta(fromRow, toRow, 2), delta(fromRow, toRow, 3),
+					delta(fromRow, toRow, 4), fromRow == null ? null : amount(fromRow, 4),
+					toRow == null ? null : amount(toRow, 4));
+		}
+
+		private static BigDecimal delta(Object[] fromRow, Object[] toRow, int i) {
+			return amount(toRow, i).subtract(amount(fromRow, i));
+		}
+
+		private static BigDecimal amount(Object[] row, int i) {
+			return row == null || row[i] == null ? BigDecimal.ZERO : (BigDecimal) row[i];
+		}
+	}
+
+}
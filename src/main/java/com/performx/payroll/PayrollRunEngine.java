@@ -0,0 +1,277 @@
+package com.performx.payroll;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.performx.cache.QueryResultCache;
+import com.performx.constant.MessageCode;
+import com.performx.entity.Payroll;
+import com.performx.entity.PayrollRun;
+import com.performx.entity.PayrollRunPartition;
+import com.performx.exception.GlobalException;
+import com.performx.repository.PayrollRunPartitionRepository;
+import com.performx.repository.PayrollRunRepository;
+import com.performx.response.PayrollRunResult;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates a month's payroll rows from the employee table.
+ *
+ * <p>
+ * The employee ID space is cut into ranges of {@code partition-size} IDs,
+ * fixed in {@code payroll_run} on the first attempt. Each range is one
+ * transaction on a bounded worker pool, writing to the month's own partition
+ * (see {@link PayrollStorage}): it reads the range's eligible
+ * employees, replaces the month's payroll rows for that range with JDBC-batched
+ * inserts, and writes its checkpoint to {@code payroll_run_partition}. A range
+ * is therefore either fully written and checkpointed or not at all, and a
+ * rerun of a failed month only processes the ranges without a checkpoint.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PayrollRunEngine {
+
+	public static final String RUNNING = "RUNNING";
+	public static final String COMPLETED = "COMPLETED";
+	public static final String FAILED = "FAILED";
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private final PayrollRunRepository runRepository;
+	private final PayrollRunPartitionRepository partitionRepository;
+	private final PayrollCalculator calculator;
+	private final PayrollStorage storage;
+	private final QueryResultCache queryResultCache;
+	private final TransactionTemplate transaction;
+	private final ExecutorService workers;
+	private final int partitionSize;
+	private final int jdbcBatchSize;
+	private final String eligibleStatus;
+	private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+	public PayrollRunEngine(PayrollRunRepository runRepository, PayrollRunPartitionRepository partitionRepository,
+			PayrollCalculator calculator, PayrollStorage storage, QueryResultCache queryResultCache,
+			PlatformTransactionManager transactionManager,
+			@Value("${performx.payroll.partition-size:5000}") int partitionSize,
+			@Value("${performx.payroll.parallelism:4}") int parallelism,
+			@Value("${performx.bulk.jdbc-batch-size:500}") int jdbcBatchSize,
+			@Value("${performx.payroll.eligible-status:ACTIVE}") String eligibleStatus) {
+		this.runRepository = runRepository;
+		this.partitionRepository = partitionRepository;
+		this.calculator = calculator;
+		this.storage = storage;
+		this.queryResultCache = queryResultCache;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.partitionSize = partitionSize;
+		this.jdbcBatchSize = jdbcBatchSize;
+		this.eligibleStatus = eligibleStatus;
+		AtomicInteger threads = new AtomicInteger();
+		this.workers = Executors.newFixedThreadPool(parallelism, task -> {
+			Thread thread = new Thread(task, "payroll-run-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Runs, or resumes, the payroll of a month.
+	 *
+	 * @param month The month as {@code yyyy-MM}.
+	 * @throws GlobalException If the month is invalid, archived or already
+	 *                         running, or if any partition failed; the run can
+	 *                         then be resumed.
+	 */
+	public PayrollRunResult run(String month) {
+		PayPeriod.of(month); // validates
+		if (storage.isArchived(month)) {
+			throw new GlobalException(String.format(MessageCode.PAYROLL_MONTH_ARCHIVED.getMessage(), month));
+		}
+		if (!running.add(month)) {
+			throw new GlobalException(String.format(MessageCode.PAYROLL_RUN_IN_PROGRESS.getMessage(), month));
+		}
+		try {
+			return execute(month);
+		} finally {
+			running.remove(month);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+	}
+
+	private PayrollRunResult execute(String month) {
+		long start = System.nanoTime();
+		storage.ensurePartition(month);
+		PayrollRun run = transaction.execute(status -> startRun(month));
+		Map<Integer, PayrollRunPartition> done = partitionRepository.findByMonth(month).stream()
+				.collect(Collectors.toMap(PayrollRunPartition::getPartitionNo, p -> p));
+		log.info(MessageCode.PAYROLL_RUN_START.getMessage(), month, run.getPartitions(), run.getPartitionSize(),
+				done.size());
+
+		List<Future<PayrollRunPartition>> pending = new ArrayList<>();
+		for (int partitionNo = 0; partitionNo < run.getPartitions(); partitionNo++) {
+			if (!done.containsKey(partitionNo)) {
+				int n = partitionNo;
+				pending.add(workers.submit(() -> transaction.execute(status -> runPartition(run, n))));
+			}
+		}
+		int failed = 0;
+		for (Future<PayrollRunPartition> future : pending) {
+			try {
+				PayrollRunPartition partition = future.get();
+				done.put(partition.getPartitionNo(), partition);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failed++;
+			} catch (ExecutionException e) {
+				failed++;
+				log.error(String.format(MessageCode.PAYROLL_PARTITION_FAIL.getMessage(), month,
+						e.getCause().getMessage()), e.getCause());
+			}
+		}
+		if (pending.size() > failed) {
+			// partitions that committed have replaced rows of the month
+			queryResultCache.invalidate(Payroll.class);
+		}
+
+		String outcome = failed == 0 ? COMPLETED : FAILED;
+		transaction.executeWithoutResult(status -> {
+			run.setStatus(outcome);
+			run.setFinishedAt(new Timestamp(System.currentTimeMillis()));
+			runRepository.save(run);
+		});
+		long employees = done.values().stream().mapToLong(PayrollRunPartition::getEmployees).sum();
+		BigDecimal netPay = done.values().stream().map(PayrollRunPartition::getTotalNetPay)
+				.reduce(BigDecimal.ZERO, BigDecimal::add);
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		if (failed > 0) {
+			throw new GlobalException(
+					String.format(MessageCode.PAYROLL_RUN_FAIL.getMessage(), month, failed, run.getPartitions()));
+		}
+		log.info(MessageCode.PAYROLL_RUN_COMPLETE.getMessage(), month, employees, netPay, elapsedMillis);
+		return new PayrollRunResult(month, outcome, run.getPartitions(), run.getPartitions() - pending.size(),
+				pending.size(), employees, netPay, elapsedMillis);
+	}
+
+	/**
+	 * Loads the month's run, or fixes its partitions from the current employee
+	 * ID range on the first attempt.
+	 */
+	private PayrollRun startRun(String month) {
+		PayrollRun run = runRepository.findById(month).orElse(null);
+		if (run == null) {
+			Object[] range = entityManager.createQuery("select min(e.id), max(e.id) from Employee e", Object[].class)
+					.getSingleResult();
+			long first = range[0] == null ? 0 : ((Number) range[0]).longValue();
+			long last = range[1] == null ? -1 : ((Number) range[1]).longValue();
+			int partitions = (int) ((last - first + partitionSize) / partitionSize);
+			run = new PayrollRun(month, first, last, partitionSize, partitions, RUNNING,
+					new Timestamp(System.currentTimeMillis()), null);
+		} else {
+			run.setStatus(RUNNING);
+			run.setFinishedAt(null);
+		}
+		return runRepository.save(run);
+	}
+
+	/**
+	 * Replaces the month's payroll rows of one employee ID range and records its
+	 * checkpoint, inside the caller's transaction.
+	 */
+	private PayrollRunPartition runPartition(PayrollRun run, int partitionNo) {
+		long start = System.nanoTime();
+		long from = run.getFirstEmployeeId() + (long) partitionNo * run.getPartitionSize();
+		long to = Math.min(from + run.getPartitionSize(), run.getLastEmployeeId() + 1);
+		String month = run.getMonth();
+
+		entityManager.createQuery("delete from Payroll p where p.payPeriod = :period"
+				+ " and p.employeeId >= :from and p.employeeId < :to")
+				.setParameter("period", PayPeriod.of(month))
+				.setParameter("from", BigInteger.valueOf(from))
+				.setParameter("to", BigInteger.valueOf(to))
+				.executeUpdate();
+		List<Object[]> employees = entityManager.createQuery("select e.id, e.salary from Employee e"
+				+ " where e.id >= :from and e.id < :to and e.status = :status order by e.id", Object[].class)
+				.setParameter("from", from)
+				.setParameter("to", to)
+				.setParameter("status", eligibleStatus)
+				.getResultList();
+
+		entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		Date generatedDate = Date.valueOf(LocalDate.now());
+		PayColumns pay = calculator.calculateExact(employees.stream().map(e -> (BigDecimal) e[1]).toList());
+		BigDecimal totalNetPay = BigDecimal.ZERO;
+		int pending = 0;
+		for (int i = 0; i < employees.size(); i++) {
+			Object[] employee = employees.get(i);
+			Payroll payroll = new Payroll();
+			payroll.setEmployeeId(BigInteger.valueOf(((Number) employee[0]).longValue()));
+			payroll.setMonth(month);
+			if (pay != null) {
+				payroll.setBasicPay(FixedPoint.toDecimal(pay.basicPay(i)));
+				payroll.setBonus(FixedPoint.toDecimal(pay.bonus(i)));
+				payroll.setDeductions(FixedPoint.toDecimal(pay.deductions(i)));
+				payroll.setNetPay(FixedPoint.toDecimal(pay.netPay(i)));
+			} else {
+				PayLine line = calculator.calculate((BigDecimal) employee[1]);
+				payroll.setBasicPay(line.basicPay());
+				payroll.setBonus(line.bonus());
+				payroll.setDeductions(line.deductions());
+				payroll.setNetPay(line.netPay());
+				totalNetPay = totalNetPay.add(line.netPay());
+			}
+			payroll.setGeneratedDate(generatedDate);
+			payroll.setCreatedAt(now);
+			entityManager.persist(payroll);
+			if (++pending == jdbcBatchSize) {
+				entityManager.flush();
+				entityManager.clear();
+				pending = 0;
+			}
+		}
+		if (pay != null) {
+			totalNetPay = FixedPoint.toDecimal(pay.totalNetPay());
+		}
+		PayrollRunPartition partition = new PayrollRunPartition(month + "/" + partitionNo, month, partitionNo, from,
+				to, employees.size(), totalNetPay, new Timestamp(System.currentTimeMillis()));
+		entityManager.persist(partition);
+		entityManager.flush();
+		entityManager.clear();
+		log.info(MessageCode.PAYROLL_PARTITION_DONE.getMessage(), month, partitionNo, from, to, employees.size(),
+				(System.nanoTime() - start) / 1_000_000);
+		return partition;
+	}
+
+}
@@ -0,0 +1,245 @@
+package com.performx.payroll;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.performx.cache.QueryResultCache;
+import com.performx.constant.MessageCode;
+import com.performx.entity.Payroll;
+import com.performx.entity.PayrollArchive;
+import com.performx.exception.GlobalException;
+import com.performx.repository.PayrollArchiveRepository;
+import com.performx.response.PayrollArchiveResult;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Physical layout of the payroll table: one partition per month, keyed by
+ * {@code pay_period}, and one archive table per closed month.
+ *
+ * <p>
+ * On MySQL the table is range-partitioned by {@code pay_period} (see
+ * {@code db/payroll_partitioning.sql}). A month gets its own partition, split
+ * off the catch-all {@code p_future} partition, before its first payroll run;
+ * filters on {@code month} also constrain {@code pay_period} (see
+ * {@link com.performx.query.PartitionKey}), so MySQL only reads the
+ * partitions of the months asked for. Other databases keep one table with an
+ * index on {@code pay_period}.
+ * </p>
+ *
+ * <p>
+ * Archiving moves a closed month's rows into {@code payroll_archive_yyyyMM}
+ * and records it in {@code payroll_archive}. On MySQL this exchanges the
+ * month's partition with the empty archive table, a metadata-only operation;
+ * elsewhere the rows are copied and deleted. An interrupted archive can be
+ * repeated: an archive table left behind while the rows are still live is
+ * dropped and rebuilt, one whose rows already left the table is registered.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PayrollStorage {
+
+	public static final String ARCHIVE_TABLE_PREFIX = "payroll_archive_";
+
+	private static final String FUTURE_PARTITION = "p_future";
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private final PayrollArchiveRepository archiveRepository;
+	private final QueryResultCache queryResultCache;
+	private final TransactionTemplate transaction;
+	private final int openMonths;
+
+	public PayrollStorage(PayrollArchiveRepository archiveRepository, QueryResultCache queryResultCache,
+			PlatformTransactionManager transactionManager,
+			@Value("${performx.payroll.open-months:2}") int openMonths) {
+		this.archiveRepository = archiveRepository;
+		this.queryResultCache = queryResultCache;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.openMonths = openMonths;
+	}
+
+	/** Name of the archive table of a period. */
+	public static String archiveTable(int period) {
+		return ARCHIVE_TABLE_PREFIX + period;
+	}
+
+	public boolean isArchived(String month) {
+		return archiveRepository.existsById(month);
+	}
+
+	/**
+	 * Gives a month its own partition on a partitioned MySQL table, together
+	 * with every month between it and the last monthly partition. Does nothing
+	 * elsewhere or when the month has one. Must run outside a transaction:
+	 * MySQL commits around DDL.
+	 */
+	public synchronized void ensurePartition(String month) {
+		int period = PayPeriod.of(month);
+		if (!isMySql()) {
+			return;
+		}
+		transaction.executeWithoutResult(status -> entityManager.unwrap(Session.class).doWork(connection -> {
+			List<String[]> partitions = partitions(connection);
+			if (partitions.isEmpty() || partitions.stream().anyMatch(p -> p[0].equals("p" + period))) {
+				return;
+			}
+			String[] last = partitions.get(partitions.size() - 1);
+			int from = partitions.size() > 1 ? parseBound(partitions.get(partitions.size() - 2)[1]) : period;
+			if (!FUTURE_PARTITION.equals(last[0]) || from < 0 || period < from) {
+				log.warn(MessageCode.PAYROLL_PARTITION_UNAVAILABLE.getMessage(), month);
+				return;
+			}
+			StringBuilder ddl = new StringBuilder("alter table payroll reorganize partition ").append(FUTURE_PARTITION)
+					.append(" into (");
+			for (int p = from; p <= period; p = PayPeriod.next(p)) {
+				ddl.append("partition p").append(p).append(" values less than (").append(PayPeriod.next(p))
+						.append("), ");
+			}
+			ddl.append("partition ").append(FUTURE_PARTITION).append(" values less than maxvalue)");
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(ddl.toString());
+			}
+			log.info(MessageCode.PAYROLL_PARTITION_ADDED.getMessage(), from, period);
+		}));
+	}
+
+	/**
+	 * Moves a closed month out of the payroll table.
+	 *
+	 * @param month The month as {@code yyyy-MM}.
+	 * @throws GlobalException If the month is invalid, still open or already
+	 *                         archived.
+	 */
+	public synchronized PayrollArchiveResult archive(String month) {
+		int period = PayPeriod.of(month);
+		if (period >= PayPeriod.firstOpen(openMonths)) {
+			throw new GlobalException(String.format(MessageCode.PAYROLL_MONTH_OPEN.getMessage(), month));
+		}
+		if (isArchived(month)) {
+			throw new GlobalException(String.format(MessageCode.PAYROLL_MONTH_ARCHIVED.getMessage(), month));
+		}
+		String table = archiveTable(period);
+		long start = System.nanoTime();
+		boolean exchange = isMySql();
+		transaction.executeWithoutResult(status -> entityManager.unwrap(Session.class).doWork(connection -> {
+			long live = count(connection, "select count(*) from payroll where pay_period = " + period);
+			boolean exists = tableExists(connection, table);
+			try (Statement statement = connection.createStatement()) {
+				if (exists && live > 0) {
+					// left behind by an attempt whose delete did not commit
+					statement.execute("drop table " + table);
+					exists = false;
+				}
+				if (!exists) {
+					if (exchange && partitions(connection).stream().anyMatch(p -> p[0].equals("p" + period))) {
+						statement.execute("create table " + table + " like payroll");
+						statement.execute("alter table " + table + " remove partitioning");
+						statement.execute("alter table payroll exchange partition p" + period + " with table " + table);
+					} else {
+						statement.execute(
+								"create table " + table + " as select * from payroll where pay_period = " + period);
+					}
+				}
+			}
+		}));
+		PayrollArchive archive = transaction.execute(status -> {
+			entityManager.createQuery("delete from Payroll p where p.payPeriod = :period")
+					.setParameter("period", period)
+					.executeUpdate();
+			entityManager.createQuery("delete from PayrollDirtyLine d where d.month = :month")
+					.setParameter("month", month)
+					.executeUpdate();
+			Object[] totals = (Object[]) entityManager
+					.createNativeQuery("select count(*), sum(net_pay) from " + table)
+					.getSingleResult();
+			BigDecimal netPay = totals[1] == null ? BigDecimal.ZERO : new BigDecimal(totals[1].toString());
+			return archiveRepository.save(new PayrollArchive(month, period, table, ((Number) totals[0]).longValue(),
+					netPay, new Timestamp(System.currentTimeMillis())));
+		});
+		queryResultCache.invalidate(Payroll.class);
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		log.info(MessageCode.PAYROLL_MONTH_ARCHIVE_DONE.getMessage(), month, archive.getRowCount(), table,
+				elapsedMillis);
+		return new PayrollArchiveResult(month, table, archive.getRowCount(), archive.getTotalNetPay(), elapsedMillis);
+	}
+
+	private boolean isMySql() {
+		return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices()
+				.getDialect() instanceof MySQLDialect;
+	}
+
+	/**
+	 * Name and upper bound of every partition of the payroll table, in order;
+	 * empty when it is not partitioned or the database has no partitions.
+	 */
+	private List<String[]> partitions(Connection connection) throws SQLException {
+		List<String[]> partitions = new ArrayList<>();
+		if (!isMySql()) {
+			return partitions;
+		}
+		try (Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery("select partition_name, partition_description"
+						+ " from information_schema.partitions where table_schema = database()"
+						+ " and table_name = 'payroll' and partition_name is not null"
+						+ " order by partition_ordinal_position")) {
+			while (rs.next()) {
+				partitions.add(new String[] { rs.getString(1), rs.getString(2) });
+			}
+		}
+		return partitions;
+	}
+
+	/** A partition bound that is a valid period, or {@code -1}. */
+	private static int parseBound(String bound) {
+		try {
+			int period = Integer.parseInt(bound.trim());
+			PayPeriod.toYearMonth(period);
+			return period;
+		} catch (NumberFormatException | DateTimeException e) {
+			return -1;
+		}
+	}
+
+	private static long count(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+			return rs.next() ? rs.getLong(1) : 0;
+		}
+	}
+
+	private static boolean tableExists(Connection connection, String table) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		for (String name : new String[] { table, table.toUpperCase() }) {
+			try (ResultSet rs = metaData.getTables(connection.getCatalog(), null, name, new String[] { "TABLE" })) {
+				if (rs.next()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,186 @@
+package com.performx.query;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent key lookups into batched reads, in the style of a
+ * DataLoader.
+ *
+ * <p>
+ * A caller that finds no read in flight sends its keys at once, so an
+ * uncontended lookup pays no delay. A caller that arrives while a read is in
+ * flight opens a batch and waits up to {@code window} for others to join;
+ * callers asking for a key already in the open batch share its slot. The batch
+ * is then read with one call of the batch function, on the thread of the
+ * caller that opened it, or at once by whichever caller fills it to
+ * {@code maxBatchSize}. Nothing is kept after a batch completes: a caller only
+ * ever joins a batch that has not been sent yet, so every result was read
+ * after the call began.
+ * </p>
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class BatchLoader<K, V> {
+
+	private final Function<Collection<K>, Map<K, V>> batchFunction;
+	private final long windowNanos;
+	private final int maxBatchSize;
+	private final Object lock = new Object();
+	private Batch<K, V> open;
+	private int inFlight;
+
+	private final LongAdder requestedKeys = new LongAdder();
+	private final LongAdder loadedKeys = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+
+	/**
+	 * @param batchFunction Reads a set of keys; absent keys are left out of the
+	 *                      returned map.
+	 * @param windowNanos   How long the caller opening a batch while a read is in
+	 *                      flight waits for others to join.
+	 * @param maxBatchSize  Keys per read; a full batch is sent at once.
+	 */
+	public BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction, long windowNanos, int maxBatchSize) {
+		this.batchFunction = batchFunction;
+		this.windowNanos = windowNanos;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/** Loads one key, or {@code null} when it does not exist. */
+	public V load(K key) {
+		return loadAll(Set.of(key)).get(key);
+	}
+
+	/**
+	 * Loads a set of keys through a shared batch. Sets larger than a batch are
+	 * read directly.
+	 *
+	 * @return The values found, keyed by key; a shared batch may contain more
+	 *         keys than requested.
+	 */
+	public Map<K, V> loadAll(Collection<K> keys) {
+		requestedKeys.add(keys.size());
+		if (keys.size() >= maxBatchSize) {
+			batches.increment();
+			loadedKeys.add(keys.size());
+			synchronized (lock) {
+				inFlight++;
+			}
+			try {
+				return batchFunction.apply(keys);
+			} finally {
+				synchronized (lock) {
+					inFlight--;
+				}
+			}
+		}
+		Batch<K, V> batch;
+		boolean leader = false;
+		boolean wait = false;
+		boolean full;
+		synchronized (lock) {
+			if (open == null || !open.fits(keys, maxBatchSize)) {
+				open = new Batch<>();
+				leader = true;
+				wait = inFlight > 0;
+			}
+			batch = open;
+			batch.keys.addAll(keys);
+			full = batch.keys.size() >= maxBatchSize;
+		}
+		if (full || (leader && !wait)) {
+			dispatch(batch);
+		} else if (leader) {
+			awaitWindow(batch);
+		}
+		try {
+			return batch.result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/** Keys asked for by callers, counting each caller separately. */
+	public long getRequestedKeys() {
+		return requestedKeys.sum();
+	}
+
+	/** Distinct keys actually read. */
+	public long getLoadedKeys() {
+		return loadedKeys.sum();
+	}
+
+	/** Reads issued. */
+	public long getBatches() {
+		return batches.sum();
+	}
+
+	private void awaitWindow(Batch<K, V> batch) {
+		try {
+			batch.result.get(windowNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			dispatch(batch);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			dispatch(batch);
+		} catch (ExecutionException e) {
+			// reported to every caller by join()
+		}
+	}
+
+	private void dispatch(Batch<K, V> batch) {
+		if (!batch.dispatched.compareAndSet(false, true)) {
+			return;
+		}
+		synchronized (lock) {
+			if (open == batch) {
+				open = null;
+			}
+			inFlight++;
+		}
+		batches.increment();
+		loadedKeys.add(batch.keys.size());
+		try {
+			batch.result.complete(batchFunction.apply(batch.keys));
+		} catch (Throwable e) {
+			// an Error too, or the callers waiting in join() would never return
+			batch.result.completeExceptionally(e);
+		} finally {
+			synchronized (lock) {
+				inFlight--;
+			}
+		}
+	}
+
+	private static final class Batch<K, V> {
+
+		private final Set<K> keys = new LinkedHashSet<>();
+		private final CompletableFuture<Map<K, V>> result = new CompletableFuture<>();
+		private final AtomicBoolean dispatched = new AtomicBoolean();
+
+		private boolean fits(Collection<K> more, int maxBatchSize) {
+			return keys.size() + more.size() <= maxBatchSize;
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+package com.performx.query;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import com.performx.exception.GlobalException;
+
+/**
+ * Column-level view of an entity table used to write partial
+ * {@code UPDATE .. SET .. WHERE id = ?} statements over plain JDBC.
+ *
+ * <p>
+ * Only updatable basic, non-primitive attributes take part: a {@code null}
+ * means "leave unchanged", which a primitive cannot express. The SET list of a
+ * row is described by a {@link BitSet} of its non-null columns; the SQL for
+ * each distinct set is generated once and cached. Values are bound through
+ * Hibernate's own {@link JdbcMapping}s, so temporal precision and type
+ * conversion match what the ORM itself would write.
+ * </p>
+ *
+ * @param <T> The entity type.
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class EntityUpdateMapping<T> {
+
+	private final EntityPersister persister;
+	private final String table;
+	private final String idName;
+	private final String idColumn;
+	private final EntityIdentifierMapping idMapping;
+	private final JdbcMapping idJdbcMapping;
+	private final List<BasicValuedModelPart> columns;
+	private final Map<BitSet, String> statements = new ConcurrentHashMap<>();
+
+	private EntityUpdateMapping(EntityPersister persister, String table, String idName, String idColumn, EntityIdentifierMapping idMapping,
+			JdbcMapping idJdbcMapping, List<BasicValuedModelPart> columns) {
+		this.persister = persister;
+		this.table = table;
+		this.idName = idName;
+		this.idColumn = idColumn;
+		this.idMapping = idMapping;
+		this.idJdbcMapping = idJdbcMapping;
+		this.columns = columns;
+	}
+
+	/**
+	 * Builds the mapping of a single-table entity with a basic identifier.
+	 */
+	public static <T> EntityUpdateMapping<T> of(SessionFactoryImplementor sessionFactory, Class<T> entityClass) {
+		EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+		if (!(persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping id)) {
+			throw new GlobalException("Composite identifiers are not supported: " + entityClass.getSimpleName());
+		}
+		List<BasicValuedModelPart> columns = new ArrayList<>();
+		for (int i = 0; i < persister.getNumberOfAttributeMappings(); i++) {
+			AttributeMapping attribute = persister.getAttributeMapping(i);
+			BasicValuedModelPart basic = attribute.asBasicValuedModelPart();
+			if (basic != null && basic.isUpdateable() && !basic.isFormula()
+					&& !attribute.getJavaType().getJavaTypeClass().isPrimitive()
+					&& basic.getContainingTableExpression().equals(id.getContainingTableExpression())) {
+				columns.add(basic);
+			}
+		}
+		return new EntityUpdateMapping<>(persister, id.getContainingTableExpression(), id.getAttributeName(),
+				id.getSelectionExpression(), id, id.getJdbcMapping(), List.copyOf(columns));
+	}
+
+	public EntityPersister getPersister() {
+		return persister;
+	}
+
+	/** Name of the entity's table. */
+	public String getTable() {
+		return table;
+	}
+
+	/** Name of the identifier attribute, for JPQL. */
+	public String getIdName() {
+		return idName;
+	}
+
+	public Object getId(T entity) {
+		return idMapping.getIdentifier(entity);
+	}
+
+	/**
+	 * Reads the updatable column values of an entity, one slot per column.
+	 */
+	public Object[] values(T entity) {
+		Object[] values = new Object[columns.size()];
+		for (int c = 0; c < values.length; c++) {
+			values[c] = ((AttributeMapping) columns.get(c)).getPropertyAccess().getGetter().get(entity);
+		}
+		return values;
+	}
+
+	/** The set of non-null slots of {@code values}. */
+	public static BitSet shape(Object[] values) {
+		BitSet shape = new BitSet(values.length);
+		for (int c = 0; c < values.length; c++) {
+			if (values[c] != null) {
+				shape.set(c);
+			}
+		}
+		return shape;
+	}
+
+	/**
+	 * Returns {@code UPDATE table SET c1 = ?, .. WHERE id = ?} for the given set of
+	 * columns.
+	 */
+	public String updateSql(BitSet shape) {
+		return statements.computeIfAbsent(shape, s -> {
+			StringBuilder sql = new StringBuilder("update ").append(table).append(" set ");
+			for (int c = s.nextSetBit(0); c >= 0; c = s.nextSetBit(c + 1)) {
+				sql.append(columns.get(c).getSelectionExpression()).append(" = ?");
+				if (s.nextSetBit(c + 1) >= 0) {
+					sql.append(", ");
+				}
+			}
+			return sql.append(" where ").append(idColumn).append(" = ?").toString();
+		});
+	}
+
+	/**
+	 * Binds one row of the statement returned by {@link #updateSql(BitSet)}.
+	 */
+	public void bind(PreparedStatement statement, BitSet shape, Object[] values, Object id, WrapperOptions options)
+			throws SQLException {
+		int index = 1;
+		for (int c = shape.nextSetBit(0); c >= 0; c = shape.nextSetBit(c + 1)) {
+			bindValue(statement, columns.get(c).getJdbcMapping(), values[c], index++, options);
+		}
+		bindValue(statement, idJdbcMapping, id, index, options);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void bindValue(PreparedStatement statement, JdbcMapping mapping, Object value, int index,
+			WrapperOptions options) throws SQLException {
+		mapping.getJdbcValueBinder().bind(statement, mapping.convertToRelationalValue(value), index, options);
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.performx.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.performx.constant.MessageCode;
+import com.performx.request.FilterRequest;
+import com.performx.util.TypeConverterRegistry;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded LRU cache of {@link FilterQueryPlan}s keyed by entity and request
+ * fingerprint, with hit/miss/eviction counters.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class FilterPlanCache {
+
+	private final Metamodel metamodel;
+	private final TypeConverterRegistry converters;
+	private final InListStrategy inLists;
+	private final int maxSize;
+	private final Map<String, FilterQueryPlan> plans;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public FilterPlanCache(EntityManagerFactory entityManagerFactory, TypeConverterRegistry converters,
+			InListStrategy inLists, @Value("${performx.query.plan-cache-size:256}") int maxSize) {
+		this.metamodel = entityManagerFactory.getMetamodel();
+		this.converters = converters;
+		this.inLists = inLists;
+		this.maxSize = maxSize;
+		this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, FilterQueryPlan> eldest) {
+				if (size() > FilterPlanCache.this.maxSize) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached plan for the request's structure, compiling it on a miss.
+	 */
+	public FilterQueryPlan getPlan(Class<?> entityClass, FilterRequest request) {
+		EntityType<?> entityType = metamodel.entity(entityClass);
+		String fingerprint = FilterQueryPlan.fingerprint(request, entityType, inLists);
+		String key = entityClass.getName() + '|' + fingerprint;
+		FilterQueryPlan plan;
+		synchronized (plans) {
+			plan = plans.get(key);
+		}
+		if (plan != null) {
+			hits.increment();
+			return plan;
+		}
+		misses.increment();
+		plan = FilterQueryPlan.compile(fingerprint, entityType, request, converters, inLists);
+		log.debug(MessageCode.FILTER_PLAN_COMPILED.getMessage(), entityType.getName(), plan.getSelectJpql());
+		synchronized (plans) {
+			plans.putIfAbsent(key, plan);
+		}
+		return plan;
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	public int size() {
+		synchronized (plans) {
+			return plans.size();
+		}
+	}
+
+	public void clear() {
+		synchronized (plans) {
+			plans.clear();
+		}
+	}
+
+}
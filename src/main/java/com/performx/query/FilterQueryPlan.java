@@ -0,0 +1,354 @@
+package com.performx.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.performx.constant.FilterOperator;
+import com.performx.constant.LogicalOperator;
+import com.performx.constant.SortDirection;
+import com.performx.exception.GlobalException;
+import com.performx.query.ParameterBinder.Source;
+import com.performx.request.FilterCondition;
+import com.performx.request.FilterRequest;
+import com.performx.request.SortOrder;
+import com.performx.util.TypeConverterRegistry;
+
+import jakarta.persistence.Query;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+
+/**
+ * A {@link FilterRequest} compiled into parameterized JPQL plus one typed
+ * {@link ParameterBinder} per placeholder.
+ *
+ * <p>
+ * Requests with the same fields, operators, logical operator and sort orders
+ * share a {@link #fingerprint(FilterRequest, EntityType, InListStrategy)} and
+ * therefore a plan; only the values differ. Because the JPQL text is identical
+ * across such requests, Hibernate's own query plan cache also skips re-parsing
+ * and SQM-to-SQL translation. Field names are validated against the JPA metamodel before
+ * they are written into the JPQL.
+ * </p>
+ *
+ * <p>
+ * Conditions on the source of a {@link PartitionKey} also constrain the key,
+ * so the database can prune partitions.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class FilterQueryPlan {
+
+	private static final String ALIAS = "e";
+
+	/** The shape of an IN list read from the temporary table. */
+	private static final int TEMP_TABLE = 0;
+
+	private final String fingerprint;
+	private final String selectJpql;
+	private final String countJpql;
+	private final String existsJpql;
+	private final String projectionJpql;
+	private final String whereClause;
+	private final List<ParameterBinder> binders;
+	private final boolean usesTempTable;
+
+	private FilterQueryPlan(String fingerprint, String selectJpql, String countJpql, String existsJpql,
+			String projectionJpql, String whereClause, List<ParameterBinder> binders) {
+		this.fingerprint = fingerprint;
+		this.selectJpql = selectJpql;
+		this.countJpql = countJpql;
+		this.existsJpql = existsJpql;
+		this.projectionJpql = projectionJpql;
+		this.whereClause = whereClause;
+		this.binders = binders;
+		this.usesTempTable = binders.stream().anyMatch(b -> b.getSource() == Source.TEMP_TABLE);
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	/** {@code select e from Entity e [where ..] [order by ..]} */
+	public String getSelectJpql() {
+		return selectJpql;
+	}
+
+	/** {@code select count(*) from Entity e [where ..]} */
+	public String getCountJpql() {
+		return countJpql;
+	}
+
+	/**
+	 * {@code select 1 from Entity e [where ..]}, to be run with a limit of one
+	 * row.
+	 */
+	public String getExistsJpql() {
+		return existsJpql;
+	}
+
+	/**
+	 * {@code select e.f1, e.f2, .. from Entity e [where ..] [order by ..]} over the
+	 * request's fields, {@code null} when it names none.
+	 */
+	public String getProjectionJpql() {
+		return projectionJpql;
+	}
+
+	/** The WHERE clause alone (without the keyword), empty when unfiltered. */
+	public String getWhereClause() {
+		return whereClause;
+	}
+
+	public List<ParameterBinder> getBinders() {
+		return binders;
+	}
+
+	/**
+	 * Whether an IN list is read from the temporary table. Such a query's result
+	 * depends on more than its parameters, so it must not be put in Hibernate's
+	 * query cache.
+	 */
+	public boolean usesTempTable() {
+		return usesTempTable;
+	}
+
+	/**
+	 * Binds the values of the given request, which must share this plan's
+	 * fingerprint.
+	 */
+	public void bind(Query query, FilterRequest request) {
+		List<FilterCondition> conditions = request != null && request.getConditions() != null
+				? request.getConditions()
+				: Collections.emptyList();
+		for (ParameterBinder binder : binders) {
+			binder.bind(query, conditions);
+		}
+	}
+
+	/**
+	 * Canonical structural key of a request: everything that shapes the query,
+	 * nothing that only supplies a value. The length of an IN list only shapes
+	 * the JPQL through the way the list is sent, see {@link #inListShapes}.
+	 */
+	public static String fingerprint(FilterRequest request, EntityType<?> entityType, InListStrategy inLists) {
+		StringBuilder sb = new StringBuilder();
+		if (request == null) {
+			return sb.toString();
+		}
+		sb.append(request.getLogicalOperator() == LogicalOperator.OR ? "OR" : "AND").append('|');
+		if (request.getConditions() != null) {
+			int[] shapes = inListShapes(entityType, request.getConditions(), inLists);
+			for (int i = 0; i < shapes.length; i++) {
+				FilterCondition fc = request.getConditions().get(i);
+				sb.append(fc.getField()).append(':').append(fc.getOperator());
+				if (shapes[i] == TEMP_TABLE) {
+					sb.append("#T");
+				} else if (shapes[i] > 1) {
+					sb.append("#C").append(shapes[i]);
+				}
+				sb.append(';');
+			}
+		}
+		sb.append('|');
+		if (request.getSortOrders() != null) {
+			for (SortOrder so : request.getSortOrders()) {
+				sb.append(so.getField()).append(':').append(so.getDirection() == SortDirection.DESC ? "D" : "A")
+						.append(';');
+			}
+		}
+		if (request.getFields() != null && !request.getFields().isEmpty()) {
+			sb.append("|f=").append(String.join(",", request.getFields()));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Compiles a request against an entity.
+	 */
+	public static FilterQueryPlan compile(String fingerprint, EntityType<?> entityType, FilterRequest request,
+			TypeConverterRegistry converters, InListStrategy inLists) {
+		String from = " from " + entityType.getName() + " " + ALIAS;
+		List<ParameterBinder> binders = new ArrayList<>();
+		List<String> clauses = new ArrayList<>();
+		PartitionKeys keys = PartitionKeys.of(entityType.getJavaType());
+		if (request != null && request.getConditions() != null) {
+			List<FilterCondition> conditions = request.getConditions();
+			int[] shapes = inListShapes(entityType, conditions, inLists);
+			for (int i = 0; i < conditions.size(); i++) {
+				String clause = compileCondition(entityType, conditions.get(i), i, shapes[i], binders, converters,
+						inLists);
+				PartitionKeys.Key key = keys.keyFor(conditions.get(i));
+				if (key != null) {
+					clause = "(" + clause + " and "
+							+ compileKeyCondition(entityType, key, conditions.get(i), i, binders, converters, inLists)
+							+ ")";
+				}
+				clauses.add(clause);
+			}
+		}
+		String where = "";
+		if (!clauses.isEmpty()) {
+			String joiner = request.getLogicalOperator() == LogicalOperator.OR ? " or " : " and ";
+			where = String.join(joiner, clauses);
+		}
+		String whereSql = where.isEmpty() ? "" : " where " + where;
+		StringBuilder orderBy = new StringBuilder();
+		if (request != null && request.getSortOrders() != null) {
+			for (SortOrder so : request.getSortOrders()) {
+				orderBy.append(orderBy.length() == 0 ? " order by " : ", ").append(path(entityType, so.getField()))
+						.append(so.getDirection() == SortDirection.DESC ? " desc" : " asc");
+			}
+		}
+		String projection = null;
+		if (request != null && request.getFields() != null && !request.getFields().isEmpty()) {
+			List<String> columns = new ArrayList<>(request.getFields().size());
+			for (String field : request.getFields()) {
+				columns.add(path(entityType, field));
+			}
+			projection = "select " + String.join(", ", columns) + from + whereSql + orderBy;
+		}
+		return new FilterQueryPlan(fingerprint, "select " + ALIAS + from + whereSql + orderBy,
+				"select count(*)" + from + whereSql, "select 1" + from + whereSql, projection, where,
+				List.copyOf(binders));
+	}
+
+	/**
+	 * How the IN list of each condition is sent: {@link #TEMP_TABLE} for the
+	 * first list the temporary table takes, since MySQL cannot open a temporary
+	 * table twice in one statement; otherwise the number of chunks of at most
+	 * {@code in-clause-size} values it is bound in, joined with OR, so no one
+	 * list grows past the database's limits. {@code 1} for other conditions.
+	 */
+	private static int[] inListShapes(EntityType<?> entityType, List<FilterCondition> conditions,
+			InListStrategy inLists) {
+		int[] shapes = new int[conditions.size()];
+		boolean tempTableFree = true;
+		for (int i = 0; i < shapes.length; i++) {
+			FilterCondition fc = conditions.get(i);
+			shapes[i] = 1;
+			if (fc.isCollectionBased() && fc.getValue() instanceof Collection<?> values) {
+				if (tempTableFree && inLists.usesTempTable(values.size(),
+						attribute(entityType, fc.getField()).getJavaType())) {
+					shapes[i] = TEMP_TABLE;
+					tempTableFree = false;
+				} else {
+					shapes[i] = Math.max(1, inLists.chunkCount(values.size()));
+				}
+			}
+		}
+		return shapes;
+	}
+
+	private static String compileCondition(EntityType<?> entityType, FilterCondition fc, int index, int shape,
+			List<ParameterBinder> binders, TypeConverterRegistry converters, InListStrategy inLists) {
+		if (fc.getOperator() == null) {
+			throw new GlobalException("Operator is required for field: " + fc.getField());
+		}
+		String path = path(entityType, fc.getField());
+		Class<?> type = attribute(entityType, fc.getField()).getJavaType();
+		String p = "p" + index;
+		switch (fc.getOperator()) {
+		case EQUALS:
+			return bind(binders, path + " = :", p, index, Source.VALUE, type, converters);
+		case NOT_EQUALS:
+			return bind(binders, path + " <> :", p, index, Source.VALUE, type, converters);
+		case GREATER_THAN:
+			return bind(binders, path + " > :", p, index, Source.VALUE, type, converters);
+		case GREATER_THAN_EQUAL:
+			return bind(binders, path + " >= :", p, index, Source.VALUE, type, converters);
+		case LESS_THAN:
+			return bind(binders, path + " < :", p, index, Source.VALUE, type, converters);
+		case LESS_THAN_EQUAL:
+			return bind(binders, path + " <= :", p, index, Source.VALUE, type, converters);
+		case BETWEEN:
+			binders.add(new ParameterBinder(p + "a", index, Source.VALUE, type, converters));
+			binders.add(new ParameterBinder(p + "b", index, Source.ADDITIONAL_VALUE, type, converters));
+			return "(" + path + " between :" + p + "a and :" + p + "b)";
+		case LIKE:
+			if (type != String.class) {
+				throw new GlobalException("LIKE is only valid for String fields: " + fc.getField());
+			}
+			return bind(binders, path + " like :", p, index, Source.LIKE_PATTERN, type, converters);
+		case IN:
+		case NOT_IN: {
+			boolean isIn = fc.getOperator() == FilterOperator.IN;
+			String in = isIn ? " in (" : " not in (";
+			if (shape == TEMP_TABLE) {
+				binders.add(new ParameterBinder(p, index, Source.TEMP_TABLE, type, converters, inLists));
+				return "(" + path + in + InListStrategy.subquery(type, index) + "))";
+			}
+			binders.add(new ParameterBinder(p, index, Source.COLLECTION, type, converters, inLists, null, shape));
+			if (shape == 1) {
+				return "(" + path + in + ":" + p + "))";
+			}
+			// x in (a or b), x not in (a and b)
+			List<String> chunks = new ArrayList<>(shape);
+			for (int c = 0; c < shape; c++) {
+				chunks.add(path + in + ":" + ParameterBinder.chunkName(p, c) + ")");
+			}
+			return "(" + String.join(isIn ? " or " : " and ", chunks) + ")";
+		}
+		case IS_NULL:
+			return "(" + path + " is null)";
+		case IS_NOT_NULL:
+			return "(" + path + " is not null)";
+		default:
+			throw new GlobalException("Unsupported operator: " + fc.getOperator());
+		}
+	}
+
+	/**
+	 * The condition on a partition key implied by a condition on its source,
+	 * bound from the source condition's values.
+	 */
+	private static String compileKeyCondition(EntityType<?> entityType, PartitionKeys.Key key, FilterCondition fc,
+			int index, List<ParameterBinder> binders, TypeConverterRegistry converters, InListStrategy inLists) {
+		String path = path(entityType, key.field());
+		Class<?> type = attribute(entityType, key.field()).getJavaType();
+		String p = "p" + index + "k";
+		switch (key.derive(fc.getOperator())) {
+		case EQUALS:
+			binders.add(new ParameterBinder(p, index, Source.VALUE, type, converters, inLists, key));
+			return "(" + path + " = :" + p + ")";
+		case GREATER_THAN_EQUAL:
+			binders.add(new ParameterBinder(p, index, Source.VALUE, type, converters, inLists, key));
+			return "(" + path + " >= :" + p + ")";
+		case LESS_THAN_EQUAL:
+			binders.add(new ParameterBinder(p, index, Source.VALUE, type, converters, inLists, key));
+			return "(" + path + " <= :" + p + ")";
+		case BETWEEN:
+			binders.add(new ParameterBinder(p + "a", index, Source.VALUE, type, converters, inLists, key));
+			binders.add(new ParameterBinder(p + "b", index, Source.ADDITIONAL_VALUE, type, converters, inLists, key));
+			return "(" + path + " between :" + p + "a and :" + p + "b)";
+		case IN:
+			// the distinct keys of a list are few, so always bound
+			binders.add(new ParameterBinder(p, index, Source.COLLECTION, type, converters, inLists, key));
+			return "(" + path + " in (:" + p + "))";
+		default:
+			throw new GlobalException("Unsupported partition key operator: " + fc.getOperator());
+		}
+	}
+
+	private static String bind(List<ParameterBinder> binders, String prefix, String name, int index, Source source,
+			Class<?> type, TypeConverterRegistry converters) {
+		binders.add(new ParameterBinder(name, index, source, type, converters));
+		return "(" + prefix + name + ")";
+	}
+
+	private static String path(EntityType<?> entityType, String field) {
+		return ALIAS + "." + attribute(entityType, field).getName();
+	}
+
+	private static Attribute<?, ?> attribute(EntityType<?> entityType, String field) {
+		try {
+			return entityType.getAttribute(field);
+		} catch (IllegalArgumentException e) {
+			throw new GlobalException("Unknown field '" + field + "' for " + entityType.getName(), e);
+		}
+	}
+
+}
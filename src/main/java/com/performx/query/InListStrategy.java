@@ -0,0 +1,279 @@
+package com.performx.query;
+
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.performx.exception.GlobalException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * How IN lists reach the database, by size:
+ *
+ * <ul>
+ * <li>Up to {@code in-clause-size} values: one IN list, padded to the next
+ * power of two by repeating its last value, so lists of similar length share
+ * one SQL string and statement plan.</li>
+ * <li>Larger ID lookups are split into chunks of {@code in-clause-size}, read
+ * in parallel when no transaction needs them on one connection. Larger filter
+ * lists are split into chunks joined with OR in the one statement.</li>
+ * <li>Above {@code temp-table-threshold} values of an integral or string
+ * type: the values are batch-inserted into the connection's temporary table
+ * {@value #TABLE} and joined with a subquery, so the statement carries no
+ * per-value parameters at all. MySQL cannot open a temporary table twice in
+ * one statement, so only one list of a statement is sent this way; the others
+ * are chunked.</li>
+ * </ul>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Component
+public class InListStrategy {
+
+	public static final String TABLE = "performx_in_list";
+
+	private static final String NUMBER_COLUMN = "numValue";
+	private static final String STRING_COLUMN = "strValue";
+
+	private final int chunkSize;
+	private final boolean padding;
+	private final int tempTableThreshold;
+	private final ExecutorService executor;
+	private volatile String createTableSql;
+
+	private final LongAdder paddedLists = new LongAdder();
+	private final LongAdder chunkedLists = new LongAdder();
+	private final LongAdder tempTableLists = new LongAdder();
+
+	public InListStrategy(@Value("${performx.query.in-clause-size:1000}") int chunkSize,
+			@Value("${performx.query.in-list.padding:true}") boolean padding,
+			@Value("${performx.query.in-list.temp-table-threshold:10000}") int tempTableThreshold,
+			@Value("${performx.query.in-list.parallelism:4}") int parallelism) {
+		this.chunkSize = chunkSize;
+		this.padding = padding;
+		this.tempTableThreshold = tempTableThreshold;
+		AtomicInteger threads = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(parallelism, task -> {
+			Thread thread = new Thread(task, "in-list-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/** Whether a list is past the temporary-table threshold. */
+	public boolean isLarge(int size) {
+		return size > tempTableThreshold;
+	}
+
+	/**
+	 * Whether a list of {@code size} values of {@code type} is joined from the
+	 * temporary table rather than bound.
+	 */
+	public boolean usesTempTable(int size, Class<?> type) {
+		return isLarge(size) && valueColumn(type) != null;
+	}
+
+	/**
+	 * JPQL subquery over list {@code listNo} of the temporary table, for use as
+	 * {@code path in (..)}.
+	 */
+	public static String subquery(Class<?> type, int listNo) {
+		return "select v." + valueColumn(type) + " from InListValue v where v.listNo = " + listNo;
+	}
+
+	/** The {@code InListValue} attribute holding values of {@code type}, or {@code null}. */
+	public static String valueColumn(Class<?> type) {
+		if (type == Long.class || type == long.class || type == Integer.class || type == int.class
+				|| type == Short.class || type == short.class || type == Byte.class || type == byte.class
+				|| type == BigInteger.class) {
+			return NUMBER_COLUMN;
+		}
+		return type == String.class ? STRING_COLUMN : null;
+	}
+
+	/**
+	 * Pads a list to its bucket size by repeating the last value; duplicates do
+	 * not change the result of IN or NOT IN.
+	 */
+	public <V> List<V> pad(List<V> values) {
+		if (!padding || values.isEmpty()) {
+			return values;
+		}
+		int target = paddedSize(values.size());
+		if (target == values.size()) {
+			return values;
+		}
+		List<V> padded = new ArrayList<>(target);
+		padded.addAll(values);
+		V last = values.get(values.size() - 1);
+		while (padded.size() < target) {
+			padded.add(last);
+		}
+		paddedLists.increment();
+		return padded;
+	}
+
+	/**
+	 * Next power of two up to {@code in-clause-size}, and multiples of it
+	 * beyond.
+	 */
+	int paddedSize(int size) {
+		if (size > chunkSize) {
+			return (size + chunkSize - 1) / chunkSize * chunkSize;
+		}
+		return size <= 1 ? size : Math.min(Integer.highestOneBit(size - 1) << 1, chunkSize);
+	}
+
+	/** The number of chunks {@link #chunks} splits a list of {@code size} values into. */
+	public int chunkCount(int size) {
+		return (size + chunkSize - 1) / chunkSize;
+	}
+
+	/** Splits a list into padded chunks of at most {@code in-clause-size}. */
+	public <V> List<List<V>> chunks(List<V> values) {
+		List<List<V>> chunks = new ArrayList<>((values.size() + chunkSize - 1) / chunkSize);
+		for (int from = 0; from < values.size(); from += chunkSize) {
+			chunks.add(pad(values.subList(from, Math.min(from + chunkSize, values.size()))));
+		}
+		if (chunks.size() > 1) {
+			chunkedLists.increment();
+		}
+		return chunks;
+	}
+
+	/**
+	 * Applies {@code reader} to every chunk, in parallel on the shared pool; the
+	 * first chunk runs on the calling thread. Each reader must use its own
+	 * connection.
+	 *
+	 * @return The results in chunk order.
+	 */
+	public <V, R> List<R> inParallel(List<List<V>> chunks, Function<List<V>, R> reader) {
+		List<Future<R>> futures = new ArrayList<>(chunks.size());
+		for (int i = 1; i < chunks.size(); i++) {
+			List<V> chunk = chunks.get(i);
+			futures.add(executor.submit(() -> reader.apply(chunk)));
+		}
+		List<R> results = new ArrayList<>(chunks.size());
+		try {
+			if (!chunks.isEmpty()) {
+				results.add(reader.apply(chunks.get(0)));
+			}
+			for (Future<R> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GlobalException("Interrupted while reading IN-list chunks", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new GlobalException("IN-list chunk failed: " + e.getCause().getMessage(), e.getCause());
+		} finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+	}
+
+	/**
+	 * Replaces list {@code listNo} of the temporary table, created on first use
+	 * in the connection, with {@code values}. Must run on the connection of the
+	 * query that reads it.
+	 *
+	 * @param values Values already converted to {@code type}.
+	 */
+	public void load(SharedSessionContract session, int listNo, Collection<?> values, Class<?> type) {
+		boolean numeric = NUMBER_COLUMN.equals(valueColumn(type));
+		String create = createTableSql(session);
+		session.doWork(connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(create);
+			}
+			try (PreparedStatement delete = connection.prepareStatement("delete from " + TABLE + " where list_no = ?")) {
+				delete.setInt(1, listNo);
+				delete.executeUpdate();
+			}
+			try (PreparedStatement insert = connection.prepareStatement("insert into " + TABLE
+					+ " (position, list_no, " + (numeric ? "num_value" : "str_value") + ") values (?, ?, ?)")) {
+				long position = 0;
+				for (Object value : values) {
+					insert.setLong(1, position++);
+					insert.setInt(2, listNo);
+					if (numeric) {
+						insert.setLong(3, ((Number) value).longValue());
+					} else {
+						insert.setString(3, (String) value);
+					}
+					insert.addBatch();
+					if (position % chunkSize == 0) {
+						insert.executeBatch();
+					}
+				}
+				insert.executeBatch();
+			}
+		});
+		tempTableLists.increment();
+	}
+
+	/** Lists padded to their bucket size. */
+	public long getPaddedLists() {
+		return paddedLists.sum();
+	}
+
+	/** Lists read or bound in more than one chunk. */
+	public long getChunkedLists() {
+		return chunkedLists.sum();
+	}
+
+	/** Lists loaded into the temporary table. */
+	public long getTempTableLists() {
+		return tempTableLists.sum();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private String createTableSql(SharedSessionContract session) {
+		String sql = createTableSql;
+		if (sql == null) {
+			Dialect dialect = session.getFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices()
+					.getDialect();
+			String command = dialect.getTemporaryTableCreateCommand();
+			if (!command.contains("if not exists")) {
+				command += " if not exists";
+			}
+			String options = dialect.getTemporaryTableCreateOptions();
+			sql = command + " " + TABLE
+					+ " (position bigint not null, list_no integer not null, num_value bigint, str_value varchar(255))"
+					+ (options == null ? "" : " " + options);
+			createTableSql = sql;
+		}
+		return sql;
+	}
+
+}
@@ -0,0 +1,160 @@
+package com.performx.query;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.performx.exception.GlobalException;
+import com.performx.request.FilterCondition;
+import com.performx.util.TypeConverterRegistry;
+import com.performx.util.ValueConverter;
+
+import jakarta.persistence.Query;
+
+/**
+ * Binds one named parameter of a compiled {@link FilterQueryPlan} from the
+ * condition at a fixed position of a structurally identical request.
+ *
+ * <p>
+ * The target type is fixed when the plan is compiled, and the converter for the
+ * incoming value's class is resolved once and kept as a monomorphic inline
+ * cache, so repeat requests bind without any type dispatch.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class ParameterBinder {
+
+	/**
+	 * Where the bound value comes from. A {@code TEMP_TABLE} list is not bound
+	 * but loaded into {@link InListStrategy#TABLE}.
+	 */
+	public enum Source {
+		VALUE, ADDITIONAL_VALUE, LIKE_PATTERN, COLLECTION, TEMP_TABLE
+	}
+
+	private final String name;
+	private final int conditionIndex;
+	private final Source source;
+	private final Class<?> targetType;
+	private final TypeConverterRegistry converters;
+	private final InListStrategy inLists;
+	private final PartitionKeys.Key key;
+	private final int chunks;
+	private volatile CachedConverter cached;
+
+	ParameterBinder(String name, int conditionIndex, Source source, Class<?> targetType,
+			TypeConverterRegistry converters) {
+		this(name, conditionIndex, source, targetType, converters, null);
+	}
+
+	ParameterBinder(String name, int conditionIndex, Source source, Class<?> targetType,
+			TypeConverterRegistry converters, InListStrategy inLists) {
+		this(name, conditionIndex, source, targetType, converters, inLists, null);
+	}
+
+	ParameterBinder(String name, int conditionIndex, Source source, Class<?> targetType,
+			TypeConverterRegistry converters, InListStrategy inLists, PartitionKeys.Key key) {
+		this(name, conditionIndex, source, targetType, converters, inLists, key, 1);
+	}
+
+	/**
+	 * @param key    Derives the bound value from the condition's value, which is
+	 *               then on a different field, see {@link PartitionKey}.
+	 * @param chunks The number of chunks a {@code COLLECTION} is bound in, as
+	 *               the parameters named by {@link #chunkName} when more than
+	 *               one.
+	 */
+	ParameterBinder(String name, int conditionIndex, Source source, Class<?> targetType,
+			TypeConverterRegistry converters, InListStrategy inLists, PartitionKeys.Key key, int chunks) {
+		this.name = name;
+		this.conditionIndex = conditionIndex;
+		this.source = source;
+		this.targetType = targetType;
+		this.converters = converters;
+		this.inLists = inLists;
+		this.key = key;
+		this.chunks = chunks;
+	}
+
+	/** The name of chunk {@code chunk} of a collection parameter. */
+	static String chunkName(String name, int chunk) {
+		return name + "c" + chunk;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Source getSource() {
+		return source;
+	}
+
+	public Class<?> getTargetType() {
+		return targetType;
+	}
+
+	/**
+	 * Converts and binds the value of this parameter.
+	 *
+	 * @param query      The query created from the plan's JPQL.
+	 * @param conditions The conditions of the current request.
+	 */
+	public void bind(Query query, List<FilterCondition> conditions) {
+		FilterCondition fc = conditions.get(conditionIndex);
+		switch (source) {
+		case VALUE:
+			query.setParameter(name, convert(derive(fc.getValue())));
+			break;
+		case ADDITIONAL_VALUE:
+			query.setParameter(name, convert(derive(fc.getAdditionalValue())));
+			break;
+		case LIKE_PATTERN:
+			query.setParameter(name, "%" + fc.getValue() + "%");
+			break;
+		case COLLECTION:
+			if (!(fc.getValue() instanceof Collection<?> values)) {
+				throw new GlobalException("Value for " + fc.getOperator() + " must be a collection: " + fc.getField());
+			}
+			List<Object> converted = converters.convertAll(key == null ? values : key.mapAll(values), targetType);
+			if (chunks == 1) {
+				query.setParameter(name, inLists.pad(converted));
+				break;
+			}
+			List<List<Object>> parts = inLists.chunks(converted);
+			for (int c = 0; c < chunks; c++) {
+				query.setParameter(chunkName(name, c), parts.get(c));
+			}
+			break;
+		case TEMP_TABLE:
+			if (!(fc.getValue() instanceof Collection<?> listed)) {
+				throw new GlobalException("Value for " + fc.getOperator() + " must be a collection: " + fc.getField());
+			}
+			inLists.load(query.unwrap(org.hibernate.query.Query.class).getSession(), conditionIndex,
+					converters.convertAll(listed, targetType), targetType);
+			break;
+		default:
+			throw new GlobalException("Unsupported parameter source: " + source);
+		}
+	}
+
+	private Object derive(Object value) {
+		return key == null || value == null ? value : key.mapper().apply(value);
+	}
+
+	private Object convert(Object value) {
+		if (value == null) {
+			return null;
+		}
+		CachedConverter current = cached;
+		if (current == null || current.source() != value.getClass()) {
+			current = new CachedConverter(value.getClass(), converters.resolve(value.getClass(), targetType));
+			cached = current;
+		}
+		return current.converter().convert(value);
+	}
+
+	private record CachedConverter(Class<?> source, ValueConverter converter) {
+	}
+
+}
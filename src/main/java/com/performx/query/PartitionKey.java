@@ -0,0 +1,36 @@
+package com.performx.query;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.function.Function;
+
+/**
+ * Marks the partition key of an entity whose value is derived from another
+ * field, so the filter path can prune partitions for conditions written
+ * against that field.
+ *
+ * <p>
+ * Every EQUALS, IN, BETWEEN and range condition on {@link #source()} is
+ * compiled as {@code (source op v and key op mapper(v))}. The second term is
+ * implied by the first, so results are unchanged under AND as well as OR, but
+ * it gives the database a predicate on the partition key. The mapper must
+ * therefore preserve equality and order: {@code a < b} implies
+ * {@code mapper(a) <= mapper(b)}.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PartitionKey {
+
+	/** The field whose conditions are mirrored onto the annotated one. */
+	String source();
+
+	/** Maps a value of the source field to the key; needs a no-arg constructor. */
+	Class<? extends Function<Object, Object>> mapper();
+
+}
@@ -0,0 +1,125 @@
+package com.performx.query;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.performx.constant.FilterOperator;
+import com.performx.exception.GlobalException;
+import com.performx.request.FilterCondition;
+
+/**
+ * The {@link PartitionKey}s of an entity, read once per class, and the
+ * conditions they derive.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class PartitionKeys {
+
+	private static final ClassValue<PartitionKeys> KEYS = new ClassValue<>() {
+
+		@Override
+		protected PartitionKeys computeValue(Class<?> type) {
+			return scan(type);
+		}
+	};
+
+	private static final PartitionKeys NONE = new PartitionKeys(Map.of());
+
+	private final Map<String, Key> bySource;
+
+	private PartitionKeys(Map<String, Key> bySource) {
+		this.bySource = bySource;
+	}
+
+	public static PartitionKeys of(Class<?> entityClass) {
+		return KEYS.get(entityClass);
+	}
+
+	/**
+	 * The partition key a condition can be mirrored onto, or {@code null} when
+	 * its field has none or its operator does not select a set of keys.
+	 */
+	public Key keyFor(FilterCondition fc) {
+		if (fc.getOperator() == null) {
+			return null;
+		}
+		switch (fc.getOperator()) {
+		case EQUALS:
+		case GREATER_THAN:
+		case GREATER_THAN_EQUAL:
+		case LESS_THAN:
+		case LESS_THAN_EQUAL:
+		case BETWEEN:
+		case IN:
+			return bySource.get(fc.getField());
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * A partition key and how to derive it.
+	 *
+	 * @param field  The key's field.
+	 * @param mapper Maps a source value to a key.
+	 */
+	public record Key(String field, Function<Object, Object> mapper) {
+
+		/**
+		 * The condition on the key implied by {@code fc}. Strict range operators
+		 * become inclusive: distinct source values may share a key.
+		 */
+		public FilterCondition derive(FilterCondition fc) {
+			Object value = fc.getValue() instanceof Collection<?> values ? mapAll(values) : mapper.apply(fc.getValue());
+			Object additional = fc.getAdditionalValue() == null ? null : mapper.apply(fc.getAdditionalValue());
+			return new FilterCondition(field, derive(fc.getOperator()), value, additional);
+		}
+
+		/** The distinct keys of a list of source values. */
+		public List<Object> mapAll(Collection<?> values) {
+			Set<Object> keys = new LinkedHashSet<>();
+			for (Object value : values) {
+				keys.add(mapper.apply(value));
+			}
+			return List.copyOf(keys);
+		}
+
+		/** The operator of the derived condition. */
+		public FilterOperator derive(FilterOperator operator) {
+			switch (operator) {
+			case GREATER_THAN:
+				return FilterOperator.GREATER_THAN_EQUAL;
+			case LESS_THAN:
+				return FilterOperator.LESS_THAN_EQUAL;
+			default:
+				return operator;
+			}
+		}
+	}
+
+	private static PartitionKeys scan(Class<?> type) {
+		Map<String, Key> keys = new HashMap<>();
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				PartitionKey key = field.getAnnotation(PartitionKey.class);
+				if (key != null) {
+					try {
+						keys.put(key.source(),
+								new Key(field.getName(), key.mapper().getDeclaredConstructor().newInstance()));
+					} catch (ReflectiveOperationException e) {
+						throw new GlobalException("Cannot create partition key mapper " + key.mapper().getName(), e);
+					}
+				}
+			}
+		}
+		return keys.isEmpty() ? NONE : new PartitionKeys(Map.copyOf(keys));
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.performx.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.performx.entity.ColdSegment;
+
+@Repository
+public interface ColdSegmentRepository extends JpaRepository<ColdSegment, Long> {
+
+	boolean existsByEntityNameAndPeriod(String entityName, int period);
+
+	List<ColdSegment> findByEntityName(String entityName);
+
+}
@@ -0,0 +1,11 @@
+package com.performx.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.performx.entity.PayrollArchive;
+
+@Repository
+public interface PayrollArchiveRepository extends JpaRepository<PayrollArchive, String> {
+
+}
@@ -0,0 +1,15 @@
+package com.performx.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.performx.entity.PayrollRunPartition;
+
+@Repository
+public interface PayrollRunPartitionRepository extends JpaRepository<PayrollRunPartition, String> {
+
+	List<PayrollRunPartition> findByMonth(String month);
+
+}
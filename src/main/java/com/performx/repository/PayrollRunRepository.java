@@ -0,0 +1,11 @@
+package com.performx.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.performx.entity.PayrollRun;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, String> {
+
+}
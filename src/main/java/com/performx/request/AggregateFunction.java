@@ -19,5 +19,6 @@ public class AggregateFunction {
 
 	private String field;
 	private AggregateType function;
+	private String alias; // Optional result key, defaults to e.g. "sumSalary"
 
 }
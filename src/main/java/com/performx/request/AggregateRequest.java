@@ -22,7 +22,7 @@ import lombok.ToString;
  * <pre>
  * {
  *   "aggregations": [
- *     {"field": "salary", "function": "SUM"},
+ *     {"field": "salary", "function": "SUM", "alias": "totalSalary"},
  *     {"field": "age", "function": "AVG"}
  *   ],
  *   "filterRequest": { ... }  // Optional filter for conditional aggregation
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.performx.constant.LogicalOperator;
+import com.performx.constant.PaginationMode;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,7 +36,11 @@ import lombok.ToString;
  *   "sortOrders": [
  *     {"field": "createdOn", "direction": "DESC"}
  *   ],
- *   "logicalOperator": "AND"
+ *   "logicalOperator": "AND",
+ *   "fields": ["id", "name", "department", "salary"],
+ *   "paginationMode": "KEYSET",
+ *   "cursor": "eyJzIjoi...",
+ *   "includeTotal": false
  * }
  * </pre>
  *
@@ -66,4 +71,19 @@ public class FilterRequest {
 	@Default
 	private List<SortOrder> sortOrders = new ArrayList<>();
 
+	/** Pagination strategy used for paged queries (OFFSET/KEYSET). */
+	@Default
+	private PaginationMode paginationMode = PaginationMode.OFFSET;
+
+	/** Opaque cursor returned by the previous page (KEYSET mode only). */
+	private String cursor;
+
+	/** Whether a paged query should also issue a COUNT for the total. */
+	@Default
+	private boolean includeTotal = false;
+
+	/** Fields to select in a projection query; other queries ignore it. */
+	@Default
+	private List<String> fields = new ArrayList<>();
+
 }
@@ -26,7 +26,14 @@ import lombok.ToString;
  *     {"field": "salary", "function": "SUM"},
  *     {"field": "id", "function": "COUNT"}
  *   ],
- *   "filterRequest": { ... }  // Optional filter
+ *   "filterRequest": { ... },  // Optional filter
+ *   "having": [
+ *     {"field": "sumSalary", "operator": "GREATER_THAN", "value": 100000}
+ *   ],
+ *   "sortOrders": [
+ *     {"field": "sumSalary", "direction": "DESC"}
+ *   ],
+ *   "rollup": true
  * }
  * </pre>
  *
@@ -50,4 +57,13 @@ public class GroupByRequest {
 	/** Optional filters applied before grouping. */
 	private FilterRequest filterRequest;
 
+	/** Optional HAVING conditions on a group field or an aggregate alias. */
+	private List<FilterCondition> having;
+
+	/** Optional ordering by a group field or an aggregate alias. */
+	private List<SortOrder> sortOrders;
+
+	/** Whether subtotals and a grand total are appended (ROLLUP). */
+	private boolean rollup;
+
 }
@@ -0,0 +1,46 @@
+package com.performx.request;
+
+import com.performx.constant.ArithmeticOperator;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Right-hand side of one assignment in a filter-driven bulk update.
+ *
+ * <ul>
+ * <li>{@code value} only: the field is set to the literal value.</li>
+ * <li>{@code field} only: the field is set to another field of the same
+ * row.</li>
+ * <li>{@code operator} and {@code value}: the field is set to
+ * {@code field operator value}, where {@code field} defaults to the assigned
+ * field itself, e.g. {@code salary = salary * 1.05}.</li>
+ * </ul>
+ *
+ * <pre>
+ * {
+ *   "salary": { "operator": "MULTIPLY", "value": 1.05 },
+ *   "status": { "value": "REVISED" }
+ * }
+ * </pre>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode()
+public class UpdateExpression {
+
+	private String field;
+	private ArithmeticOperator operator;
+	private Object value;
+
+}
@@ -0,0 +1,87 @@
+package com.performx.response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of a chunked bulk operation: total rows, elapsed time and one
+ * {@link ChunkStat} per committed chunk, so throughput can be followed chunk by
+ * chunk on large loads. Bulk updates also list the IDs that matched no row.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@ToString
+public class BulkResult {
+
+	private long totalRows;
+	private long elapsedMillis;
+	private final List<ChunkStat> chunks = new ArrayList<>();
+	private final List<Object> missingIds = new ArrayList<>();
+
+	/**
+	 * Records a completed chunk.
+	 *
+	 * @param rows        Rows written by the chunk.
+	 * @param elapsedNano Wall time of the chunk, in nanoseconds.
+	 * @return The recorded chunk statistics.
+	 */
+	public ChunkStat addChunk(int rows, long elapsedNano) {
+		ChunkStat chunk = new ChunkStat(chunks.size() + 1, rows, elapsedNano / 1_000_000);
+		chunks.add(chunk);
+		totalRows += rows;
+		elapsedMillis += chunk.getElapsedMillis();
+		return chunk;
+	}
+
+	public void addMissingIds(Collection<?> ids) {
+		missingIds.addAll(ids);
+	}
+
+	public List<ChunkStat> getChunks() {
+		return Collections.unmodifiableList(chunks);
+	}
+
+	/** IDs submitted for update that matched no row. */
+	public List<Object> getMissingIds() {
+		return Collections.unmodifiableList(missingIds);
+	}
+
+	/** Overall throughput in rows per second. */
+	public double getRowsPerSecond() {
+		return rate(totalRows, elapsedMillis);
+	}
+
+	private static double rate(long rows, long millis) {
+		return rows * 1000d / Math.max(millis, 1);
+	}
+
+	/**
+	 * Statistics of one chunk.
+	 */
+	@Getter
+	@ToString
+	public static class ChunkStat {
+
+		private final int index;
+		private final int rows;
+		private final long elapsedMillis;
+
+		public ChunkStat(int index, int rows, long elapsedMillis) {
+			this.index = index;
+			this.rows = rows;
+			this.elapsedMillis = elapsedMillis;
+		}
+
+		public double getRowsPerSecond() {
+			return rate(rows, elapsedMillis);
+		}
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.performx.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Counters of one second-level cache region: Hibernate's hit/miss/put
+ * statistics next to the region's occupancy and the entries its size and TTL
+ * limits have dropped.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CacheRegionStats {
+
+	private final String regionName;
+	private final long hitCount;
+	private final long missCount;
+	private final long putCount;
+	private final int size;
+	private final int maxSize;
+	private final long ttlSeconds;
+	private final long evictionCount;
+	private final long expirationCount;
+
+	/** Share of lookups served from the region, {@code 0} before the first one. */
+	public double getHitRatio() {
+		long lookups = hitCount + missCount;
+		return lookups == 0 ? 0 : (double) hitCount / lookups;
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.performx.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A month of rows moved to the cold archive.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ColdArchiveResult {
+
+	private final String entity;
+	/** {@code yyyy-MM} */
+	private final String month;
+	/** The segment file now holding the month's rows. */
+	private final String segment;
+	private final long rows;
+	private final long bytes;
+	private final long elapsedMillis;
+
+}
@@ -0,0 +1,65 @@
+package com.performx.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A {@link org.springframework.data.domain.Page} whose navigation does not rely
+ * on a total count.
+ *
+ * <p>
+ * {@code hasNext} is decided by fetching one row beyond the page size. In
+ * KEYSET mode {@link #getNextCursor()} carries the opaque position of the last
+ * row, to be sent back in {@code FilterRequest.cursor} for the following page.
+ * When no COUNT was requested, {@link #getTotalElements()} is only a lower
+ * bound and {@link #isTotalExact()} is {@code false}.
+ * </p>
+ *
+ * @param <D> The DTO type.
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public class CursorPage<D> extends PageImpl<D> {
+
+	private static final long serialVersionUID = 4015693248701556213L;
+
+	private final boolean hasNext;
+	private final String nextCursor;
+	private final boolean totalExact;
+
+	public CursorPage(List<D> content, Pageable pageable, boolean hasNext, String nextCursor, Long total) {
+		super(content, pageable,
+				total != null ? total : pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+		this.hasNext = hasNext;
+		this.nextCursor = nextCursor;
+		this.totalExact = total != null;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	@Override
+	public boolean isLast() {
+		return !hasNext;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public boolean isTotalExact() {
+		return totalExact;
+	}
+
+	@Override
+	public <U> CursorPage<U> map(Function<? super D, ? extends U> converter) {
+		return new CursorPage<>(getConvertedContent(converter), getPageable(), hasNext, nextCursor,
+				totalExact ? getTotalElements() : null);
+	}
+
+}
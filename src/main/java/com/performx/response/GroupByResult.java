@@ -0,0 +1,190 @@
+package com.performx.response;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Column-oriented result of a group-by query.
+ *
+ * <p>
+ * Values are stored in one growable array per column instead of one map per
+ * row. The class still presents itself as a {@code List<Map<String, Object>>}:
+ * each element is a lightweight read-only view over a row index, so callers and
+ * JSON serialization see the usual row maps without the per-row
+ * {@code HashMap} allocation.
+ * </p>
+ *
+ * <p>
+ * In ROLLUP mode every row also carries a grouping level: {@code 0} for a
+ * detail group, {@code k} for a subtotal where the last {@code k} group fields
+ * are rolled up (and {@code null}), and the number of group fields for the
+ * grand total.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public class GroupByResult extends AbstractList<Map<String, Object>> {
+
+	/** Row key exposing the grouping level in ROLLUP mode. */
+	public static final String GROUPING_LEVEL = "groupingLevel";
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final List<String> columns;
+	private final Map<String, Integer> columnIndex;
+	private final Object[][] data;
+	private int[] levels;
+	private int size;
+
+	public GroupByResult(List<String> columns, boolean rollup) {
+		this.columns = List.copyOf(columns);
+		this.columnIndex = new HashMap<>();
+		for (int i = 0; i < columns.size(); i++) {
+			columnIndex.put(columns.get(i), i);
+		}
+		this.data = new Object[columns.size()][INITIAL_CAPACITY];
+		this.levels = rollup ? new int[INITIAL_CAPACITY] : null;
+	}
+
+	/**
+	 * Appends a row.
+	 *
+	 * @param values One value per column, in column order.
+	 * @param level  The grouping level (ignored outside ROLLUP mode).
+	 */
+	public void addRow(Object[] values, int level) {
+		if (size == data[0].length) {
+			int capacity = size << 1;
+			for (int c = 0; c < data.length; c++) {
+				data[c] = Arrays.copyOf(data[c], capacity);
+			}
+			if (levels != null) {
+				levels = Arrays.copyOf(levels, capacity);
+			}
+		}
+		for (int c = 0; c < data.length; c++) {
+			data[c][size] = values[c];
+		}
+		if (levels != null) {
+			levels[size] = level;
+		}
+		size++;
+	}
+
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	public boolean isRollup() {
+		return levels != null;
+	}
+
+	public Object getValue(int row, int column) {
+		Objects.checkIndex(row, size);
+		return data[column][row];
+	}
+
+	public Object getValue(int row, String column) {
+		Integer c = columnIndex.get(column);
+		return c == null ? null : getValue(row, c);
+	}
+
+	/** Returns a copy of one column's values. */
+	public Object[] getColumn(String column) {
+		Integer c = columnIndex.get(column);
+		if (c == null) {
+			throw new IllegalArgumentException("Unknown column: " + column);
+		}
+		return Arrays.copyOf(data[c], size);
+	}
+
+	public int getGroupingLevel(int row) {
+		Objects.checkIndex(row, size);
+		return levels == null ? 0 : levels[row];
+	}
+
+	@Override
+	public Map<String, Object> get(int row) {
+		Objects.checkIndex(row, size);
+		return new RowView(row);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/** Read-only map view over one row. */
+	private final class RowView extends AbstractMap<String, Object> {
+
+		private final int row;
+
+		private RowView(int row) {
+			this.row = row;
+		}
+
+		@Override
+		public Object get(Object key) {
+			if (levels != null && GROUPING_LEVEL.equals(key)) {
+				return levels[row];
+			}
+			Integer c = columnIndex.get(key);
+			return c == null ? null : data[c][row];
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return columnIndex.containsKey(key) || (levels != null && GROUPING_LEVEL.equals(key));
+		}
+
+		@Override
+		public int size() {
+			return columns.size() + (levels != null ? 1 : 0);
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<>() {
+
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					return new Iterator<>() {
+
+						private int next;
+
+						@Override
+						public boolean hasNext() {
+							return next < RowView.this.size();
+						}
+
+						@Override
+						public Entry<String, Object> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							int c = next++;
+							return c < columns.size() ? new SimpleImmutableEntry<>(columns.get(c), data[c][row])
+									: new SimpleImmutableEntry<>(GROUPING_LEVEL, levels[row]);
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return RowView.this.size();
+				}
+			};
+		}
+	}
+
+}
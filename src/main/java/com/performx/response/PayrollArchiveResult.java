@@ -0,0 +1,27 @@
+package com.performx.response;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of archiving a closed payroll month.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PayrollArchiveResult {
+
+	private final String month;
+	/** The table, or cold archive segment, now holding the month's rows. */
+	private final String table;
+	private final long rows;
+	private final BigDecimal totalNetPay;
+	private final long elapsedMillis;
+
+}
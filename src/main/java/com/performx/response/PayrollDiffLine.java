@@ -0,0 +1,42 @@
+package com.performx.response;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A difference between the payroll lines of an employee in two months. Each
+ * delta is the later amount minus the earlier one, a missing line or amount
+ * counting as zero.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PayrollDiffLine {
+
+	public enum Change {
+		/** The employee has a line in the later month only. */
+		ADDED,
+		/** The employee has a line in the earlier month only. */
+		REMOVED,
+		/** The employee has a line in both months, with different amounts. */
+		CHANGED
+	}
+
+	private final Long employeeId;
+	private final Change change;
+	private final BigDecimal basicPayDelta;
+	private final BigDecimal bonusDelta;
+	private final BigDecimal deductionsDelta;
+	private final BigDecimal netPayDelta;
+	/** Net pay of the earlier month's line, {@code null} when added. */
+	private final BigDecimal fromNetPay;
+	/** Net pay of the later month's line, {@code null} when removed. */
+	private final BigDecimal toNetPay;
+
+}
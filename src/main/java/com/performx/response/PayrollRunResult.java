@@ -0,0 +1,31 @@
+package com.performx.response;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of a payroll run. Employee and net-pay totals cover every completed
+ * partition of the month, including those finished by earlier attempts.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PayrollRunResult {
+
+	private final String month;
+	private final String status;
+	private final int partitions;
+	/** Partitions already checkpointed by an earlier attempt. */
+	private final int partitionsSkipped;
+	private final int partitionsProcessed;
+	private final long employees;
+	private final BigDecimal totalNetPay;
+	private final long elapsedMillis;
+
+}
@@ -0,0 +1,85 @@
+package com.performx.response;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * One row of a projection query as a read-only map of field name to value.
+ *
+ * <p>
+ * All rows of a result share one array of field names and each holds just its
+ * values, so a row costs one array rather than a hash map. Entries iterate in
+ * the order the fields were requested.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class ProjectionRow extends AbstractMap<String, Object> {
+
+	private final List<String> fields;
+	private final Object[] values;
+
+	/**
+	 * @param fields Field names, shared by every row of the result.
+	 * @param values Values in the order of {@code fields}.
+	 */
+	public ProjectionRow(List<String> fields, Object[] values) {
+		this.fields = fields;
+		this.values = values;
+	}
+
+	@Override
+	public Object get(Object key) {
+		int index = fields.indexOf(key);
+		return index < 0 ? null : values[index];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return fields.contains(key);
+	}
+
+	@Override
+	public int size() {
+		return values.length;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return new Iterator<>() {
+
+					private int index;
+
+					@Override
+					public boolean hasNext() {
+						return index < values.length;
+					}
+
+					@Override
+					public Entry<String, Object> next() {
+						if (index >= values.length) {
+							throw new NoSuchElementException();
+						}
+						int i = index++;
+						return new SimpleImmutableEntry<>(fields.get(i), values[i]);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return values.length;
+			}
+		};
+	}
+
+}
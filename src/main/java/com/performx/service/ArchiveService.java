@@ -0,0 +1,23 @@
+package com.performx.service;
+
+import java.util.List;
+
+import com.performx.response.ColdArchiveResult;
+
+/**
+ * Administration of the cold archive of old rows.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public interface ArchiveService {
+
+	/**
+	 * Moves closed payroll months and performance reviews older than the
+	 * retention to the cold archive now, instead of at the next scheduled run.
+	 *
+	 * @return One entry per month moved.
+	 */
+	List<ColdArchiveResult> runArchive();
+
+}
@@ -3,6 +3,7 @@ package com.performx.service;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +12,9 @@ import com.performx.exception.GlobalException;
 import com.performx.request.AggregateRequest;
 import com.performx.request.FilterRequest;
 import com.performx.request.GroupByRequest;
+import com.performx.request.UpdateExpression;
+import com.performx.response.BulkResult;
+import com.performx.response.GroupByResult;
 
 /**
  * BaseService is a generic service interface that defines a set of
@@ -60,6 +64,21 @@ public interface BaseService<T, D, ID> {
      */
     List<D> saveAll(List<D> ds);
 
+    /**
+     * Inserts an arbitrarily large input of new records in committed chunks.
+     *
+     * <p>Rows are persisted with JDBC batching and the persistence context is
+     * flushed and cleared after every batch, so memory stays flat regardless of
+     * the input size. Saved rows are not returned; each chunk commits on its
+     * own, unless the caller already runs inside a transaction.</p>
+     *
+     * @param ds The DTOs to insert; a lazily produced {@code Iterable} keeps the
+     *           input itself out of memory.
+     * @return Row counts and per-chunk throughput.
+     * @throws GlobalException if a chunk fails; earlier chunks stay committed.
+     */
+    BulkResult bulkInsert(Iterable<D> ds) throws GlobalException;
+
     /**
      * Updates an existing record identified by ID.
      *
@@ -86,6 +105,21 @@ public interface BaseService<T, D, ID> {
      */
     List<D> updateAll(List<D> ds);
 
+    /**
+     * Applies the non-null fields of each DTO to the row with the same ID,
+     * without loading the entities first.
+     *
+     * <p>Rows are written as JDBC-batched {@code UPDATE .. WHERE id = ?}
+     * statements in committed chunks; existence is verified from the affected
+     * row counts. Because the persistence context is bypassed, entities already
+     * loaded in the caller's session are not refreshed.</p>
+     *
+     * @param ds DTOs carrying the ID and the fields to change.
+     * @return Row counts, per-chunk throughput and the IDs that matched no row.
+     * @throws GlobalException if a chunk fails; earlier chunks stay committed.
+     */
+    BulkResult bulkUpdate(Iterable<D> ds) throws GlobalException;
+
     /**
      * Retrieves a record by its unique identifier.
      *
@@ -126,7 +160,17 @@ public interface BaseService<T, D, ID> {
     List<D> deleteMulti(List<ID> ids);
 
     /**
-     * Deletes all records in the repository.
+     * Deletes multiple records by their IDs without loading them, using
+     * {@code DELETE .. WHERE id IN (..)} statements over chunks of the ID list.
+     *
+     * @param ids List of unique identifiers.
+     * @return Number of deleted records.
+     */
+    Integer deleteMultiInBatch(List<ID> ids);
+
+    /**
+     * Deletes all records in the repository with a single statement, without
+     * loading them.
      *
      * @return {@code true} if all records are deleted successfully, otherwise {@code false}.
      */
@@ -151,13 +195,20 @@ public interface BaseService<T, D, ID> {
     /**
      * Retrieves records dynamically based on provided filter conditions.
      *
+     * <p>For entities with an {@link com.performx.archive.ArchiveKey}, records
+     * moved to the cold archive are included when the conditions on the key
+     * reach their months; the same holds for {@code count} and {@code exists}.
+     * Every other read, including the paged read and its total, projections,
+     * streams, aggregations and groupings, sees the database only.
+     *
      * @param filterRequest The filter and search criteria.
      * @return List of matching DTOs.
      */
     List<D> findAll(FilterRequest filterRequest);
 
     /**
-     * Retrieves paginated and dynamically filtered records.
+     * Retrieves paginated and dynamically filtered records from the database
+     * alone: neither the page nor its total includes archived records.
      *
      * @param filterRequest The filter and search criteria.
      * @param pageable      Pagination and sorting information.
@@ -166,7 +217,37 @@ public interface BaseService<T, D, ID> {
     Page<D> findAll(FilterRequest filterRequest, Pageable pageable);
 
     /**
-     * Counts records matching the provided filters.
+     * Streams records matching the provided filters without materializing the
+     * result.
+     *
+     * <p>Rows are read through a forward-only cursor with the configured JDBC
+     * fetch size, on a dedicated read-only session that is cleared periodically,
+     * so heap use stays flat however many rows are read. The stream holds a
+     * database connection until it is closed and must therefore be consumed in
+     * a try-with-resources block.</p>
+     *
+     * @param filterRequest The filter and search criteria; {@code null} streams
+     *                      all records.
+     * @return A lazily populated stream of matching DTOs.
+     */
+    Stream<D> findAllAsStream(FilterRequest filterRequest);
+
+    /**
+     * Retrieves only the requested fields of the records matching the filters,
+     * selecting just those columns: no entity is loaded or tracked and no DTO is
+     * mapped.
+     *
+     * @param filterRequest The filter and search criteria; its {@code fields}
+     *                      name the fields to return and must not be empty.
+     * @return One read-only map per record, field name to value, in the order of
+     *         {@code fields}.
+     */
+    List<Map<String, Object>> findFields(FilterRequest filterRequest);
+
+    /**
+     * Counts records matching the provided filters, archived records included
+     * as for {@link #findAll(FilterRequest)}; it can therefore exceed the total
+     * of the paged read of the same filter.
      *
      * @param filterRequest The filter and search criteria.
      * @return Count of matching records.
@@ -181,6 +262,26 @@ public interface BaseService<T, D, ID> {
      */
     Boolean exists(FilterRequest filterRequest);
 
+    /**
+     * Updates every record matching the filters with a single UPDATE statement,
+     * without loading them.
+     *
+     * @param filterRequest The filter criteria; at least one condition is required.
+     * @param assignments   Field name to new value or arithmetic expression,
+     *                      e.g. {@code salary -> salary * 1.05}.
+     * @return Number of updated records.
+     */
+    Integer updateWhere(FilterRequest filterRequest, Map<String, UpdateExpression> assignments);
+
+    /**
+     * Deletes every record matching the filters with a single DELETE statement,
+     * without loading them.
+     *
+     * @param filterRequest The filter criteria; at least one condition is required.
+     * @return Number of deleted records.
+     */
+    Integer deleteWhere(FilterRequest filterRequest);
+
     // ------------------------------------------------------------------------
     // UTILITY METHODS
     // ------------------------------------------------------------------------
@@ -210,6 +311,15 @@ public interface BaseService<T, D, ID> {
      */
     Long count();
 
+    /**
+     * Estimates the number of records from the database's table statistics
+     * without scanning the table, e.g. for badges that do not need an exact
+     * figure. Falls back to {@link #count()} where no estimate is available.
+     *
+     * @return Approximate count of records.
+     */
+    Long approximateCount();
+
     /**
      * Checks whether a record exists by its unique identifier.
      *
@@ -224,7 +334,8 @@ public interface BaseService<T, D, ID> {
 
     /**
      * Performs aggregation operations (SUM, AVG, COUNT, MAX, MIN)
-     * based on provided aggregation request.
+     * based on provided aggregation request, over the records in the
+     * database only.
      *
      * @param aggregateRequest The aggregation configuration.
      * @return A map containing aggregate results (e.g., {"totalSalary": 120000.0}).
@@ -232,12 +343,17 @@ public interface BaseService<T, D, ID> {
 	Map<String, Object> aggregate(AggregateRequest aggregateRequest);
 
     /**
-     * Performs group-by operations and returns summarized data.
+     * Performs group-by operations and returns summarized data, over the
+     * records in the database only.
+     *
+     * <p>The result is column-oriented but still readable as a list of row maps.
+     * With {@code rollup} enabled, subtotal rows and a grand total follow their
+     * detail groups.</p>
      *
      * @param groupByRequest The grouping configuration.
      * @return List of grouped and aggregated results.
      */
-    List<Map<String, Object>> groupBy(GroupByRequest groupByRequest);
+    GroupByResult groupBy(GroupByRequest groupByRequest);
 
     // ------------------------------------------------------------------------
     // LOGICAL DELETION (Optional)
@@ -0,0 +1,30 @@
+package com.performx.service;
+
+import java.util.List;
+
+import com.performx.response.CacheRegionStats;
+
+/**
+ * Administration of the second-level cache and the filter result cache.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public interface CacheService {
+
+	/**
+	 * Statistics of every region of the second-level and query caches, and of
+	 * the filter result cache.
+	 *
+	 * @return One entry per region, sorted by name.
+	 */
+	List<CacheRegionStats> getStatistics();
+
+	/**
+	 * Drops every entry of a region.
+	 *
+	 * @param regionName The region to clear.
+	 */
+	void evictRegion(String regionName);
+
+}
@@ -1,5 +1,25 @@
 package com.performx.service;
 
-public interface DepartmentService {
+import java.util.Optional;
+
+import com.performx.dto.DepartmentMasterDTO;
+import com.performx.entity.DepartmentMaster;
+
+public interface DepartmentService extends BaseService<DepartmentMaster, DepartmentMasterDTO, Long> {
+
+	/**
+	 * Retrieves a department by its name, ignoring case.
+	 *
+	 * @param name The department name.
+	 * @return Optional containing the matching DTO, if found.
+	 */
+	Optional<DepartmentMasterDTO> findByName(String name);
+
+	/**
+	 * Version of the cached department table; changes whenever it is written.
+	 *
+	 * @return The current reference data version.
+	 */
+	long getReferenceVersion();
 
 }
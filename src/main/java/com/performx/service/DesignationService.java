@@ -1,5 +1,25 @@
 package com.performx.service;
 
-public interface DesignationService {
+import java.util.Optional;
+
+import com.performx.dto.DesignationMasterDTO;
+import com.performx.entity.DesignationMaster;
+
+public interface DesignationService extends BaseService<DesignationMaster, DesignationMasterDTO, Long> {
+
+	/**
+	 * Retrieves a designation by its title, ignoring case.
+	 *
+	 * @param title The designation title.
+	 * @return Optional containing the matching DTO, if found.
+	 */
+	Optional<DesignationMasterDTO> findByTitle(String title);
+
+	/**
+	 * Version of the cached designation table; changes whenever it is written.
+	 *
+	 * @return The current reference data version.
+	 */
+	long getReferenceVersion();
 
 }
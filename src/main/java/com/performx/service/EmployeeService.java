@@ -1,5 +1,8 @@
 package com.performx.service;
 
-public interface EmployeeService {
+import com.performx.dto.EmployeeDTO;
+import com.performx.entity.Employee;
+
+public interface EmployeeService extends BaseService<Employee, EmployeeDTO, Long> {
 
 }
@@ -1,5 +1,70 @@
 package com.performx.service;
 
-public interface PayrollService {
+import java.util.stream.Stream;
+
+import com.performx.dto.PayrollDTO;
+import com.performx.entity.Payroll;
+import com.performx.exception.GlobalException;
+import com.performx.response.PayrollArchiveResult;
+import com.performx.response.PayrollDiffLine;
+import com.performx.response.PayrollRunResult;
+
+public interface PayrollService extends BaseService<Payroll, PayrollDTO, Long> {
+
+    /**
+     * Generates the payroll of a month for every eligible employee.
+     *
+     * <p>Employees are processed in ID-range partitions on a bounded worker
+     * pool, each partition committing its rows together with a checkpoint.
+     * Running a month again resumes it: checkpointed partitions are skipped,
+     * the rest replace their rows of that month.
+     *
+     * @param month The month as {@code yyyy-MM}.
+     * @return Partition counts and the totals of the month.
+     * @throws GlobalException If the month is invalid or already running, or
+     *                         if a partition failed.
+     */
+    PayrollRunResult runPayroll(String month);
+
+    /**
+     * Queues every payroll line of a month for recalculation from the current
+     * salaries and pay rules, after a rule change. Lines are rewritten by the
+     * background recalculation worker; salary changes through the employee
+     * service queue their own lines.
+     *
+     * @param month The month as {@code yyyy-MM}.
+     * @return The number of lines queued.
+     * @throws GlobalException If the month is invalid.
+     */
+    int recalculatePayroll(String month);
+
+    /**
+     * Moves a closed month's payroll rows out of the payroll table into an
+     * archive table of their own, keeping the live table and its partitions to
+     * the open months, and from there into a cold archive segment, which the
+     * filter reads consult.
+     *
+     * @param month The month as {@code yyyy-MM}.
+     * @return What was archived.
+     * @throws GlobalException If the month is invalid, still open or already
+     *                         archived.
+     */
+    PayrollArchiveResult archivePayrollMonth(String month);
+
+    /**
+     * Reconciles a month's payroll against an earlier one: the employees whose
+     * line was added, removed or changed, with the change of each amount.
+     *
+     * <p>Both months are read in employee order through database cursors and
+     * merge-joined as the stream is consumed, so memory use does not depend
+     * on the size of the months. The stream holds a connection until it is
+     * closed.
+     *
+     * @param fromMonth The earlier month as {@code yyyy-MM}.
+     * @param toMonth   The later month as {@code yyyy-MM}.
+     * @return One line per difference, ordered by employee ID.
+     * @throws GlobalException If a month is invalid or archived.
+     */
+    Stream<PayrollDiffLine> reconcilePayroll(String fromMonth, String toMonth);
 
 }
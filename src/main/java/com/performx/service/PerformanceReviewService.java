@@ -1,5 +1,8 @@
 package com.performx.service;
 
-public interface PerformanceReviewService {
+import com.performx.dto.PerformanceReviewDTO;
+import com.performx.entity.PerformanceReview;
+
+public interface PerformanceReviewService extends BaseService<PerformanceReview, PerformanceReviewDTO, Long> {
 
 }
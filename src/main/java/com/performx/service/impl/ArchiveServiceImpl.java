@@ -0,0 +1,25 @@
+package com.performx.service.impl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.performx.archive.ColdArchiver;
+import com.performx.response.ColdArchiveResult;
+import com.performx.service.ArchiveService;
+
+@Service("archiveService")
+public class ArchiveServiceImpl implements ArchiveService {
+
+	private final ColdArchiver coldArchiver;
+
+	public ArchiveServiceImpl(ColdArchiver coldArchiver) {
+		this.coldArchiver = coldArchiver;
+	}
+
+	@Override
+	public List<ColdArchiveResult> runArchive() {
+		return coldArchiver.run();
+	}
+
+}
@@ -1,45 +1,111 @@
 package com.performx.service.impl;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.performx.archive.ColdArchiveStore;
+import com.performx.cache.QueryResultCache;
+import com.performx.constant.AggregateType;
 import com.performx.constant.LogicalOperator;
 import com.performx.constant.MessageCode;
+import com.performx.constant.PaginationMode;
 import com.performx.constant.SortDirection;
+import com.performx.datasource.ReadYourWrites;
+import com.performx.entity.InListValue;
 import com.performx.exception.GlobalException;
 import com.performx.mapper.GlobalMapper;
+import com.performx.query.BatchLoader;
+import com.performx.query.EntityUpdateMapping;
+import com.performx.query.FilterPlanCache;
+import com.performx.query.FilterQueryPlan;
+import com.performx.query.InListStrategy;
+import com.performx.query.PartitionKeys;
+import com.performx.request.AggregateFunction;
 import com.performx.request.AggregateRequest;
 import com.performx.request.FilterCondition;
 import com.performx.request.FilterRequest;
 import com.performx.request.GroupByRequest;
 import com.performx.request.SortOrder;
+import com.performx.request.UpdateExpression;
+import com.performx.response.BulkResult;
+import com.performx.response.BulkResult.ChunkStat;
+import com.performx.response.CursorPage;
+import com.performx.response.GroupByResult;
+import com.performx.response.ProjectionRow;
 import com.performx.service.BaseService;
+import com.performx.util.IdAccessor;
+import com.performx.util.IdAccessorRegistry;
+import com.performx.util.KeysetCursor;
+import com.performx.util.RollupAggregator;
+import com.performx.util.TypeConverterRegistry;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.EntityType;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -52,8 +118,52 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	@Autowired
 	private EntityManager entityManager;
 
+	@Autowired
+	private IdAccessorRegistry idAccessorRegistry;
+
+	@Autowired
+	private FilterPlanCache filterPlanCache;
+
+	@Autowired
+	private QueryResultCache queryResultCache;
+
+	@Autowired
+	private TypeConverterRegistry typeConverterRegistry;
+
+	@Autowired
+	private InListStrategy inListStrategy;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ColdArchiveStore coldArchiveStore;
+
+	@Value("${performx.bulk.jdbc-batch-size:500}")
+	private int jdbcBatchSize;
+
+	@Value("${performx.bulk.chunk-size:5000}")
+	private int bulkChunkSize;
+
+	@Value("${performx.stream.fetch-size:1000}")
+	private int streamFetchSize;
+
+	@Value("${performx.coalesce.enabled:true}")
+	private boolean coalesceEnabled;
+
+	@Value("${performx.coalesce.window:2ms}")
+	private String coalesceWindow;
+
+	@Value("${performx.coalesce.max-batch-size:256}")
+	private int coalesceMaxBatchSize;
+
 	private final Class<T> entityClass;
 
+	private volatile IdAccessor<T> entityIdAccessor;
+	private volatile IdAccessor<D> dtoIdAccessor;
+	private volatile EntityUpdateMapping<T> entityUpdateMapping;
+	private volatile BatchLoader<ID, T> idLoader;
+
 	protected Class<T> getEntityClass() {
 		return entityClass;
 	}
@@ -70,6 +180,7 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 			log.info(MessageCode.ENTITY_SAVE_ATTEMPT.getMessage(), d);
 			T entity = globalMapper.mapToEntity(d);
 			T savedEntity = jpaRepository.save(entity);
+			entityWritten();
 			log.info(MessageCode.ENTITY_SAVE_SUCCESS.getMessage());
 			return globalMapper.mapToDTO(savedEntity);
 		} catch (Exception e) {
@@ -85,6 +196,7 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 			log.info(MessageCode.ENTITY_SAVE_ALL_ATTEMPT.getMessage(), ds);
 			List<T> entities = globalMapper.mapToEntityList(ds);
 			List<T> savedEntities = jpaRepository.saveAll(entities);
+			entityWritten();
 			log.info(MessageCode.ENTITY_SAVE_SUCCESS.getMessage());
 			return globalMapper.mapToDTOList(savedEntities);
 		} catch (Exception e) {
@@ -95,11 +207,79 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	}
 
 	@Override
+	public BulkResult bulkInsert(Iterable<D> ds) throws GlobalException {
+		BulkResult result = new BulkResult();
+		try {
+			log.info(MessageCode.BULK_INSERT_ATTEMPT.getMessage(), bulkChunkSize, jdbcBatchSize);
+			processInChunks(ds, result, chunk -> {
+				insertChunk(chunk);
+				return Collections.emptyList();
+			});
+			log.info(MessageCode.BULK_INSERT_SUCCESS.getMessage(), result.getTotalRows(), result.getElapsedMillis(),
+					Math.round(result.getRowsPerSecond()));
+			return result;
+		} catch (Exception e) {
+			String reason = String.format(MessageCode.BULK_INSERT_FAIL.getMessage(), result.getTotalRows(),
+					e.getMessage());
+			log.error(reason, e);
+			throw new GlobalException(reason, e);
+		}
+	}
+
+	/**
+	 * Pulls the input lazily in chunks of {@code bulkChunkSize} and runs each
+	 * chunk in its own transaction, recording its throughput and the IDs the
+	 * work reports as missing.
+	 */
+	private void processInChunks(Iterable<D> ds, BulkResult result, Function<List<D>, List<Object>> work) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		Iterator<D> source = ds.iterator();
+		List<D> chunk = new ArrayList<>(bulkChunkSize);
+		while (source.hasNext()) {
+			chunk.clear();
+			while (source.hasNext() && chunk.size() < bulkChunkSize) {
+				chunk.add(source.next());
+			}
+			long start = System.nanoTime();
+			List<Object> missing = transaction.execute(status -> work.apply(chunk));
+			ChunkStat stat = result.addChunk(chunk.size(), System.nanoTime() - start);
+			entityWritten();
+			if (missing != null && !missing.isEmpty()) {
+				log.warn(MessageCode.BULK_UPDATE_MISSING.getMessage(), missing);
+				result.addMissingIds(missing);
+			}
+			log.info(MessageCode.BULK_CHUNK_SUCCESS.getMessage(), stat.getIndex(), stat.getRows(),
+					stat.getElapsedMillis(), Math.round(stat.getRowsPerSecond()));
+		}
+	}
+
+	/**
+	 * Persists one chunk inside the current transaction, flushing a full JDBC
+	 * batch at a time and clearing the persistence context after each flush.
+	 */
+	private void insertChunk(List<D> chunk) {
+		entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+		int pending = 0;
+		for (D dto : chunk) {
+			entityManager.persist(globalMapper.mapToEntity(dto));
+			if (++pending == jdbcBatchSize) {
+				entityManager.flush();
+				entityManager.clear();
+				pending = 0;
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Override
+	@Transactional
 	public D update(ID id, D d) {
 		return performUpdate(id, d, false);
 	}
 
 	@Override
+	@Transactional
 	public D update(D d) {
 		return performUpdate(null, d, true);
 	}
@@ -114,10 +294,12 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 				throw new GlobalException(MessageCode.ENTITY_ID_REQUIRED.getMessage());
 			}
 			log.info(MessageCode.ENTITY_UPDATE_ATTEMPT.getMessage(), effectiveId, d);
-			findEntityById(effectiveId);
+			T existingEntity = findEntityById(effectiveId);
 			T updatedEntity = globalMapper.mapToEntity(d);
 			setEntityId(updatedEntity, effectiveId);
+			beforeUpdate(List.of(existingEntity), List.of(updatedEntity));
 			T savedEntity = jpaRepository.save(updatedEntity);
+			entityWritten();
 			log.info(MessageCode.ENTITY_UPDATE_SUCCESS.getMessage(), effectiveId);
 			return globalMapper.mapToDTO(savedEntity);
 
@@ -133,9 +315,7 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	 */
 	private void setEntityId(T entity, ID id) {
 		try {
-			Field idField = entity.getClass().getDeclaredField("id");
-			idField.setAccessible(true);
-			idField.set(entity, id);
+			entityIdAccessor().setId(entity, id);
 		} catch (Exception e) {
 			log.warn(MessageCode.ENTITY_SET_ID_FAIL.getMessage(), entity.getClass().getSimpleName());
 		}
@@ -143,7 +323,7 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 
 	private T findEntityById(ID id) throws GlobalException {
 		log.info(String.format(MessageCode.ENTITY_FIND_BY_ID_ATTEMPT.getMessage(), id));
-		Optional<T> optEntity = jpaRepository.findById(id);
+		Optional<T> optEntity = ReadYourWrites.onPrimary(() -> jpaRepository.findById(id));
 		if (optEntity.isEmpty()) {
 			throw new GlobalException(String.format(MessageCode.ENTITY_NOT_FOUND.getMessage(), id));
 		}
@@ -151,17 +331,19 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	}
 
 	@Override
+	@Transactional
 	public List<D> updateAll(List<D> ds) {
 		try {
 			log.info(MessageCode.ENTITY_UPDATE_ALL_ATTEMPT.getMessage(), ds.size());
 			List<ID> ids = ds.stream().map(this::extractIdFromDto).filter(Objects::nonNull).toList();
 			log.debug(MessageCode.ENTITY_IDS_TO_UPDATE.getMessage(), ids);
-			List<T> existingEntities = jpaRepository.findAllById(ids);
+			List<T> existingEntities = findAllByIds(ids);
 			if (existingEntities.isEmpty()) {
 				throw new GlobalException(String.format(MessageCode.ENTITY_NOT_FOUND.getMessage(), ids));
 			}
 			Map<ID, T> entityMap = existingEntities.stream()
 					.collect(Collectors.toMap(this::extractIdFromEntity, e -> e));
+			List<T> matchedEntities = new ArrayList<>();
 			List<T> updatedEntities = new ArrayList<>();
 			for (D dto : ds) {
 				ID id = extractIdFromDto(dto);
@@ -172,9 +354,12 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 				}
 				T updatedEntity = globalMapper.mapToEntity(dto);
 				setEntityId(updatedEntity, id);
+				matchedEntities.add(existingEntity);
 				updatedEntities.add(updatedEntity);
 			}
+			beforeUpdate(matchedEntities, updatedEntities);
 			List<T> savedEntities = jpaRepository.saveAll(updatedEntities);
+			entityWritten();
 			log.info(MessageCode.ENTITY_UPDATE_ALL_SUCCESS.getMessage(), savedEntities.size());
 			return globalMapper.mapToDTOList(savedEntities);
 		} catch (Exception e) {
@@ -184,12 +369,173 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 		}
 	}
 
+	@Override
+	public BulkResult bulkUpdate(Iterable<D> ds) throws GlobalException {
+		BulkResult result = new BulkResult();
+		try {
+			log.info(MessageCode.BULK_UPDATE_ATTEMPT.getMessage(), bulkChunkSize, jdbcBatchSize);
+			processInChunks(ds, result, this::updateChunk);
+			log.info(MessageCode.BULK_UPDATE_SUCCESS.getMessage(), result.getTotalRows(), result.getElapsedMillis(),
+					Math.round(result.getRowsPerSecond()), result.getMissingIds().size());
+			return result;
+		} catch (Exception e) {
+			String reason = String.format(MessageCode.BULK_UPDATE_FAIL.getMessage(), result.getTotalRows(),
+					e.getMessage());
+			log.error(reason, e);
+			throw new GlobalException(reason, e);
+		}
+	}
+
+	/**
+	 * Writes one chunk as batched partial UPDATEs, one prepared statement per
+	 * distinct set of non-null fields, and returns the IDs that matched no row.
+	 * Rows whose count the driver does not report are checked with one SELECT.
+	 */
+	private List<Object> updateChunk(List<D> chunk) {
+		EntityUpdateMapping<T> mapping = updateMapping();
+		Map<BitSet, List<PendingUpdate>> byShape = new LinkedHashMap<>();
+		List<Object> unverified = new ArrayList<>();
+		List<T> entities = new ArrayList<>(chunk.size());
+		for (D dto : chunk) {
+			T entity = globalMapper.mapToEntity(dto);
+			entities.add(entity);
+			Object[] values = mapping.values(entity);
+			BitSet shape = EntityUpdateMapping.shape(values);
+			if (shape.isEmpty()) {
+				unverified.add(mapping.getId(entity));
+			} else {
+				byShape.computeIfAbsent(shape, s -> new ArrayList<>())
+						.add(new PendingUpdate(mapping.getId(entity), values));
+			}
+		}
+		beforeBulkUpdate(entities);
+		List<Object> missing = new ArrayList<>();
+		SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+		// plain JDBC bypasses the second-level cache: evict the entity region and
+		// invalidate cached queries on the table, as Hibernate does for native DML
+		BulkOperationCleanupAction.schedule(session, mapping.getPersister());
+		session.doWork(connection -> {
+			for (Map.Entry<BitSet, List<PendingUpdate>> entry : byShape.entrySet()) {
+				List<PendingUpdate> rows = entry.getValue();
+				try (PreparedStatement statement = connection.prepareStatement(mapping.updateSql(entry.getKey()))) {
+					for (int from = 0; from < rows.size(); from += jdbcBatchSize) {
+						List<PendingUpdate> batch = rows.subList(from, Math.min(from + jdbcBatchSize, rows.size()));
+						for (PendingUpdate row : batch) {
+							mapping.bind(statement, entry.getKey(), row.values(), row.id(), session);
+							statement.addBatch();
+						}
+						int[] counts = statement.executeBatch();
+						for (int i = 0; i < counts.length; i++) {
+							if (counts[i] == 0) {
+								missing.add(batch.get(i).id());
+							} else if (counts[i] == Statement.SUCCESS_NO_INFO) {
+								unverified.add(batch.get(i).id());
+							}
+						}
+					}
+				}
+			}
+		});
+		if (!unverified.isEmpty()) {
+			Set<Object> found = new HashSet<>(entityManager
+					.createQuery("select e." + mapping.getIdName() + " from "
+							+ entityManager.getMetamodel().entity(getEntityClass()).getName() + " e where e."
+							+ mapping.getIdName() + " in :ids", Object.class)
+					.setParameter("ids", unverified).getResultList());
+			unverified.stream().filter(id -> !found.contains(id)).forEach(missing::add);
+		}
+		return missing;
+	}
+
+	/**
+	 * Column mapping for set-based updates of {@code T}, built on first use.
+	 */
+	protected EntityUpdateMapping<T> updateMapping() {
+		EntityUpdateMapping<T> mapping = entityUpdateMapping;
+		if (mapping == null) {
+			mapping = EntityUpdateMapping.of(
+					entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class), getEntityClass());
+			entityUpdateMapping = mapping;
+		}
+		return mapping;
+	}
+
+	private record PendingUpdate(Object id, Object[] values) {
+	}
+
+	/**
+	 * Called by {@code update} and {@code updateAll} before the new state is
+	 * saved, inside the same transaction, with the current and the new state of
+	 * every entity at matching indexes. Subclasses that derive data from
+	 * changed fields override it; the current state must not be modified.
+	 */
+	protected void beforeUpdate(List<T> existing, List<T> updated) {
+	}
+
+	/**
+	 * Called by {@code bulkUpdate} before a chunk is written, inside the chunk's
+	 * transaction, with the entities of the chunk as sent: a {@code null} field
+	 * is left unchanged. The current state is not read.
+	 */
+	protected void beforeBulkUpdate(List<T> partial) {
+	}
+
+	/**
+	 * Called by {@code updateWhere} before its UPDATE, inside the same
+	 * transaction, with the fields it assigns; {@link #findIdsWhere} reads the
+	 * rows about to change.
+	 */
+	protected void beforeUpdateWhere(FilterRequest filterRequest, Set<String> fields) {
+	}
+
+	/** The IDs of the rows matching a filter, read in the current transaction. */
+	protected List<ID> findIdsWhere(FilterRequest filterRequest) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Object> cq = cb.createQuery(Object.class);
+		Root<T> root = cq.from(getEntityClass());
+		cq.select(root.get(updateMapping().getIdName())).where(buildWhere(cb, root, filterRequest, cq));
+		@SuppressWarnings("unchecked")
+		List<ID> ids = (List<ID>) (List<?>) entityManager.createQuery(cq).getResultList();
+		return ids;
+	}
+
+	/**
+	 * Called after every successful write through this service, once the
+	 * surrounding transaction (if any) has committed. Subclasses that keep
+	 * derived state, such as a cache of the table, override it.
+	 */
+	protected void onEntityWrite() {
+	}
+
+	/**
+	 * Invalidates what this service derived from the table once the current
+	 * transaction commits, or at once outside one. Called by every write
+	 * method; subclasses that write around the repository call it too.
+	 */
+	protected void entityWritten() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					entityCommitted();
+				}
+			});
+		} else {
+			entityCommitted();
+		}
+	}
+
+	private void entityCommitted() {
+		ReadYourWrites.markWritten();
+		queryResultCache.invalidate(getEntityClass());
+		onEntityWrite();
+	}
+
 	@SuppressWarnings("unchecked")
 	private ID extractIdFromDto(D dto) {
 		try {
-			Field idField = dto.getClass().getDeclaredField("id");
-			idField.setAccessible(true);
-			return (ID) idField.get(dto);
+			return (ID) dtoIdAccessor(dto).getId(dto);
 		} catch (Exception e) {
 			log.warn(MessageCode.ENTITY_EXTRACT_ID_FAIL.getMessage(), dto.getClass().getSimpleName());
 			return null;
@@ -199,23 +545,147 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	@SuppressWarnings("unchecked")
 	private ID extractIdFromEntity(T entity) {
 		try {
-			Field idField = entity.getClass().getDeclaredField("id");
-			idField.setAccessible(true);
-			return (ID) idField.get(entity);
+			return (ID) entityIdAccessor().getId(entity);
 		} catch (Exception e) {
 			log.warn(MessageCode.ENTITY_EXTRACT_ID_FAIL.getMessage(), entity.getClass().getSimpleName());
 			return null;
 		}
 	}
 
+	/**
+	 * Compiled ID accessor for {@code T}, resolved once from the JPA metamodel.
+	 */
+	protected IdAccessor<T> entityIdAccessor() {
+		IdAccessor<T> accessor = entityIdAccessor;
+		if (accessor == null) {
+			accessor = idAccessorRegistry.forEntity(getEntityClass());
+			entityIdAccessor = accessor;
+		}
+		return accessor;
+	}
+
+	/**
+	 * Compiled ID accessor for {@code D}, resolved on first use from the DTO's
+	 * runtime class.
+	 */
+	@SuppressWarnings("unchecked")
+	protected IdAccessor<D> dtoIdAccessor(D dto) {
+		IdAccessor<D> accessor = dtoIdAccessor;
+		if (accessor == null) {
+			accessor = idAccessorRegistry.forDto((Class<D>) dto.getClass(), getEntityClass());
+			dtoIdAccessor = accessor;
+		}
+		return accessor;
+	}
+
 	@Override
 	public D findById(ID id) {
-		T entity = findEntityById(id);
+		T entity;
+		if (coalescing()) {
+			log.info(String.format(MessageCode.ENTITY_FIND_BY_ID_ATTEMPT.getMessage(), id));
+			entity = idLoader().load(id);
+			if (entity == null) {
+				throw new GlobalException(String.format(MessageCode.ENTITY_NOT_FOUND.getMessage(), id));
+			}
+		} else {
+			entity = findEntityById(id);
+		}
 		log.info(MessageCode.ENTITY_FIND_BY_ID_SUCCESS.getMessage(), id);
 		return globalMapper.mapToDTO(entity);
 	}
 
+	/**
+	 * Whether ID lookups go through the shared {@link BatchLoader}. Not inside a
+	 * transaction: its reads must see its own writes and return entities managed
+	 * by its persistence context, and the batch runs outside it.
+	 */
+	private boolean coalescing() {
+		return coalesceEnabled && !TransactionSynchronizationManager.isActualTransactionActive();
+	}
+
+	/**
+	 * Loader that merges concurrent {@code findById}/{@code findMulti} calls into
+	 * one {@code findAllById}, built on first use. The entities it returns may be
+	 * shared between callers and are only read.
+	 */
+	private BatchLoader<ID, T> idLoader() {
+		BatchLoader<ID, T> loader = idLoader;
+		if (loader == null) {
+			loader = new BatchLoader<>(this::loadByIds, DurationStyle.detectAndParse(coalesceWindow).toNanos(),
+					coalesceMaxBatchSize);
+			idLoader = loader;
+		}
+		return loader;
+	}
+
+	/**
+	 * Reads entities by ID outside any transaction: in one multi-load, or, past
+	 * {@code in-clause-size} IDs, in chunks read in parallel.
+	 */
+	private Map<ID, T> loadByIds(Collection<ID> ids) {
+		if (ids.size() <= inListStrategy.getChunkSize()) {
+			return loadChunk(inListStrategy.pad(new ArrayList<>(ids)));
+		}
+		Map<ID, T> byId = new HashMap<>();
+		inListStrategy.inParallel(inListStrategy.chunks(new ArrayList<>(ids)), this::loadChunk).forEach(byId::putAll);
+		return byId;
+	}
+
+	/**
+	 * Reads a batch with Hibernate's multi-load, which takes what it can from the
+	 * second-level cache and fetches the rest with one IN query. The session is
+	 * read-only, like the query methods' transactions, so no snapshots are kept.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<ID, T> loadChunk(List<ID> ids) {
+		IdAccessor<T> accessor = entityIdAccessor();
+		Map<ID, T> byId = new HashMap<>();
+		EntityManager loadManager = entityManager.getEntityManagerFactory().createEntityManager();
+		try {
+			Session session = loadManager.unwrap(Session.class);
+			session.setDefaultReadOnly(true);
+			session.setHibernateFlushMode(FlushMode.MANUAL);
+			List<T> entities = session.byMultipleIds(getEntityClass())
+					.with(CacheMode.NORMAL).withBatchSize(ids.size()).multiLoad(ids);
+			for (T entity : entities) {
+				if (entity != null) {
+					byId.put((ID) accessor.getId(entity), entity);
+				}
+			}
+		} finally {
+			loadManager.close();
+		}
+		return byId;
+	}
+
+	/**
+	 * Reads entities by ID, each at most once. Inside a transaction the entities
+	 * must be managed by it, so chunks are read one after another on its
+	 * connection, and past the temporary-table threshold the IDs are joined from
+	 * {@link InListStrategy#TABLE}; outside one, see {@link #loadByIds}.
+	 */
+	private List<T> findAllByIds(Collection<ID> ids) {
+		List<ID> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return new ArrayList<>(loadByIds(distinct).values());
+		}
+		EntityType<T> entityType = entityManager.getMetamodel().entity(getEntityClass());
+		Class<?> idType = entityType.getIdType().getJavaType();
+		if (inListStrategy.usesTempTable(distinct.size(), idType)) {
+			inListStrategy.load(entityManager.unwrap(Session.class), 0, distinct, idType);
+			return entityManager.createQuery("select e from " + entityType.getName() + " e where e."
+					+ entityIdAccessor().getName() + " in (" + InListStrategy.subquery(idType, 0) + ")",
+					getEntityClass()).getResultList();
+		}
+		List<T> entities = new ArrayList<>(distinct.size());
+		for (List<ID> chunk : inListStrategy.chunks(distinct)) {
+			entities.addAll(jpaRepository.findAllById(chunk));
+		}
+		return entities;
+	}
+
 	@Override
+	@Transactional(readOnly = true)
 	public List<D> findAll() {
 		try {
 			log.info(MessageCode.ENTITY_FIND_ALL_ATTEMPT.getMessage());
@@ -240,7 +710,19 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 				log.warn(MessageCode.ENTITY_FIND_NO_IDS_PROVIDED.getMessage());
 				return Collections.emptyList();
 			}
-			List<T> entities = jpaRepository.findAllById(ids);
+			List<T> entities;
+			if (coalescing()) {
+				Map<ID, T> loaded = idLoader().loadAll(new LinkedHashSet<>(ids));
+				entities = new ArrayList<>(Math.min(ids.size(), loaded.size()));
+				for (ID id : new LinkedHashSet<>(ids)) {
+					T entity = loaded.get(id);
+					if (entity != null) {
+						entities.add(entity);
+					}
+				}
+			} else {
+				entities = findAllByIds(ids);
+			}
 			if (entities.isEmpty()) {
 				log.info(MessageCode.ENTITY_FIND_MULTI_NOT_FOUND.getMessage(), ids);
 			} else {
@@ -260,6 +742,7 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 			log.info(MessageCode.ENTITY_DELETE_BY_ID_ATTEMPT.getMessage(), id);
 			T entity = findEntityById(id);
 			jpaRepository.delete(entity);
+			entityWritten();
 			log.info(MessageCode.ENTITY_DELETE_BY_ID_SUCCESS.getMessage(), id);
 			return globalMapper.mapToDTO(entity);
 		} catch (Exception e) {
@@ -269,6 +752,7 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	}
 
 	@Override
+	@Transactional
 	public List<D> deleteMulti(List<ID> ids) {
 		try {
 			log.info(MessageCode.ENTITY_DELETE_MULTI_ATTEMPT.getMessage(), ids);
@@ -276,25 +760,65 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 				log.warn(MessageCode.ENTITY_FIND_NO_IDS_PROVIDED.getMessage());
 				return Collections.emptyList();
 			}
-			List<T> entities = jpaRepository.findAllById(ids);
+			List<T> entities = findAllByIds(ids);
 			if (entities.isEmpty()) {
 				log.warn(MessageCode.ENTITY_DELETE_MULTI_FAIL.getMessage(), ids);
 				return Collections.emptyList();
 			}
-			jpaRepository.deleteAll(entities);
+			List<D> deleted = globalMapper.mapToDTOList(entities);
+			deleteByIds(entities.stream().map(this::extractIdFromEntity).toList());
+			entityWritten();
 			log.info(MessageCode.ENTITY_DELETE_MULTI_SUCCESS.getMessage(), ids);
-			return globalMapper.mapToDTOList(entities);
+			return deleted;
 		} catch (Exception e) {
 			log.error(MessageCode.ENTITY_DELETE_MULTI_FAIL.getMessage(), ids, e);
 			throw new GlobalException(String.format(MessageCode.ENTITY_DELETE_MULTI_FAIL.getMessage(), ids), e);
 		}
 	}
 
+	@Override
+	@Transactional
+	public Integer deleteMultiInBatch(List<ID> ids) {
+		try {
+			if (ids == null || ids.isEmpty()) {
+				log.warn(MessageCode.ENTITY_FIND_NO_IDS_PROVIDED.getMessage());
+				return 0;
+			}
+			log.info(MessageCode.ENTITY_DELETE_BATCH_ATTEMPT.getMessage(), ids.size(), inListStrategy.getChunkSize());
+			int deleted = deleteByIds(ids);
+			entityWritten();
+			log.info(MessageCode.ENTITY_DELETE_BATCH_SUCCESS.getMessage(), deleted, ids.size());
+			return deleted;
+		} catch (Exception e) {
+			log.error(String.format(MessageCode.ENTITY_DELETE_BATCH_FAIL.getMessage(), e.getMessage()), e);
+			throw new GlobalException(String.format(MessageCode.ENTITY_DELETE_BATCH_FAIL.getMessage(), e.getMessage()),
+					e);
+		}
+	}
+
+	/**
+	 * Deletes by ID with one {@code DELETE .. WHERE id IN (..)} per padded chunk
+	 * of {@code in-clause-size} IDs, within the caller's transaction.
+	 */
+	private int deleteByIds(List<?> ids) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		String idName = entityIdAccessor().getName();
+		int deleted = 0;
+		for (List<?> chunk : inListStrategy.chunks(ids)) {
+			CriteriaDelete<T> delete = cb.createCriteriaDelete(getEntityClass());
+			Root<T> root = delete.from(getEntityClass());
+			delete.where(root.get(idName).in(chunk));
+			deleted += entityManager.createQuery(delete).executeUpdate();
+		}
+		return deleted;
+	}
+
 	@Override
 	public Boolean deleteAll() {
 		try {
 			log.info(MessageCode.ENTITY_DELETE_ALL_ATTEMPT.getMessage());
-			jpaRepository.deleteAll();
+			jpaRepository.deleteAllInBatch();
+			entityWritten();
 			log.info(MessageCode.ENTITY_DELETE_ALL_SUCCESS.getMessage());
 			return true;
 		} catch (Exception e) {
@@ -304,6 +828,7 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Page<D> findAsPage(Pageable pageable) {
 		try {
 			log.info(MessageCode.ATTEMPT_FIND_PAGE_OPERATION.getMessage());
@@ -321,43 +846,19 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<D> findAll(FilterRequest filterRequest) {
 		try {
 			log.info(MessageCode.ENTITY_FIND_ALL_ATTEMPT.getMessage());
-			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-			CriteriaQuery<T> cq = cb.createQuery(getEntityClass());
-			Root<T> root = cq.from(getEntityClass());
-			List<Predicate> predicates = new ArrayList<>();
-			if (filterRequest != null && filterRequest.getConditions() != null) {
-				for (FilterCondition fc : filterRequest.getConditions()) {
-					Predicate p = buildPredicate(cb, root, fc);
-					if (p != null)
-						predicates.add(p);
-				}
-			}
-			// Combine with AND/OR (default AND)
-			Predicate where = predicates.isEmpty() ? cb.conjunction()
-					: (filterRequest != null && filterRequest.getLogicalOperator() == LogicalOperator.OR)
-							? cb.or(predicates.toArray(new Predicate[0]))
-							: cb.and(predicates.toArray(new Predicate[0]));
-			cq.select(root).where(where);
-			// Sorting (optional)
-			if (filterRequest != null && filterRequest.getSortOrders() != null) {
-				List<Order> orders = new ArrayList<>();
-				for (SortOrder so : filterRequest.getSortOrders()) {
-					Path<?> path = root.get(so.getField());
-					orders.add(so.getDirection() == SortDirection.DESC ? cb.desc(path) : cb.asc(path));
-				}
-				if (!orders.isEmpty())
-					cq.orderBy(orders);
-			}
-			List<T> entities = entityManager.createQuery(cq).getResultList();
-			if (entities.isEmpty()) {
+			List<D> dtos = queryResultCache.get(getEntityClass(), "findAll|" + QueryResultCache.fingerprint(filterRequest),
+					() -> List.copyOf(globalMapper.mapToDTOList(coldArchiveStore.withArchived(getEntityClass(),
+							filterRequest, createPlannedQuery(filterRequest).getResultList()))));
+			if (dtos.isEmpty()) {
 				log.info(MessageCode.ENTITIES_NOT_FOUND.getMessage());
 				return Collections.emptyList();
 			}
-			log.info(MessageCode.ENTITY_FIND_ALL_SUCCESS.getMessage(), entities.size());
-			return globalMapper.mapToDTOList(entities);
+			log.info(MessageCode.ENTITY_FIND_ALL_SUCCESS.getMessage(), dtos.size());
+			return dtos;
 
 		} catch (Exception e) {
 			log.error(MessageCode.ENTITY_FETCH_ERROR.getMessage(), e.getMessage(), e);
@@ -365,12 +866,105 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 		}
 	}
 
-	/** Build a single Predicate for a condition, with basic type handling. */
+	@Override
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> findFields(FilterRequest filterRequest) {
+		try {
+			if (filterRequest == null || filterRequest.getFields() == null || filterRequest.getFields().isEmpty()) {
+				throw new GlobalException(MessageCode.PROJECTION_FIELDS_REQUIRED.getMessage());
+			}
+			log.info(MessageCode.PROJECTION_ATTEMPT.getMessage(), filterRequest.getFields(), filterRequest);
+			List<Map<String, Object>> rows = queryResultCache.get(getEntityClass(),
+					"fields|" + QueryResultCache.fingerprint(filterRequest), () -> readFields(filterRequest));
+			log.info(MessageCode.PROJECTION_SUCCESS.getMessage(), rows.size());
+			return rows;
+		} catch (Exception e) {
+			log.error(MessageCode.ENTITY_FETCH_ERROR.getMessage(), e.getMessage(), e);
+			throw new GlobalException(String.format(MessageCode.PROJECTION_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Runs the plan's scalar projection; the persistence context never sees an
+	 * entity, so there are no snapshots to keep or flush.
+	 */
+	private List<Map<String, Object>> readFields(FilterRequest filterRequest) {
+		FilterQueryPlan plan = filterPlanCache.getPlan(getEntityClass(), filterRequest);
+		TypedQuery<Tuple> query = entityManager.createQuery(plan.getProjectionJpql(), Tuple.class);
+		plan.bind(query, filterRequest);
+		List<Tuple> tuples = cacheable(query, plan).getResultList();
+		List<String> fields = List.copyOf(filterRequest.getFields());
+		List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+		for (Tuple tuple : tuples) {
+			rows.add(new ProjectionRow(fields, tuple.toArray()));
+		}
+		return Collections.unmodifiableList(rows);
+	}
+
+	/**
+	 * Builds the WHERE clause of a filter request, combining its conditions with
+	 * AND/OR (default AND).
+	 *
+	 * @param criteria The query the clause is for, which the first large IN list
+	 *                 joins the temporary table from. MySQL cannot open a
+	 *                 temporary table twice in one statement, so further large
+	 *                 lists are bound in chunks.
+	 */
+	private Predicate buildWhere(CriteriaBuilder cb, Root<T> root, FilterRequest filterRequest,
+			CommonAbstractCriteria criteria) {
+		List<Predicate> predicates = new ArrayList<>();
+		if (filterRequest != null && filterRequest.getConditions() != null) {
+			List<FilterCondition> conditions = filterRequest.getConditions();
+			PartitionKeys keys = PartitionKeys.of(getEntityClass());
+			boolean tempTableFree = criteria != null && TransactionSynchronizationManager.isActualTransactionActive();
+			for (int i = 0; i < conditions.size(); i++) {
+				FilterCondition fc = conditions.get(i);
+				Path<?> path = root.get(fc.getField());
+				Predicate p = buildPredicate(cb, path, fc, tempTableFree ? criteria : null, i);
+				if (fc.isCollectionBased() && fc.getValue() instanceof Collection<?> values
+						&& inListStrategy.usesTempTable(values.size(), path.getJavaType())) {
+					tempTableFree = false;
+				}
+				PartitionKeys.Key key = keys.keyFor(fc);
+				if (p != null && key != null) {
+					// implied by p; lets the database prune partitions
+					FilterCondition derived = key.derive(fc);
+					p = cb.and(p, buildPredicate(cb, root.get(key.field()), derived, null, -1));
+				}
+				if (p != null)
+					predicates.add(p);
+			}
+		}
+		return predicates.isEmpty() ? cb.conjunction()
+				: (filterRequest != null && filterRequest.getLogicalOperator() == LogicalOperator.OR)
+						? cb.or(predicates.toArray(new Predicate[0]))
+						: cb.and(predicates.toArray(new Predicate[0]));
+	}
+
+	/** Translates sort instructions into Criteria orders. */
+	private List<Order> buildOrders(CriteriaBuilder cb, Root<T> root, List<SortOrder> sortOrders) {
+		List<Order> orders = new ArrayList<>();
+		if (sortOrders != null) {
+			for (SortOrder so : sortOrders) {
+				Path<?> path = root.get(so.getField());
+				orders.add(so.getDirection() == SortDirection.DESC ? cb.desc(path) : cb.asc(path));
+			}
+		}
+		return orders;
+	}
+
+	/**
+	 * Build a single Predicate for a condition against any expression.
+	 *
+	 * @param criteria The enclosing query, or {@code null} where no subquery may
+	 *                 be used.
+	 * @param listNo   Temporary-table list number of an IN condition.
+	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private Predicate buildPredicate(CriteriaBuilder cb, Root<T> root, FilterCondition fc) {
+	private Predicate buildPredicate(CriteriaBuilder cb, Expression<?> path, FilterCondition fc,
+			CommonAbstractCriteria criteria, int listNo) {
 		String field = fc.getField();
 		Object value = fc.getValue();
-		Path<?> path = root.get(field);
 		Class<?> javaType = path.getJavaType();
 
 		switch (fc.getOperator()) {
@@ -401,18 +995,12 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 			if (!(value instanceof Collection<?> col)) {
 				throw new GlobalException("Value for IN must be a collection: " + field);
 			}
-			CriteriaBuilder.In<Object> in = cb.in(path);
-			for (Object v : col)
-				in.value(convert(v, javaType));
-			return in;
+			return inList(cb, path, typeConverterRegistry.convertAll(col, javaType), criteria, listNo);
 		case NOT_IN:
 			if (!(value instanceof Collection<?> col2)) {
 				throw new GlobalException("Value for NOT_IN must be a collection: " + field);
 			}
-			CriteriaBuilder.In<Object> in2 = cb.in(path);
-			for (Object v : col2)
-				in2.value(convert(v, javaType));
-			return cb.not(in2);
+			return cb.not(inList(cb, path, typeConverterRegistry.convertAll(col2, javaType), criteria, listNo));
 		case IS_NULL:
 			return cb.isNull(path);
 		case IS_NOT_NULL:
@@ -423,96 +1011,763 @@ public abstract class BaseServiceImpl<T, D, ID> implements BaseService<T, D, ID>
 	}
 
 	/**
-	 * Minimal converter to coerce values to the field's Java type. Extend as
-	 * needed.
+	 * {@code path IN (..)} through the {@link InListStrategy}: a subquery over the
+	 * temporary table for large lists inside a transaction, otherwise padded
+	 * chunks of bound values joined with OR.
+	 */
+	private Predicate inList(CriteriaBuilder cb, Expression<?> path, List<Object> values,
+			CommonAbstractCriteria criteria, int listNo) {
+		Class<?> javaType = path.getJavaType();
+		if (criteria != null && TransactionSynchronizationManager.isActualTransactionActive()
+				&& inListStrategy.usesTempTable(values.size(), javaType)) {
+			inListStrategy.load(entityManager.unwrap(Session.class), listNo, values, javaType);
+			Root<InListValue> v;
+			Subquery<?> listed;
+			if (javaType == String.class) {
+				Subquery<String> strings = criteria.subquery(String.class);
+				v = strings.from(InListValue.class);
+				listed = strings.select(v.get("strValue"));
+			} else {
+				Subquery<Long> numbers = criteria.subquery(Long.class);
+				v = numbers.from(InListValue.class);
+				listed = numbers.select(v.get("numValue"));
+			}
+			listed.where(cb.equal(v.get("listNo"), listNo));
+			return path.in(listed);
+		}
+		List<Predicate> chunks = new ArrayList<>();
+		for (List<Object> chunk : inListStrategy.chunks(values)) {
+			CriteriaBuilder.In<Object> in = cb.in(path);
+			chunk.forEach(in::value);
+			chunks.add(in);
+		}
+		return chunks.size() == 1 ? chunks.get(0) : cb.or(chunks.toArray(new Predicate[0]));
+	}
+
+	/**
+	 * Coerces a value to the field's Java type through the shared converter
+	 * registry.
 	 */
 	private Object convert(Object value, Class<?> targetType) {
-		if (value == null || targetType.isInstance(value))
-			return value;
-
-		if (targetType == String.class)
-			return String.valueOf(value);
-		if (Number.class.isAssignableFrom(targetType)) {
-			String s = String.valueOf(value);
-			if (targetType == Integer.class)
-				return Integer.valueOf(s);
-			if (targetType == Long.class)
-				return Long.valueOf(s);
-			if (targetType == Double.class)
-				return Double.valueOf(s);
-			if (targetType == Float.class)
-				return Float.valueOf(s);
-			if (targetType == Short.class)
-				return Short.valueOf(s);
-			if (targetType == BigDecimal.class)
-				return new BigDecimal(s);
-		}
-		if (targetType == Boolean.class)
-			return Boolean.valueOf(String.valueOf(value));
-		if (Comparable.class.isAssignableFrom(targetType) && value instanceof String str) {
-			// dates/times/uuids — plug in your parsers here
-			if (targetType == LocalDate.class)
-				return LocalDate.parse(str);
-			if (targetType == LocalDateTime.class)
-				return LocalDateTime.parse(str);
-			if (targetType == UUID.class)
-				return UUID.fromString(str);
-		}
-		return value; // last resort
+		return typeConverterRegistry.convert(value, targetType);
 	}
 
+	/**
+	 * Filtered pagination without an implicit COUNT query. {@code hasNext} is
+	 * decided by fetching one extra row; a total is only computed when
+	 * {@link FilterRequest#isIncludeTotal()} is set.
+	 *
+	 * <p>
+	 * In {@link PaginationMode#KEYSET} mode the page number is ignored: the
+	 * position comes from {@link FilterRequest#getCursor()} and the query seeks
+	 * with {@code (sortKey, id) > (?, ?)} so every page costs the same as the
+	 * first. The identifier is appended to the sort as a tiebreaker.
+	 * </p>
+	 */
 	@Override
+	@Transactional(readOnly = true)
 	public Page<D> findAll(FilterRequest filterRequest, Pageable pageable) {
-		// TODO Auto-generated method stub
+		try {
+			log.info(MessageCode.ATTEMPT_FIND_PAGE_OPERATION.getMessage());
+			FilterRequest request = filterRequest != null ? filterRequest : FilterRequest.builder().build();
+			if (pageable == null || pageable.isUnpaged()) {
+				return new PageImpl<>(findAll(request));
+			}
+			List<SortOrder> sortOrders = resolveSortOrders(request, pageable);
+			CursorPage<D> page = request.getPaginationMode() == PaginationMode.KEYSET
+					? findKeysetPage(request, sortOrders, pageable)
+					: findOffsetPage(request, sortOrders, pageable);
+			log.info(MessageCode.FIND_PAGE_SUCCESS.getMessage(), page.getNumberOfElements());
+			return page;
+		} catch (Exception e) {
+			log.error(MessageCode.ENTITY_FETCH_ERROR.getMessage(), e.getMessage(), e);
+			throw new GlobalException(String.format(MessageCode.ENTITY_FETCH_ALL_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	private CursorPage<D> findOffsetPage(FilterRequest request, List<SortOrder> sortOrders, Pageable pageable) {
+		FilterRequest sorted = request;
+		if (sortOrders != request.getSortOrders()) {
+			sorted = FilterRequest.builder().conditions(request.getConditions())
+					.logicalOperator(request.getLogicalOperator()).sortOrders(sortOrders).build();
+		}
+		List<T> rows = createPlannedQuery(sorted).setFirstResult((int) pageable.getOffset())
+				.setMaxResults(pageable.getPageSize() + 1).getResultList();
+		boolean hasNext = rows.size() > pageable.getPageSize();
+		List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+		Long total = request.isIncludeTotal() ? countByFilter(request) : null;
+		return new CursorPage<>(globalMapper.mapToDTOList(content), pageable, hasNext, null, total);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private CursorPage<D> findKeysetPage(FilterRequest request, List<SortOrder> sortOrders, Pageable pageable) {
+		List<SortOrder> keys = withIdTiebreaker(sortOrders);
+		String signature = keys.stream().map(k -> k.getField() + ":" + direction(k)).collect(Collectors.joining(","));
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> cq = cb.createQuery(getEntityClass());
+		Root<T> root = cq.from(getEntityClass());
+		List<Path<?>> paths = keys.stream().<Path<?>>map(k -> root.get(k.getField())).toList();
+		Predicate where = buildWhere(cb, root, request, cq);
+		if (request.getCursor() != null && !request.getCursor().isBlank()) {
+			log.debug(MessageCode.KEYSET_PAGE_SEEK.getMessage(), signature);
+			List<Object> values = KeysetCursor.decode(request.getCursor(), signature,
+					paths.stream().<Class<?>>map(Path::getJavaType).toList());
+			where = cb.and(where, buildSeekPredicate(cb, (List) paths, keys, values));
+		}
+		cq.select(root).where(where).orderBy(buildOrders(cb, root, keys));
+		List<T> rows = entityManager.createQuery(cq).setMaxResults(pageable.getPageSize() + 1).getResultList();
+		boolean hasNext = rows.size() > pageable.getPageSize();
+		List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+		String nextCursor = hasNext ? KeysetCursor.encode(signature, readSortValues(content.get(content.size() - 1), keys))
+				: null;
+		Long total = request.isIncludeTotal() ? countByFilter(request) : null;
+		return new CursorPage<>(globalMapper.mapToDTOList(content), pageable, hasNext, nextCursor, total);
+	}
+
+	/**
+	 * Expands the row-value comparison {@code (k1, k2, .., id) > (v1, v2, .., vn)}
+	 * into {@code k1 > v1 OR (k1 = v1 AND k2 > v2) OR ...}, honouring each key's
+	 * direction. NULL is treated as the lowest value, matching MySQL and H2 default
+	 * ordering.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Predicate buildSeekPredicate(CriteriaBuilder cb, List<Expression<? extends Comparable>> paths,
+			List<SortOrder> keys, List<Object> values) {
+		List<Predicate> branches = new ArrayList<>();
+		List<Predicate> equalities = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			Expression<? extends Comparable> path = paths.get(i);
+			Object value = values.get(i);
+			boolean desc = keys.get(i).getDirection() == SortDirection.DESC;
+			Predicate after;
+			if (value == null) {
+				after = desc ? cb.disjunction() : cb.isNotNull(path);
+			} else {
+				after = desc ? cb.or(cb.lessThan(path, (Comparable) value), cb.isNull(path))
+						: cb.greaterThan(path, (Comparable) value);
+			}
+			List<Predicate> branch = new ArrayList<>(equalities);
+			branch.add(after);
+			branches.add(cb.and(branch.toArray(new Predicate[0])));
+			equalities.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+		}
+		Predicate seek = cb.or(branches.toArray(new Predicate[0]));
+		// Redundant leading-key bound so the optimizer can use a range scan.
+		if (values.get(0) != null && keys.get(0).getDirection() != SortDirection.DESC) {
+			seek = cb.and(cb.greaterThanOrEqualTo(paths.get(0), (Comparable) values.get(0)), seek);
+		}
+		return seek;
+	}
+
+	/** Sort orders of the request, falling back to the pageable's sort. */
+	private List<SortOrder> resolveSortOrders(FilterRequest request, Pageable pageable) {
+		if (request.getSortOrders() != null && !request.getSortOrders().isEmpty()) {
+			return request.getSortOrders();
+		}
+		List<SortOrder> sortOrders = new ArrayList<>();
+		pageable.getSort().forEach(o -> sortOrders
+				.add(new SortOrder(o.getProperty(), o.isDescending() ? SortDirection.DESC : SortDirection.ASC)));
+		return sortOrders;
+	}
+
+	/** Appends the identifier so that keyset ordering is total. */
+	private List<SortOrder> withIdTiebreaker(List<SortOrder> sortOrders) {
+		String idName = entityIdAccessor().getName();
+		if (sortOrders.stream().anyMatch(so -> idName.equals(so.getField()))) {
+			return sortOrders;
+		}
+		List<SortOrder> keys = new ArrayList<>(sortOrders);
+		keys.add(new SortOrder(idName,
+				sortOrders.isEmpty() ? SortDirection.ASC : direction(sortOrders.get(sortOrders.size() - 1))));
+		return keys;
+	}
+
+	private static SortDirection direction(SortOrder so) {
+		return so.getDirection() == SortDirection.DESC ? SortDirection.DESC : SortDirection.ASC;
+	}
+
+	private List<Object> readSortValues(T entity, List<SortOrder> keys) {
+		BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+		List<Object> values = new ArrayList<>(keys.size());
+		for (SortOrder key : keys) {
+			values.add(wrapper.getPropertyValue(key.getField()));
+		}
+		return values;
+	}
+
+	/** Issues a single {@code SELECT COUNT(*)} for the filter. */
+	private Long countByFilter(FilterRequest filterRequest) {
+		FilterQueryPlan plan = filterPlanCache.getPlan(getEntityClass(), filterRequest);
+		TypedQuery<Long> query = entityManager.createQuery(plan.getCountJpql(), Long.class);
+		plan.bind(query, filterRequest);
+		return cacheable(query, plan).getSingleResult();
+	}
+
+	/**
+	 * Creates the select query of a filter request from its cached compiled plan,
+	 * so structurally identical requests skip Criteria tree construction and
+	 * Hibernate's translation.
+	 */
+	private TypedQuery<T> createPlannedQuery(FilterRequest filterRequest) {
+		FilterQueryPlan plan = filterPlanCache.getPlan(getEntityClass(), filterRequest);
+		TypedQuery<T> query = entityManager.createQuery(plan.getSelectJpql(), getEntityClass());
+		plan.bind(query, filterRequest);
+		return cacheable(query, plan);
+	}
+
+	/**
+	 * Query cache region of the filter queries of {@code T}, or {@code null} (the
+	 * default) to not cache them. Any write to the table invalidates every cached
+	 * result, so only tables read far more often than written should opt in.
+	 */
+	protected String queryCacheRegion() {
 		return null;
 	}
 
+	private <Q extends TypedQuery<?>> Q cacheable(Q query) {
+		String region = queryCacheRegion();
+		if (region != null) {
+			query.setHint(HibernateHints.HINT_CACHEABLE, true);
+			query.setHint(HibernateHints.HINT_CACHE_REGION, region);
+			if (queryResultCache.isSettling(getEntityClass())) {
+				// read what is cached, but do not store what a lagging replica may return
+				query.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.GET);
+			}
+		}
+		return query;
+	}
+
+	/** {@link #cacheable(TypedQuery)}, unless the plan reads a temporary table. */
+	private <Q extends TypedQuery<?>> Q cacheable(Q query, FilterQueryPlan plan) {
+		return plan.usesTempTable() ? query : cacheable(query);
+	}
+
 	@Override
+	public Stream<D> findAllAsStream(FilterRequest filterRequest) {
+		EntityManager streamManager = entityManager.getEntityManagerFactory().createEntityManager();
+		try {
+			log.info(MessageCode.STREAM_OPEN.getMessage(), filterRequest, streamFetchSize);
+			Session session = streamManager.unwrap(Session.class);
+			session.setDefaultReadOnly(true);
+			session.setHibernateFlushMode(FlushMode.MANUAL);
+			session.doWork(connection -> connection.setReadOnly(true));
+			streamManager.getTransaction().begin();
+			FilterQueryPlan plan = filterPlanCache.getPlan(getEntityClass(), filterRequest);
+			org.hibernate.query.Query<T> query = session.createQuery(plan.getSelectJpql(), getEntityClass());
+			plan.bind(query, filterRequest);
+			query.setFetchSize(streamFetchSize);
+			query.setReadOnly(true);
+			ScrollableResults<T> rows = query.scroll(ScrollMode.FORWARD_ONLY);
+			ScrollIterator iterator = new ScrollIterator(rows, session);
+			return StreamSupport
+					.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+							false)
+					.onClose(() -> {
+						try {
+							rows.close();
+						} finally {
+							closeStreamManager(streamManager);
+							log.info(MessageCode.STREAM_CLOSE.getMessage(), iterator.count);
+						}
+					});
+		} catch (Exception e) {
+			closeStreamManager(streamManager);
+			log.error(String.format(MessageCode.STREAM_FAIL.getMessage(), e.getMessage()), e);
+			throw new GlobalException(String.format(MessageCode.STREAM_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	private static void closeStreamManager(EntityManager streamManager) {
+		try {
+			if (streamManager.getTransaction().isActive()) {
+				streamManager.getTransaction().rollback();
+			}
+		} finally {
+			streamManager.close();
+		}
+	}
+
+	/**
+	 * Maps scrolled entities to DTOs one at a time, clearing the session every
+	 * {@code streamFetchSize} rows so detached rows can be collected.
+	 */
+	private final class ScrollIterator implements Iterator<D> {
+
+		private final ScrollableResults<T> rows;
+		private final Session session;
+		private Boolean advanced;
+		private long count;
+
+		private ScrollIterator(ScrollableResults<T> rows, Session session) {
+			this.rows = rows;
+			this.session = session;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (advanced == null) {
+				advanced = rows.next();
+			}
+			return advanced;
+		}
+
+		@Override
+		public D next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			advanced = null;
+			D dto = globalMapper.mapToDTO(rows.get());
+			if (++count % streamFetchSize == 0) {
+				session.clear();
+			}
+			return dto;
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
 	public Long count(FilterRequest filterRequest) {
-		// TODO Auto-generated method stub
-		return null;
+		try {
+			log.info(MessageCode.COUNT_ATTEMPT.getMessage(), filterRequest);
+			Long count = queryResultCache.get(getEntityClass(),
+					"count|" + QueryResultCache.fingerprint(filterRequest),
+					() -> countByFilter(filterRequest) + coldArchiveStore.count(getEntityClass(), filterRequest));
+			log.info(MessageCode.COUNT_SUCCESS.getMessage(), count);
+			return count;
+		} catch (Exception e) {
+			log.error(MessageCode.ENTITY_FETCH_ERROR.getMessage(), e.getMessage(), e);
+			throw new GlobalException(String.format(MessageCode.COUNT_FAIL.getMessage(), e.getMessage()), e);
+		}
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Boolean exists(FilterRequest filterRequest) {
-		// TODO Auto-generated method stub
-		return null;
+		try {
+			log.info(MessageCode.EXISTS_ATTEMPT.getMessage(), filterRequest);
+			Boolean exists = queryResultCache.get(getEntityClass(),
+					"exists|" + QueryResultCache.fingerprint(filterRequest), () -> existsByFilter(filterRequest)
+							|| coldArchiveStore.exists(getEntityClass(), filterRequest));
+			log.info(MessageCode.EXISTS_SUCCESS.getMessage(), exists);
+			return exists;
+		} catch (Exception e) {
+			log.error(MessageCode.ENTITY_FETCH_ERROR.getMessage(), e.getMessage(), e);
+			throw new GlobalException(String.format(MessageCode.EXISTS_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	/** Issues {@code SELECT 1 .. LIMIT 1}, so at most one row is read. */
+	private Boolean existsByFilter(FilterRequest filterRequest) {
+		FilterQueryPlan plan = filterPlanCache.getPlan(getEntityClass(), filterRequest);
+		TypedQuery<Integer> query = entityManager.createQuery(plan.getExistsJpql(), Integer.class);
+		plan.bind(query, filterRequest);
+		return !cacheable(query, plan).setMaxResults(1).getResultList().isEmpty();
 	}
 
 	@Override
+	@Transactional
+	public Integer updateWhere(FilterRequest filterRequest, Map<String, UpdateExpression> assignments) {
+		try {
+			log.info(MessageCode.UPDATE_WHERE_ATTEMPT.getMessage(), filterRequest, assignments);
+			requireConditions(filterRequest);
+			if (assignments == null || assignments.isEmpty()) {
+				throw new GlobalException(MessageCode.BULK_ASSIGNMENT_REQUIRED.getMessage());
+			}
+			beforeUpdateWhere(filterRequest, assignments.keySet());
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaUpdate<T> update = cb.createCriteriaUpdate(getEntityClass());
+			Root<T> root = update.from(getEntityClass());
+			for (Map.Entry<String, UpdateExpression> assignment : assignments.entrySet()) {
+				setAssignment(cb, update, root, assignment.getKey(), assignment.getValue());
+			}
+			update.where(buildWhere(cb, root, filterRequest, update));
+			int updated = entityManager.createQuery(update).executeUpdate();
+			entityWritten();
+			log.info(MessageCode.UPDATE_WHERE_SUCCESS.getMessage(), updated);
+			return updated;
+		} catch (Exception e) {
+			log.error(String.format(MessageCode.UPDATE_WHERE_FAIL.getMessage(), e.getMessage()), e);
+			throw new GlobalException(String.format(MessageCode.UPDATE_WHERE_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	@Override
+	@Transactional
+	public Integer deleteWhere(FilterRequest filterRequest) {
+		try {
+			log.info(MessageCode.DELETE_WHERE_ATTEMPT.getMessage(), filterRequest);
+			requireConditions(filterRequest);
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaDelete<T> delete = cb.createCriteriaDelete(getEntityClass());
+			Root<T> root = delete.from(getEntityClass());
+			delete.where(buildWhere(cb, root, filterRequest, delete));
+			int deleted = entityManager.createQuery(delete).executeUpdate();
+			entityWritten();
+			log.info(MessageCode.DELETE_WHERE_SUCCESS.getMessage(), deleted);
+			return deleted;
+		} catch (Exception e) {
+			log.error(String.format(MessageCode.DELETE_WHERE_FAIL.getMessage(), e.getMessage()), e);
+			throw new GlobalException(String.format(MessageCode.DELETE_WHERE_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	/** Guards filter-driven mutations against silently touching every row. */
+	private static void requireConditions(FilterRequest filterRequest) {
+		if (filterRequest == null || filterRequest.getConditions() == null
+				|| filterRequest.getConditions().isEmpty()) {
+			throw new GlobalException(MessageCode.BULK_FILTER_REQUIRED.getMessage());
+		}
+	}
+
+	/**
+	 * Adds {@code field = expression} to the update: a literal, another field, or
+	 * {@code operand <op> value} evaluated by the database.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void setAssignment(CriteriaBuilder cb, CriteriaUpdate<T> update, Root<T> root, String field,
+			UpdateExpression expression) {
+		Path target = root.get(field);
+		if (expression == null || (expression.getOperator() == null && expression.getField() == null
+				&& expression.getValue() == null)) {
+			assign(update, target, cb.nullLiteral(target.getJavaType()));
+			return;
+		}
+		if (expression.getOperator() == null) {
+			assign(update, target, expression.getField() != null ? root.get(expression.getField())
+					: cb.literal(convert(expression.getValue(), target.getJavaType())));
+			return;
+		}
+		Path operand = expression.getField() != null ? root.get(expression.getField()) : target;
+		Class<?> type = operand.getJavaType();
+		if (!isNumeric(type)) {
+			throw new GlobalException("Arithmetic requires a numeric field: "
+					+ (expression.getField() != null ? expression.getField() : field));
+		}
+		if (expression.getValue() == null) {
+			throw new GlobalException("Arithmetic operand value is required for field: " + field);
+		}
+		if (isIntegral(type) && new BigDecimal(expression.getValue().toString()).stripTrailingZeros().scale() > 0) {
+			throw new GlobalException("Fractional operand " + expression.getValue() + " for integral field: " + field);
+		}
+		Number value = (Number) convert(expression.getValue(), type);
+		switch (expression.getOperator()) {
+		case ADD:
+			assign(update, target, cb.sum(operand, value));
+			break;
+		case SUBTRACT:
+			assign(update, target, cb.diff(operand, value));
+			break;
+		case MULTIPLY:
+			assign(update, target, cb.prod(operand, value));
+			break;
+		case DIVIDE:
+			assign(update, target, cb.quot(operand, value));
+			break;
+		default:
+			throw new GlobalException("Unsupported arithmetic operator: " + expression.getOperator());
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
 	public Optional<D> findOneByField(String fieldName, Object value) {
 		// TODO Auto-generated method stub
 		return Optional.empty();
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<D> findAllByField(String fieldName, Object value) {
 		// TODO Auto-generated method stub
 		return null;
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Long count() {
-		// TODO Auto-generated method stub
-		return null;
+		return count(null);
 	}
 
+	/**
+	 * Reads the row estimate the database keeps for the table: {@code TABLE_ROWS}
+	 * on MySQL, which InnoDB samples and may cache for
+	 * {@code information_schema_stats_expiry}, and {@code ROW_COUNT_ESTIMATE} on
+	 * H2.
+	 */
 	@Override
+	@Transactional(readOnly = true)
+	public Long approximateCount() {
+		String table = updateMapping().getTable();
+		try {
+			Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+					.getJdbcServices().getDialect();
+			String sql;
+			if (dialect instanceof MySQLDialect) {
+				sql = "select table_rows from information_schema.tables where table_schema = database() and table_name = ?1";
+			} else if (dialect instanceof H2Dialect) {
+				sql = "select row_count_estimate from information_schema.tables where table_schema = current_schema and upper(table_name) = upper(?1)";
+			} else {
+				throw new GlobalException(dialect.getClass().getSimpleName() + " has no row estimate");
+			}
+			List<?> rows = entityManager.createNativeQuery(sql).setParameter(1, table).getResultList();
+			if (!rows.isEmpty() && rows.get(0) instanceof Number estimate) {
+				log.info(MessageCode.APPROXIMATE_COUNT_SUCCESS.getMessage(), table, estimate);
+				return estimate.longValue();
+			}
+			log.warn(MessageCode.APPROXIMATE_COUNT_UNAVAILABLE.getMessage(), table, "no statistics");
+		} catch (Exception e) {
+			log.warn(MessageCode.APPROXIMATE_COUNT_UNAVAILABLE.getMessage(), table, e.getMessage());
+		}
+		return count();
+	}
+
+	/**
+	 * Issues one {@code SELECT 1 .. WHERE id = ? LIMIT 1}. The second-level cache
+	 * is not consulted: after a delete a read-write region still holds a lock
+	 * entry for the ID until it expires.
+	 */
+	@Override
+	@Transactional(readOnly = true)
 	public Boolean existsById(ID id) {
-		// TODO Auto-generated method stub
-		return null;
+		if (id == null) {
+			return false;
+		}
+		try {
+			log.info(MessageCode.EXISTS_ATTEMPT.getMessage(), id);
+			boolean exists = !entityManager
+					.createQuery("select 1 from " + entityManager.getMetamodel().entity(getEntityClass()).getName()
+							+ " e where e." + updateMapping().getIdName() + " = :id", Integer.class)
+					.setParameter("id", id).setMaxResults(1).getResultList().isEmpty();
+			log.info(MessageCode.EXISTS_SUCCESS.getMessage(), exists);
+			return exists;
+		} catch (Exception e) {
+			log.error(MessageCode.ENTITY_FETCH_ERROR.getMessage(), e.getMessage(), e);
+			throw new GlobalException(String.format(MessageCode.EXISTS_FAIL.getMessage(), e.getMessage()), e);
+		}
 	}
 
+	/**
+	 * Compiles every requested function into a single Criteria multiselect so the
+	 * aggregation runs in the database and no entity is materialized. SUM and AVG
+	 * over {@link BigDecimal} columns are returned as {@link BigDecimal}.
+	 */
 	@Override
+	@Transactional(readOnly = true)
 	public Map<String, Object> aggregate(AggregateRequest aggregateRequest) {
-		// TODO Auto-generated method stub
-		return null;
+		try {
+			log.info(MessageCode.AGGREGATE_ATTEMPT.getMessage(), aggregateRequest);
+			if (aggregateRequest == null || aggregateRequest.getAggregations() == null
+					|| aggregateRequest.getAggregations().isEmpty()) {
+				throw new GlobalException(MessageCode.AGGREGATE_NO_FUNCTIONS.getMessage());
+			}
+			Map<String, Object> result = queryResultCache.get(getEntityClass(),
+					"aggregate|" + QueryResultCache.fingerprint(aggregateRequest),
+					() -> Collections.unmodifiableMap(runAggregate(aggregateRequest)));
+			log.info(MessageCode.AGGREGATE_SUCCESS.getMessage(), result.size());
+			return result;
+		} catch (Exception e) {
+			log.error(MessageCode.ENTITY_FETCH_ERROR.getMessage(), e.getMessage(), e);
+			throw new GlobalException(String.format(MessageCode.AGGREGATE_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	private Map<String, Object> runAggregate(AggregateRequest aggregateRequest) {
+		List<AggregateFunction> functions = aggregateRequest.getAggregations();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<T> root = cq.from(getEntityClass());
+		List<Selection<?>> selections = new ArrayList<>(functions.size());
+		for (AggregateFunction af : functions) {
+			selections.add(buildAggregateExpression(cb, root, af));
+		}
+		cq.multiselect(selections).where(buildWhere(cb, root, aggregateRequest.getFilterRequest(), cq));
+		Tuple tuple = entityManager.createQuery(cq).getSingleResult();
+		Map<String, Object> result = new LinkedHashMap<>();
+		for (int i = 0; i < functions.size(); i++) {
+			result.put(aggregateAlias(functions.get(i)), tuple.get(i));
+		}
+		return result;
+	}
+
+	/** Build the SQL aggregate expression for a single function. */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Expression<?> buildAggregateExpression(CriteriaBuilder cb, Root<T> root, AggregateFunction af) {
+		AggregateType type = af.getFunction();
+		if (type == null) {
+			throw new GlobalException("Aggregate function is required for field: " + af.getField());
+		}
+		if (type == AggregateType.COUNT) {
+			return isWildcard(af.getField()) ? cb.count(root) : cb.count(root.get(af.getField()));
+		}
+		Path<?> path = root.get(af.getField());
+		Class<?> javaType = path.getJavaType();
+		switch (type) {
+		case SUM:
+			requireNumeric(af, javaType);
+			return cb.sum((Expression<Number>) path);
+		case AVG:
+			requireNumeric(af, javaType);
+			// AVG is typed Double by JPA; keep money columns exact
+			return javaType == BigDecimal.class ? cb.toBigDecimal(cb.avg((Expression<Number>) path))
+					: cb.avg((Expression<Number>) path);
+		case MAX:
+			return isNumeric(javaType) ? cb.max((Expression<Number>) path)
+					: cb.greatest((Expression<Comparable>) path);
+		case MIN:
+			return isNumeric(javaType) ? cb.min((Expression<Number>) path) : cb.least((Expression<Comparable>) path);
+		default:
+			throw new GlobalException("Unsupported aggregate function: " + type);
+		}
+	}
+
+	/** Result key of a function: its alias, or e.g. {@code sumSalary}. */
+	private static String aggregateAlias(AggregateFunction af) {
+		if (af.getAlias() != null && !af.getAlias().isBlank()) {
+			return af.getAlias();
+		}
+		String prefix = af.getFunction().getValue().toLowerCase();
+		String field = af.getField();
+		return isWildcard(field) ? prefix : prefix + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+	}
+
+	private static boolean isWildcard(String field) {
+		return field == null || field.isBlank() || "*".equals(field);
+	}
+
+	private static <Y> void assign(CriteriaUpdate<?> update, Path<Y> target, Expression<? extends Y> value) {
+		update.set(target, value);
 	}
 
+	private static boolean isNumeric(Class<?> javaType) {
+		return Number.class.isAssignableFrom(javaType)
+				|| (javaType.isPrimitive() && javaType != boolean.class && javaType != char.class);
+	}
+
+	private static boolean isIntegral(Class<?> javaType) {
+		return javaType == Long.class || javaType == long.class || javaType == Integer.class || javaType == int.class
+				|| javaType == Short.class || javaType == short.class || javaType == Byte.class
+				|| javaType == byte.class || javaType == BigInteger.class;
+	}
+
+	private static void requireNumeric(AggregateFunction af, Class<?> javaType) {
+		if (!isNumeric(javaType)) {
+			throw new GlobalException(af.getFunction() + " is only valid for numeric fields: " + af.getField());
+		}
+	}
+
+	/**
+	 * Runs the whole breakdown as one GROUP BY query and streams its rows into a
+	 * column-oriented {@link GroupByResult}.
+	 *
+	 * <p>
+	 * The Criteria API has no ROLLUP construct, so in rollup mode the detail
+	 * groups are ordered by their group fields and {@link RollupAggregator}
+	 * derives the subtotals and grand total in the same pass. Subtotals cover the
+	 * groups that pass HAVING. Requested sort orders then apply within the
+	 * innermost group field.
+	 * </p>
+	 */
 	@Override
-	public List<Map<String, Object>> groupBy(GroupByRequest groupByRequest) {
-		// TODO Auto-generated method stub
-		return null;
+	@Transactional(readOnly = true)
+	public GroupByResult groupBy(GroupByRequest groupByRequest) {
+		try {
+			log.info(MessageCode.GROUP_BY_ATTEMPT.getMessage(), groupByRequest);
+			if (groupByRequest == null || groupByRequest.getGroupByFields() == null
+					|| groupByRequest.getGroupByFields().isEmpty()) {
+				throw new GlobalException(MessageCode.GROUP_BY_NO_FIELDS.getMessage());
+			}
+			List<String> groupFields = groupByRequest.getGroupByFields();
+			List<AggregateFunction> functions = groupByRequest.getAggregations() != null
+					? groupByRequest.getAggregations()
+					: Collections.emptyList();
+			boolean rollup = groupByRequest.isRollup();
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+			Root<T> root = cq.from(getEntityClass());
+
+			Map<String, Expression<?>> columns = new LinkedHashMap<>();
+			List<Expression<?>> groupPaths = new ArrayList<>(groupFields.size());
+			for (String field : groupFields) {
+				Path<?> path = root.get(field);
+				groupPaths.add(path);
+				columns.put(field, path);
+			}
+			List<AggregateType> types = new ArrayList<>(functions.size());
+			for (AggregateFunction af : functions) {
+				columns.put(aggregateAlias(af), buildAggregateExpression(cb, root, af));
+				types.add(af.getFunction());
+			}
+			List<Selection<?>> selections = new ArrayList<>(columns.values());
+			if (rollup) {
+				// SUM and COUNT behind every AVG so subtotals are exact
+				for (AggregateFunction af : functions) {
+					if (af.getFunction() == AggregateType.AVG) {
+						Path<Number> path = root.get(af.getField());
+						selections.add(cb.sum(path));
+						selections.add(cb.count(path));
+					}
+				}
+			}
+			cq.multiselect(selections).where(buildWhere(cb, root, groupByRequest.getFilterRequest(), cq))
+					.groupBy(groupPaths);
+
+			if (groupByRequest.getHaving() != null && !groupByRequest.getHaving().isEmpty()) {
+				List<Predicate> having = new ArrayList<>();
+				for (FilterCondition fc : groupByRequest.getHaving()) {
+					having.add(buildPredicate(cb, resolveGroupColumn(columns, fc.getField()), fc, null, -1));
+				}
+				cq.having(having.toArray(new Predicate[0]));
+			}
+
+			List<Order> orders = new ArrayList<>();
+			List<SortOrder> sortOrders = groupByRequest.getSortOrders() != null ? groupByRequest.getSortOrders()
+					: Collections.emptyList();
+			if (rollup) {
+				for (int i = 0; i < groupPaths.size() - 1; i++) {
+					orders.add(cb.asc(groupPaths.get(i)));
+				}
+			}
+			for (SortOrder so : sortOrders) {
+				Expression<?> expression = resolveGroupColumn(columns, so.getField());
+				orders.add(so.getDirection() == SortDirection.DESC ? cb.desc(expression) : cb.asc(expression));
+			}
+			if (rollup || sortOrders.isEmpty()) {
+				for (int i = rollup ? groupPaths.size() - 1 : 0; i < groupPaths.size(); i++) {
+					orders.add(cb.asc(groupPaths.get(i)));
+				}
+			}
+			cq.orderBy(orders);
+
+			GroupByResult result = new GroupByResult(new ArrayList<>(columns.keySet()), rollup);
+			RollupAggregator aggregator = rollup ? new RollupAggregator(groupFields.size(), types, result) : null;
+			try (Stream<Tuple> rows = entityManager.createQuery(cq).getResultStream()) {
+				rows.forEach(tuple -> {
+					if (aggregator != null) {
+						aggregator.accept(tuple.toArray());
+					} else {
+						result.addRow(tuple.toArray(), 0);
+					}
+				});
+			}
+			if (aggregator != null) {
+				aggregator.finish();
+			}
+			log.info(MessageCode.GROUP_BY_SUCCESS.getMessage(), result.size());
+			return result;
+		} catch (Exception e) {
+			log.error(MessageCode.ENTITY_FETCH_ERROR.getMessage(), e.getMessage(), e);
+			throw new GlobalException(String.format(MessageCode.GROUP_BY_FAIL.getMessage(), e.getMessage()), e);
+		}
+	}
+
+	/** A group field or aggregate alias usable in HAVING and ORDER BY. */
+	private static Expression<?> resolveGroupColumn(Map<String, Expression<?>> columns, String name) {
+		Expression<?> expression = columns.get(name);
+		if (expression == null) {
+			throw new GlobalException("Not a group field or aggregate alias: " + name);
+		}
+		return expression;
 	}
 
 	@Override
@@ -0,0 +1,76 @@
+package com.performx.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.performx.cache.LocalRegionFactory;
+import com.performx.cache.LocalStorageAccess;
+import com.performx.cache.QueryResultCache;
+import com.performx.constant.MessageCode;
+import com.performx.exception.GlobalException;
+import com.performx.response.CacheRegionStats;
+import com.performx.service.CacheService;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service("cacheService")
+public class CacheServiceImpl implements CacheService {
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final QueryResultCache queryResultCache;
+
+	public CacheServiceImpl(EntityManagerFactory entityManagerFactory, QueryResultCache queryResultCache) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		this.queryResultCache = queryResultCache;
+	}
+
+	@Override
+	public List<CacheRegionStats> getStatistics() {
+		List<CacheRegionStats> regions = new ArrayList<>();
+		Statistics statistics = sessionFactory.getStatistics();
+		for (LocalStorageAccess storage : localRegionFactory().getStorages()) {
+			CacheRegionStatistics region = statistics.isStatisticsEnabled()
+					? statistics.getCacheRegionStatistics(storage.getRegionName())
+					: null;
+			regions.add(new CacheRegionStats(storage.getRegionName(), region == null ? 0 : region.getHitCount(),
+					region == null ? 0 : region.getMissCount(), region == null ? 0 : region.getPutCount(),
+					storage.size(), storage.getMaxSize(), TimeUnit.NANOSECONDS.toSeconds(storage.getTtlNanos()),
+					storage.getEvictions(), storage.getExpirations()));
+		}
+		regions.add(queryResultCache.getStatistics());
+		regions.sort(Comparator.comparing(CacheRegionStats::getRegionName));
+		return regions;
+	}
+
+	@Override
+	public void evictRegion(String regionName) {
+		if (QueryResultCache.NAME.equals(regionName)) {
+			queryResultCache.clear();
+		} else if (!sessionFactory.getCache().getCacheRegionNames().contains(regionName)) {
+			throw new GlobalException(String.format(MessageCode.CACHE_REGION_NOT_FOUND.getMessage(), regionName));
+		} else {
+			sessionFactory.getCache().evictRegion(regionName);
+		}
+		log.info(MessageCode.CACHE_REGION_EVICTED.getMessage(), regionName);
+	}
+
+	private LocalRegionFactory localRegionFactory() {
+		RegionFactory regionFactory = sessionFactory.getCache().getRegionFactory();
+		if (regionFactory instanceof LocalRegionFactory local) {
+			return local;
+		}
+		throw new GlobalException(String.format(MessageCode.CACHE_PROVIDER_UNSUPPORTED.getMessage(),
+				regionFactory.getClass().getName()));
+	}
+
+}
@@ -1,10 +1,71 @@
 package com.performx.service.impl;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import com.performx.cache.ReferenceDataCache;
+import com.performx.constant.MessageCode;
+import com.performx.dto.DepartmentMasterDTO;
+import com.performx.entity.DepartmentMaster;
+import com.performx.exception.GlobalException;
+import com.performx.mapper.DepartmentMapper;
+import com.performx.repository.DepartmentRepository;
 import com.performx.service.DepartmentService;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Department reference data, served from an in-process {@link ReferenceDataCache}
+ * that is loaded at startup and reloaded after every write.
+ */
+@Slf4j
 @Service("departmentService")
-public class DepartmentServiceImpl implements DepartmentService {
+public class DepartmentServiceImpl extends BaseServiceImpl<DepartmentMaster, DepartmentMasterDTO, Long> implements DepartmentService {
+
+	private final ReferenceDataCache<DepartmentMaster, Long> cache;
+
+	public DepartmentServiceImpl(DepartmentRepository departmentRepository, DepartmentMapper departmentMapper) {
+		super(departmentRepository, departmentMapper, DepartmentMaster.class);
+		this.cache = new ReferenceDataCache<>("department", departmentRepository::findAll, DepartmentMaster::getId, DepartmentMaster::getName);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		try {
+			cache.reload();
+		} catch (Exception e) {
+			log.warn(MessageCode.REFERENCE_CACHE_WARMUP_FAIL.getMessage(), "department", e.getMessage());
+		}
+	}
+
+	@Override
+	public DepartmentMasterDTO findById(Long id) {
+		return cache.findById(id).map(globalMapper::mapToDTO)
+				.orElseThrow(() -> new GlobalException(String.format(MessageCode.ENTITY_NOT_FOUND.getMessage(), id)));
+	}
+
+	@Override
+	public List<DepartmentMasterDTO> findAll() {
+		return globalMapper.mapToDTOList(cache.findAll());
+	}
+
+	@Override
+	public Optional<DepartmentMasterDTO> findByName(String name) {
+		return cache.findByKey(name).map(globalMapper::mapToDTO);
+	}
+
+	@Override
+	public long getReferenceVersion() {
+		return cache.getVersion();
+	}
+
+	@Override
+	protected void onEntityWrite() {
+		cache.reload();
+	}
 
 }
@@ -1,10 +1,71 @@
 package com.performx.service.impl;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import com.performx.cache.ReferenceDataCache;
+import com.performx.constant.MessageCode;
+import com.performx.dto.DesignationMasterDTO;
+import com.performx.entity.DesignationMaster;
+import com.performx.exception.GlobalException;
+import com.performx.mapper.DesignationMapper;
+import com.performx.repository.DesignationRepository;
 import com.performx.service.DesignationService;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Designation reference data, served from an in-process {@link ReferenceDataCache}
+ * that is loaded at startup and reloaded after every write.
+ */
+@Slf4j
 @Service("designationService")
-public class DesignationServiceImpl implements DesignationService {
+public class DesignationServiceImpl extends BaseServiceImpl<DesignationMaster, DesignationMasterDTO, Long> implements DesignationService {
+
+	private final ReferenceDataCache<DesignationMaster, Long> cache;
+
+	public DesignationServiceImpl(DesignationRepository designationRepository, DesignationMapper designationMapper) {
+		super(designationRepository, designationMapper, DesignationMaster.class);
+		this.cache = new ReferenceDataCache<>("designation", designationRepository::findAll, DesignationMaster::getId, DesignationMaster::getTitle);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		try {
+			cache.reload();
+		} catch (Exception e) {
+			log.warn(MessageCode.REFERENCE_CACHE_WARMUP_FAIL.getMessage(), "designation", e.getMessage());
+		}
+	}
+
+	@Override
+	public DesignationMasterDTO findById(Long id) {
+		return cache.findById(id).map(globalMapper::mapToDTO)
+				.orElseThrow(() -> new GlobalException(String.format(MessageCode.ENTITY_NOT_FOUND.getMessage(), id)));
+	}
+
+	@Override
+	public List<DesignationMasterDTO> findAll() {
+		return globalMapper.mapToDTOList(cache.findAll());
+	}
+
+	@Override
+	public Optional<DesignationMasterDTO> findByTitle(String title) {
+		return cache.findByKey(title).map(globalMapper::mapToDTO);
+	}
+
+	@Override
+	public long getReferenceVersion() {
+		return cache.getVersion();
+	}
+
+	@Override
+	protected void onEntityWrite() {
+		cache.reload();
+	}
 
 }
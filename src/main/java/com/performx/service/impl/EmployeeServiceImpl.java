@@ -1,10 +1,70 @@
 package com.performx.service.impl;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.performx.dto.EmployeeDTO;
+import com.performx.entity.Employee;
+import com.performx.mapper.EmployeeMapper;
+import com.performx.payroll.PayrollRecalculator;
+import com.performx.repository.EmployeeRepository;
+import com.performx.request.FilterRequest;
 import com.performx.service.EmployeeService;
 
 @Service("employeeService")
-public class EmployeeServiceImpl implements EmployeeService {
+public class EmployeeServiceImpl extends BaseServiceImpl<Employee, EmployeeDTO, Long> implements EmployeeService {
+
+	private static final String SALARY = "salary";
+
+	@Autowired
+	private PayrollRecalculator payrollRecalculator;
+
+	public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+		super(employeeRepository, employeeMapper, Employee.class);
+	}
+
+	@Override
+	protected String queryCacheRegion() {
+		return "query.employee";
+	}
+
+	/**
+	 * Queues the open payroll lines of employees whose salary changes for
+	 * recalculation, committed together with the change.
+	 */
+	@Override
+	protected void beforeUpdate(List<Employee> existing, List<Employee> updated) {
+		List<Long> salaryChanged = new ArrayList<>();
+		for (int i = 0; i < existing.size(); i++) {
+			if (!sameAmount(existing.get(i).getSalary(), updated.get(i).getSalary())) {
+				salaryChanged.add(existing.get(i).getId());
+			}
+		}
+		payrollRecalculator.markEmployees(salaryChanged);
+	}
+
+	/** Queues the lines of every employee in the chunk given a salary. */
+	@Override
+	protected void beforeBulkUpdate(List<Employee> partial) {
+		payrollRecalculator.markEmployees(
+				partial.stream().filter(e -> e.getSalary() != null).map(Employee::getId).toList());
+	}
+
+	/** Queues the lines of every employee matched when the salary is assigned. */
+	@Override
+	protected void beforeUpdateWhere(FilterRequest filterRequest, Set<String> fields) {
+		if (fields.contains(SALARY)) {
+			payrollRecalculator.markEmployees(findIdsWhere(filterRequest));
+		}
+	}
+
+	private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+		return a == null ? b == null : b != null && a.compareTo(b) == 0;
+	}
 
 }
@@ -1,10 +1,120 @@
 package com.performx.service.impl;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.performx.archive.ColdArchiver;
+import com.performx.constant.MessageCode;
 
+import com.performx.dto.PayrollDTO;
+import com.performx.entity.Payroll;
+import com.performx.exception.GlobalException;
+import com.performx.mapper.PayrollMapper;
+import com.performx.payroll.PayPeriod;
+import com.performx.payroll.PayrollRecalculator;
+import com.performx.payroll.PayrollReconciler;
+import com.performx.payroll.PayrollRunEngine;
+import com.performx.payroll.PayrollStorage;
+import com.performx.repository.PayrollRepository;
+import com.performx.request.FilterRequest;
+import com.performx.request.UpdateExpression;
+import com.performx.response.ColdArchiveResult;
+import com.performx.response.PayrollArchiveResult;
+import com.performx.response.PayrollDiffLine;
+import com.performx.response.PayrollRunResult;
 import com.performx.service.PayrollService;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service("payrollService")
-public class PayrollServiceImpl implements PayrollService {
+public class PayrollServiceImpl extends BaseServiceImpl<Payroll, PayrollDTO, Long> implements PayrollService {
+
+	@Autowired
+	private PayrollRunEngine payrollRunEngine;
+
+	@Autowired
+	private PayrollRecalculator payrollRecalculator;
+
+	@Autowired
+	private PayrollStorage payrollStorage;
+
+	@Autowired
+	private PayrollReconciler payrollReconciler;
+
+	@Autowired
+	private ColdArchiver coldArchiver;
+
+	public PayrollServiceImpl(PayrollRepository payrollRepository, PayrollMapper payrollMapper) {
+		super(payrollRepository, payrollMapper, Payroll.class);
+	}
+
+	@Override
+	public PayrollRunResult runPayroll(String month) {
+		try {
+			return payrollRunEngine.run(month);
+		} finally {
+			// partitions that committed are visible even when the run failed
+			entityWritten();
+		}
+	}
+
+	@Override
+	public int recalculatePayroll(String month) {
+		return payrollRecalculator.markMonth(month);
+	}
+
+	/**
+	 * Archives the month and moves its archive table on to the cold archive at
+	 * once, where the filter reads find it; if that move fails the month stays
+	 * in its table until the next archive run.
+	 */
+	@Override
+	public PayrollArchiveResult archivePayrollMonth(String month) {
+		PayrollArchiveResult archive = payrollStorage.archive(month);
+		try {
+			ColdArchiveResult cold = coldArchiver.moveArchived(month);
+			if (cold != null) {
+				archive = new PayrollArchiveResult(month, cold.getSegment(), archive.getRows(),
+						archive.getTotalNetPay(), archive.getElapsedMillis() + cold.getElapsedMillis());
+			}
+		} catch (RuntimeException e) {
+			log.warn(MessageCode.ARCHIVE_MOVE_DEFERRED.getMessage(), month, archive.getTable(), e.getMessage(), e);
+		} finally {
+			entityWritten();
+		}
+		return archive;
+	}
+
+	@Override
+	public Stream<PayrollDiffLine> reconcilePayroll(String fromMonth, String toMonth) {
+		return payrollReconciler.reconcile(fromMonth, toMonth);
+	}
+
+	/**
+	 * Keeps {@code payPeriod} in step with {@code month}: assigning a literal
+	 * month also assigns its period; any other assignment to either is
+	 * rejected.
+	 */
+	@Override
+	@Transactional
+	public Integer updateWhere(FilterRequest filterRequest, Map<String, UpdateExpression> assignments) {
+		if (assignments != null && (assignments.containsKey("month") || assignments.containsKey("payPeriod"))) {
+			UpdateExpression month = assignments.get("month");
+			if (month == null || assignments.containsKey("payPeriod") || month.getField() != null
+					|| month.getOperator() != null || month.getValue() == null) {
+				throw new GlobalException(MessageCode.PAYROLL_PERIOD_ASSIGNMENT.getMessage());
+			}
+			Map<String, UpdateExpression> withPeriod = new LinkedHashMap<>(assignments);
+			withPeriod.put("payPeriod", new UpdateExpression(null, null, PayPeriod.of(month.getValue().toString())));
+			assignments = withPeriod;
+		}
+		return super.updateWhere(filterRequest, assignments);
+	}
 
 }
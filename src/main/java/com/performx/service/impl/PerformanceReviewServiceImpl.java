@@ -2,9 +2,19 @@ package com.performx.service.impl;
 
 import org.springframework.stereotype.Service;
 
+import com.performx.dto.PerformanceReviewDTO;
+import com.performx.entity.PerformanceReview;
+import com.performx.mapper.PerformanceReviewMapper;
+import com.performx.repository.PerformanceReviewRepository;
 import com.performx.service.PerformanceReviewService;
 
 @Service("performanceReviewService")
-public class PerformanceReviewServiceImpl implements PerformanceReviewService {
+public class PerformanceReviewServiceImpl extends BaseServiceImpl<PerformanceReview, PerformanceReviewDTO, Long>
+		implements PerformanceReviewService {
+
+	public PerformanceReviewServiceImpl(PerformanceReviewRepository performanceReviewRepository,
+			PerformanceReviewMapper performanceReviewMapper) {
+		super(performanceReviewRepository, performanceReviewMapper, PerformanceReview.class);
+	}
 
 }
@@ -0,0 +1,161 @@
+package com.performx.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+import com.performx.exception.GlobalException;
+
+/**
+ * Pre-compiled getter/setter pair for the identifier property of a single
+ * class (entity or DTO).
+ *
+ * <p>
+ * The accessors are generated once through {@link LambdaMetafactory} against
+ * the class's {@code getId()}/{@code setId(..)} methods, so reading or writing
+ * an ID is a plain interface call with no reflection and no
+ * {@code setAccessible}. Primitive {@code long} identifiers are bound to
+ * {@link ToLongFunction}/{@link ObjLongConsumer} so that {@link #getLongId} and
+ * {@link #setLongId} never box.
+ * </p>
+ *
+ * @param <T> The owning class.
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class IdAccessor<T> {
+
+	private final Class<T> type;
+	private final String name;
+	private final Class<?> idType;
+	private final boolean primitiveLong;
+
+	private final ToLongFunction<T> longGetter;
+	private final ObjLongConsumer<T> longSetter;
+	private final Function<T, Object> getter;
+	private final BiConsumer<T, Object> setter;
+
+	private IdAccessor(Class<T> type, String name, Class<?> idType, ToLongFunction<T> longGetter,
+			ObjLongConsumer<T> longSetter, Function<T, Object> getter, BiConsumer<T, Object> setter) {
+		this.type = type;
+		this.name = name;
+		this.idType = idType;
+		this.primitiveLong = idType == long.class;
+		this.longGetter = longGetter;
+		this.longSetter = longSetter;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Class<?> getIdType() {
+		return idType;
+	}
+
+	public boolean isPrimitiveLong() {
+		return primitiveLong;
+	}
+
+	/**
+	 * Reads the identifier. Primitive {@code long} IDs are boxed through
+	 * {@link Long#valueOf(long)}; use {@link #getLongId} to avoid that.
+	 */
+	public Object getId(T target) {
+		return primitiveLong ? Long.valueOf(longGetter.applyAsLong(target)) : getter.apply(target);
+	}
+
+	/**
+	 * Reads a numeric identifier without boxing.
+	 */
+	public long getLongId(T target) {
+		if (primitiveLong) {
+			return longGetter.applyAsLong(target);
+		}
+		Object id = getter.apply(target);
+		return id == null ? 0L : ((Number) id).longValue();
+	}
+
+	/**
+	 * Writes the identifier. For primitive {@code long} IDs any {@link Number} is
+	 * accepted and unboxed once.
+	 */
+	public void setId(T target, Object id) {
+		if (primitiveLong) {
+			longSetter.accept(target, id == null ? 0L : ((Number) id).longValue());
+		} else {
+			setter.accept(target, id);
+		}
+	}
+
+	/**
+	 * Writes a numeric identifier without boxing when the property is a primitive
+	 * {@code long}.
+	 */
+	public void setLongId(T target, long id) {
+		if (primitiveLong) {
+			longSetter.accept(target, id);
+		} else {
+			setter.accept(target, Long.valueOf(id));
+		}
+	}
+
+	/**
+	 * Builds an accessor for the given property. The property must expose a
+	 * JavaBean getter and setter (generated by Lombok across this code base).
+	 *
+	 * @param type   The owning class.
+	 * @param name   The identifier property name.
+	 * @param idType The declared Java type of the property.
+	 * @return The compiled accessor.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> IdAccessor<T> of(Class<T> type, String name, Class<?> idType) {
+		String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+			MethodHandle getterHandle = lookup.findVirtual(type, "get" + suffix, MethodType.methodType(idType));
+			MethodHandle setterHandle = lookup.findVirtual(type, "set" + suffix,
+					MethodType.methodType(void.class, idType));
+			if (idType == long.class) {
+				ToLongFunction<T> longGetter = (ToLongFunction<T>) metafactory(lookup, "applyAsLong",
+						ToLongFunction.class, MethodType.methodType(long.class, Object.class), getterHandle,
+						MethodType.methodType(long.class, type)).invoke();
+				ObjLongConsumer<T> longSetter = (ObjLongConsumer<T>) metafactory(lookup, "accept",
+						ObjLongConsumer.class, MethodType.methodType(void.class, Object.class, long.class),
+						setterHandle, MethodType.methodType(void.class, type, long.class)).invoke();
+				return new IdAccessor<>(type, name, idType, longGetter, longSetter, null, null);
+			}
+			Class<?> boxed = MethodType.methodType(idType).wrap().returnType();
+			Function<T, Object> getter = (Function<T, Object>) metafactory(lookup, "apply", Function.class,
+					MethodType.methodType(Object.class, Object.class), getterHandle,
+					MethodType.methodType(boxed, type)).invoke();
+			BiConsumer<T, Object> setter = (BiConsumer<T, Object>) metafactory(lookup, "accept", BiConsumer.class,
+					MethodType.methodType(void.class, Object.class, Object.class), setterHandle,
+					MethodType.methodType(void.class, type, boxed)).invoke();
+			return new IdAccessor<>(type, name, idType, null, null, getter, setter);
+		} catch (Throwable e) {
+			throw new GlobalException("Unable to build ID accessor for " + type.getSimpleName() + "." + name, e);
+		}
+	}
+
+	private static MethodHandle metafactory(MethodHandles.Lookup lookup, String methodName, Class<?> functionalType,
+			MethodType erasedType, MethodHandle implementation, MethodType instantiatedType) throws Exception {
+		CallSite site = LambdaMetafactory.metafactory(lookup, methodName, MethodType.methodType(functionalType),
+				erasedType, implementation, instantiatedType);
+		return site.getTarget();
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.performx.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.performx.constant.MessageCode;
+import com.performx.exception.GlobalException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-class registry of compiled {@link IdAccessor}s.
+ *
+ * <p>
+ * Entity accessors are resolved from the JPA metamodel's {@code @Id} attribute
+ * and built eagerly at startup. DTO accessors are built on first use, reusing
+ * the identifier name of the entity they mirror.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class IdAccessorRegistry {
+
+	private final Metamodel metamodel;
+	private final Map<Class<?>, IdAccessor<?>> accessors = new ConcurrentHashMap<>();
+
+	public IdAccessorRegistry(EntityManagerFactory entityManagerFactory) {
+		this.metamodel = entityManagerFactory.getMetamodel();
+	}
+
+	@PostConstruct
+	void init() {
+		for (EntityType<?> entityType : metamodel.getEntities()) {
+			forEntity(entityType.getJavaType());
+		}
+		log.info(MessageCode.ID_ACCESSORS_REGISTERED.getMessage(), accessors.size());
+	}
+
+	/**
+	 * Returns the accessor for the {@code @Id} attribute of a managed entity.
+	 */
+	@SuppressWarnings("unchecked")
+	public <E> IdAccessor<E> forEntity(Class<E> entityClass) {
+		return (IdAccessor<E>) accessors.computeIfAbsent(entityClass, type -> {
+			EntityType<E> entityType = metamodel.entity(entityClass);
+			SingularAttribute<? super E, ?> idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+			return IdAccessor.of(entityClass, idAttribute.getName(), idAttribute.getJavaType());
+		});
+	}
+
+	/**
+	 * Returns the accessor for the identifier of a DTO that mirrors the given
+	 * entity. The DTO property carries the same name as the entity's
+	 * {@code @Id} attribute; its Java type is taken from the DTO getter.
+	 */
+	@SuppressWarnings("unchecked")
+	public <X> IdAccessor<X> forDto(Class<X> dtoClass, Class<?> entityClass) {
+		IdAccessor<?> cached = accessors.get(dtoClass);
+		if (cached != null) {
+			return (IdAccessor<X>) cached;
+		}
+		String name = forEntity(entityClass).getName();
+		return (IdAccessor<X>) accessors.computeIfAbsent(dtoClass, type -> {
+			String getter = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+			try {
+				return IdAccessor.of(dtoClass, name, dtoClass.getMethod(getter).getReturnType());
+			} catch (NoSuchMethodException e) {
+				throw new GlobalException("No ID getter " + getter + " on " + dtoClass.getSimpleName(), e);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.performx.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.performx.exception.GlobalException;
+
+/**
+ * Encodes and decodes the opaque cursor used by keyset pagination.
+ *
+ * <p>
+ * A cursor holds the sort signature it was produced for (e.g.
+ * {@code salary:DESC,id:ASC}) and the sort-key values of the last row of the
+ * page, serialized as URL-safe Base64 JSON. Decoding verifies the signature so
+ * a cursor cannot be replayed against a different ordering.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class KeysetCursor {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules()
+			.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+			.enable(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS);
+
+	private KeysetCursor() {
+	}
+
+	/**
+	 * Builds a cursor from the last row's sort-key values.
+	 *
+	 * @param signature The sort signature.
+	 * @param values    One value per sort key, in sort order.
+	 * @return The opaque cursor.
+	 */
+	public static String encode(String signature, List<Object> values) {
+		try {
+			ObjectNode node = MAPPER.createObjectNode();
+			node.put("s", signature);
+			ArrayNode array = node.putArray("v");
+			for (Object value : values) {
+				array.add(MAPPER.valueToTree(value));
+			}
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(node));
+		} catch (Exception e) {
+			throw new GlobalException("Unable to encode keyset cursor", e);
+		}
+	}
+
+	/**
+	 * Decodes a cursor and converts each value to the matching sort key type.
+	 *
+	 * @param cursor    The opaque cursor.
+	 * @param signature The sort signature of the current request.
+	 * @param types     The Java type of each sort key, in sort order.
+	 * @return The typed sort-key values.
+	 */
+	public static List<Object> decode(String cursor, String signature, List<Class<?>> types) {
+		JsonNode node;
+		try {
+			node = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII)));
+		} catch (Exception e) {
+			throw new GlobalException("Malformed keyset cursor", e);
+		}
+		if (!signature.equals(node.path("s").asText()) || node.path("v").size() != types.size()) {
+			throw new GlobalException("Keyset cursor does not match the requested sort order: " + signature);
+		}
+		List<Object> values = new ArrayList<>(types.size());
+		try {
+			for (int i = 0; i < types.size(); i++) {
+				JsonNode value = node.get("v").get(i);
+				values.add(value.isNull() ? null : MAPPER.treeToValue(value, types.get(i)));
+			}
+		} catch (Exception e) {
+			throw new GlobalException("Malformed keyset cursor", e);
+		}
+		return values;
+	}
+
+}
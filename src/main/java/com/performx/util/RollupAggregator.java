@@ -0,0 +1,189 @@
+package com.performx.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.performx.constant.AggregateType;
+import com.performx.response.GroupByResult;
+
+/**
+ * Computes ROLLUP subtotals and the grand total in a single pass over detail
+ * groups that arrive ordered by their group fields.
+ *
+ * <p>
+ * Each incoming row is laid out as {@code [group values.., aggregate values..,
+ * hidden values..]} where the hidden part carries a SUM and a COUNT for every
+ * AVG function, so averages are re-derived exactly instead of averaging
+ * averages. Whenever a group-field prefix changes, the subtotals for the prefixes
+ * that ended are emitted right after their detail rows, giving the same layout
+ * as SQL {@code GROUP BY .. WITH ROLLUP}. Memory is one accumulator row per
+ * group level.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+public final class RollupAggregator {
+
+	private final int groupCount;
+	private final AggregateType[] types;
+	private final int[] avgHiddenIndex;
+	private final int width;
+	private final GroupByResult result;
+	private final Object[][] accumulators;
+	private Object[] previous;
+
+	/**
+	 * @param groupCount Number of group fields.
+	 * @param types      Aggregate type of every visible aggregate column.
+	 * @param result     Target result receiving detail and subtotal rows.
+	 */
+	public RollupAggregator(int groupCount, List<AggregateType> types, GroupByResult result) {
+		this.groupCount = groupCount;
+		this.types = types.toArray(new AggregateType[0]);
+		this.avgHiddenIndex = new int[this.types.length];
+		int hidden = groupCount + this.types.length;
+		for (int i = 0; i < this.types.length; i++) {
+			if (this.types[i] == AggregateType.AVG) {
+				avgHiddenIndex[i] = hidden;
+				hidden += 2;
+			} else {
+				avgHiddenIndex[i] = -1;
+			}
+		}
+		this.width = hidden;
+		this.result = result;
+		this.accumulators = new Object[groupCount][width];
+	}
+
+	/** Width of an incoming row, including the hidden SUM/COUNT columns. */
+	public int getRowWidth() {
+		return width;
+	}
+
+	/**
+	 * Consumes the next detail group.
+	 */
+	public void accept(Object[] row) {
+		if (previous != null) {
+			int changed = firstDifference(previous, row);
+			for (int level = groupCount - 1; level > changed; level--) {
+				emit(level);
+			}
+		}
+		result.addRow(Arrays.copyOf(row, groupCount + types.length), 0);
+		for (Object[] accumulator : accumulators) {
+			accumulate(accumulator, row);
+		}
+		previous = row;
+	}
+
+	/**
+	 * Emits the remaining subtotals and the grand total.
+	 */
+	public void finish() {
+		if (previous == null) {
+			return;
+		}
+		for (int level = groupCount - 1; level >= 0; level--) {
+			emit(level);
+		}
+	}
+
+	private int firstDifference(Object[] a, Object[] b) {
+		for (int i = 0; i < groupCount; i++) {
+			if (!Objects.equals(a[i], b[i])) {
+				return i;
+			}
+		}
+		return groupCount;
+	}
+
+	/** Emits and resets the subtotal keeping the first {@code prefix} fields. */
+	private void emit(int prefix) {
+		Object[] accumulator = accumulators[prefix];
+		Object[] values = new Object[groupCount + types.length];
+		System.arraycopy(previous, 0, values, 0, prefix);
+		for (int i = 0; i < types.length; i++) {
+			int column = groupCount + i;
+			if (types[i] == AggregateType.AVG) {
+				values[column] = average(accumulator[avgHiddenIndex[i]], accumulator[avgHiddenIndex[i] + 1]);
+			} else if (types[i] == AggregateType.COUNT && accumulator[column] == null) {
+				values[column] = 0L;
+			} else {
+				values[column] = accumulator[column];
+			}
+		}
+		result.addRow(values, groupCount - prefix);
+		Arrays.fill(accumulator, null);
+	}
+
+	private void accumulate(Object[] accumulator, Object[] row) {
+		for (int i = 0; i < types.length; i++) {
+			int column = groupCount + i;
+			if (types[i] == AggregateType.AVG) {
+				int hidden = avgHiddenIndex[i];
+				accumulator[hidden] = add(accumulator[hidden], row[hidden]);
+				accumulator[hidden + 1] = add(accumulator[hidden + 1], row[hidden + 1]);
+			} else {
+				accumulator[column] = combine(types[i], accumulator[column], row[column]);
+			}
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object combine(AggregateType type, Object current, Object value) {
+		if (value == null) {
+			return current;
+		}
+		switch (type) {
+		case MIN:
+			return current == null || ((Comparable) value).compareTo(current) < 0 ? value : current;
+		case MAX:
+			return current == null || ((Comparable) value).compareTo(current) > 0 ? value : current;
+		default:
+			return add(current, value);
+		}
+	}
+
+	private static Object add(Object a, Object b) {
+		if (a == null) {
+			return b;
+		}
+		if (b == null) {
+			return a;
+		}
+		Number x = (Number) a;
+		Number y = (Number) b;
+		if (x instanceof BigDecimal || y instanceof BigDecimal) {
+			return toBigDecimal(x).add(toBigDecimal(y));
+		}
+		if (x instanceof BigInteger || y instanceof BigInteger) {
+			return new BigInteger(x.toString()).add(new BigInteger(y.toString()));
+		}
+		if (x instanceof Double || x instanceof Float || y instanceof Double || y instanceof Float) {
+			return x.doubleValue() + y.doubleValue();
+		}
+		return x.longValue() + y.longValue();
+	}
+
+	private static Object average(Object sum, Object count) {
+		if (sum == null || count == null || ((Number) count).longValue() == 0) {
+			return null;
+		}
+		long n = ((Number) count).longValue();
+		if (sum instanceof BigDecimal decimal) {
+			return decimal.divide(BigDecimal.valueOf(n), decimal.scale(), RoundingMode.HALF_UP);
+		}
+		return ((Number) sum).doubleValue() / n;
+	}
+
+	private static BigDecimal toBigDecimal(Number number) {
+		return number instanceof BigDecimal decimal ? decimal : new BigDecimal(number.toString());
+	}
+
+}
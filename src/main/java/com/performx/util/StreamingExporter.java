@@ -0,0 +1,150 @@
+package com.performx.util;
+
+import java.beans.PropertyDescriptor;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+/**
+ * Writes a {@link Stream} of DTOs to the response as NDJSON or CSV while it is
+ * being read.
+ *
+ * <p>
+ * The stream is opened inside the {@link StreamingResponseBody}, i.e. on the
+ * thread that writes the response, and closed when writing ends or fails.
+ * Output is flushed every {@value #FLUSH_INTERVAL} rows so the client receives
+ * chunks as they are produced, and nothing beyond the current row is held in
+ * memory.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Component
+public class StreamingExporter {
+
+	public static final String NDJSON = "application/x-ndjson";
+	public static final String CSV = "text/csv";
+
+	private static final int FLUSH_INTERVAL = 500;
+
+	private final ObjectMapper objectMapper;
+
+	public StreamingExporter(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * One JSON document per line.
+	 */
+	public <D> ResponseEntity<StreamingResponseBody> ndjson(Supplier<Stream<D>> source, String fileName) {
+		StreamingResponseBody body = out -> {
+			try (Stream<D> stream = source.get();
+					SequenceWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+							.withRootValueSeparator("\n").writeValues(out)) {
+				int rows = 0;
+				for (Iterator<D> it = stream.iterator(); it.hasNext();) {
+					writer.write(it.next());
+					if (++rows % FLUSH_INTERVAL == 0) {
+						writer.flush();
+					}
+				}
+				if (rows > 0) {
+					writer.flush();
+					out.write('\n');
+				}
+			}
+		};
+		return attachment(body, NDJSON, fileName + ".ndjson");
+	}
+
+	/**
+	 * A header row with the DTO's bean properties, then one row per record.
+	 */
+	public <D> ResponseEntity<StreamingResponseBody> csv(Supplier<Stream<D>> source, Class<D> type, String fileName) {
+		List<Method> getters = new ArrayList<>();
+		List<String> header = new ArrayList<>();
+		for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(type)) {
+			if (property.getReadMethod() != null && !"class".equals(property.getName())) {
+				getters.add(property.getReadMethod());
+				header.add(property.getName());
+			}
+		}
+		StreamingResponseBody body = out -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+			try (Stream<D> stream = source.get()) {
+				writer.write(String.join(",", header));
+				writer.write("\r\n");
+				int rows = 0;
+				for (Iterator<D> it = stream.iterator(); it.hasNext();) {
+					D dto = it.next();
+					for (int i = 0; i < getters.size(); i++) {
+						if (i > 0) {
+							writer.write(',');
+						}
+						writer.write(csvValue(getters.get(i).invoke(dto)));
+					}
+					writer.write("\r\n");
+					if (++rows % FLUSH_INTERVAL == 0) {
+						writer.flush();
+					}
+				}
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Unable to read " + type.getSimpleName() + " for CSV export", e);
+			} finally {
+				writer.flush();
+			}
+		};
+		return attachment(body, CSV, fileName + ".csv");
+	}
+
+	private static String csvValue(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text;
+		if (value instanceof Timestamp timestamp) {
+			text = timestamp.toInstant().toString();
+		} else if (value instanceof java.sql.Date date) {
+			text = date.toString();
+		} else if (value instanceof Date date) {
+			text = date.toInstant().toString();
+		} else {
+			text = value.toString();
+		}
+		if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+			return '"' + text.replace("\"", "\"\"") + '"';
+		}
+		return text;
+	}
+
+	private static ResponseEntity<StreamingResponseBody> attachment(StreamingResponseBody body, String mediaType,
+			String fileName) {
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(mediaType))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename(fileName).build().toString())
+				.body(body);
+	}
+
+}
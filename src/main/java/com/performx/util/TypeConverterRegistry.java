@@ -0,0 +1,334 @@
+package com.performx.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.performx.exception.GlobalException;
+
+/**
+ * Registry of {@link ValueConverter}s keyed by (source class, target class).
+ *
+ * <p>
+ * A converter is derived once per pair and cached, so callers that keep the
+ * resolved converter (such as the compiled filter plans) pay no type dispatch
+ * per value. Besides the explicitly registered pairs, converters are derived
+ * for: any {@link Number} to the numeric wrappers, {@link BigDecimal} and
+ * {@link BigInteger}; strings to every supported scalar type; epoch millis,
+ * {@code java.time} values and strings to {@link Date}/{@link Timestamp}; and
+ * strings or ordinals to enums. Primitive targets are treated as their
+ * wrappers. Unsupported pairs fail fast instead of binding a mistyped value,
+ * as does a number that an integral target cannot hold exactly, such as
+ * {@code 12.5} for a {@link Long} or {@code 2^32 + 1} for an {@link Integer},
+ * and a name or ordinal the target enum does not have.
+ * </p>
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@Component
+public class TypeConverterRegistry {
+
+	private final Map<ConversionKey, ValueConverter> registered = new ConcurrentHashMap<>();
+	private final Map<ConversionKey, ValueConverter> resolved = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Function<String, Object>> parsers = new HashMap<>();
+	private final Map<Class<?>, Function<Number, Object>> numbers = new HashMap<>();
+
+	public TypeConverterRegistry() {
+		parsers.put(Long.class, Long::valueOf);
+		parsers.put(Integer.class, Integer::valueOf);
+		parsers.put(Short.class, Short::valueOf);
+		parsers.put(Byte.class, Byte::valueOf);
+		parsers.put(Double.class, Double::valueOf);
+		parsers.put(Float.class, Float::valueOf);
+		parsers.put(BigDecimal.class, BigDecimal::new);
+		parsers.put(BigInteger.class, BigInteger::new);
+		parsers.put(Boolean.class, Boolean::valueOf);
+		parsers.put(Character.class, s -> s.charAt(0));
+		parsers.put(LocalDate.class, LocalDate::parse);
+		parsers.put(LocalDateTime.class, s -> LocalDateTime.parse(s.replace(' ', 'T')));
+		parsers.put(LocalTime.class, LocalTime::parse);
+		parsers.put(Instant.class, Instant::parse);
+		parsers.put(UUID.class, UUID::fromString);
+		parsers.put(Date.class, TypeConverterRegistry::parseDate);
+		parsers.put(java.sql.Date.class, s -> s.length() == 10 ? java.sql.Date.valueOf(LocalDate.parse(s))
+				: new java.sql.Date(parseTimestamp(s).getTime()));
+		parsers.put(Timestamp.class, TypeConverterRegistry::parseTimestamp);
+
+		numbers.put(Long.class, TypeConverterRegistry::toLong);
+		numbers.put(Integer.class, n -> (int) toIntegral(n, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.class));
+		numbers.put(Short.class, n -> (short) toIntegral(n, Short.MIN_VALUE, Short.MAX_VALUE, Short.class));
+		numbers.put(Byte.class, n -> (byte) toIntegral(n, Byte.MIN_VALUE, Byte.MAX_VALUE, Byte.class));
+		numbers.put(Double.class, Number::doubleValue);
+		numbers.put(Float.class, Number::floatValue);
+		numbers.put(BigDecimal.class, TypeConverterRegistry::toBigDecimal);
+		numbers.put(BigInteger.class, TypeConverterRegistry::toBigInteger);
+		numbers.put(Boolean.class, n -> n.intValue() != 0);
+		numbers.put(Date.class, n -> new Date(n.longValue()));
+		numbers.put(java.sql.Date.class, n -> new java.sql.Date(n.longValue()));
+		numbers.put(Timestamp.class, n -> new Timestamp(n.longValue()));
+
+		register(LocalDate.class, Date.class, v -> java.sql.Date.valueOf((LocalDate) v));
+		register(LocalDate.class, java.sql.Date.class, v -> java.sql.Date.valueOf((LocalDate) v));
+		register(LocalDate.class, Timestamp.class, v -> Timestamp.valueOf(((LocalDate) v).atStartOfDay()));
+		register(LocalDateTime.class, Date.class, v -> Timestamp.valueOf((LocalDateTime) v));
+		register(LocalDateTime.class, Timestamp.class, v -> Timestamp.valueOf((LocalDateTime) v));
+		register(Instant.class, Date.class, v -> Date.from((Instant) v));
+		register(Instant.class, Timestamp.class, v -> Timestamp.from((Instant) v));
+		register(Date.class, Timestamp.class, v -> new Timestamp(((Date) v).getTime()));
+		register(Date.class, java.sql.Date.class, v -> new java.sql.Date(((Date) v).getTime()));
+		register(Date.class, LocalDate.class, TypeConverterRegistry::toLocalDate);
+		register(Date.class, LocalDateTime.class, TypeConverterRegistry::toLocalDateTime);
+		register(Date.class, Long.class, v -> ((Date) v).getTime());
+	}
+
+	/**
+	 * Registers (or overrides) the converter for a (source, target) pair. The
+	 * registration also applies to subclasses of {@code source}.
+	 */
+	public void register(Class<?> source, Class<?> target, ValueConverter converter) {
+		registered.put(new ConversionKey(source, wrap(target)), converter);
+		resolved.clear();
+	}
+
+	/**
+	 * Resolves the converter for a (source, target) pair, deriving and caching it
+	 * on first use.
+	 *
+	 * @throws GlobalException if no conversion exists.
+	 */
+	public ValueConverter resolve(Class<?> source, Class<?> target) {
+		Class<?> boxedTarget = wrap(target);
+		ConversionKey key = new ConversionKey(source, boxedTarget);
+		ValueConverter converter = resolved.get(key);
+		if (converter == null) {
+			converter = derive(source, boxedTarget);
+			resolved.putIfAbsent(key, converter);
+		}
+		return converter;
+	}
+
+	/**
+	 * Converts a single value; {@code null} stays {@code null}.
+	 */
+	public Object convert(Object value, Class<?> target) {
+		return value == null ? null : resolve(value.getClass(), target).convert(value);
+	}
+
+	/**
+	 * Converts a collection in bulk. The converter is resolved once and reused
+	 * for every following element of the same class, so a homogeneous IN list
+	 * costs a single lookup.
+	 */
+	public List<Object> convertAll(Collection<?> values, Class<?> target) {
+		List<Object> converted = new ArrayList<>(values.size());
+		Class<?> source = null;
+		ValueConverter converter = null;
+		for (Object value : values) {
+			if (value == null) {
+				converted.add(null);
+				continue;
+			}
+			if (value.getClass() != source) {
+				source = value.getClass();
+				converter = resolve(source, target);
+			}
+			converted.add(converter.convert(value));
+		}
+		return converted;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private ValueConverter derive(Class<?> source, Class<?> target) {
+		if (target.isAssignableFrom(source)) {
+			return ValueConverter.IDENTITY;
+		}
+		for (Class<?> s = source; s != null; s = s.getSuperclass()) {
+			ValueConverter converter = registered.get(new ConversionKey(s, target));
+			if (converter != null) {
+				return converter;
+			}
+		}
+		if (target == String.class) {
+			return String::valueOf;
+		}
+		if (Number.class.isAssignableFrom(source) && numbers.containsKey(target)) {
+			Function<Number, Object> function = numbers.get(target);
+			return v -> function.apply((Number) v);
+		}
+		if (CharSequence.class.isAssignableFrom(source) && parsers.containsKey(target)) {
+			Function<String, Object> parser = parsers.get(target);
+			return v -> parser.apply(v.toString().trim());
+		}
+		if (target.isEnum()) {
+			Class<? extends Enum> enumType = (Class<? extends Enum>) target;
+			if (Number.class.isAssignableFrom(source)) {
+				Object[] constants = enumType.getEnumConstants();
+				return v -> constants[ordinal((Number) v, constants.length, enumType)];
+			}
+			if (CharSequence.class.isAssignableFrom(source)) {
+				return v -> parseEnum(enumType, v.toString().trim());
+			}
+		}
+		throw new GlobalException(
+				"No converter from " + source.getSimpleName() + " to " + target.getSimpleName());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object parseEnum(Class<? extends Enum> enumType, String name) {
+		try {
+			return Enum.valueOf(enumType, name);
+		} catch (IllegalArgumentException e) {
+			try {
+				return Enum.valueOf(enumType, name.toUpperCase());
+			} catch (IllegalArgumentException upper) {
+				throw new GlobalException("Value " + name + " is not a constant of " + enumType.getSimpleName());
+			}
+		}
+	}
+
+	private static int ordinal(Number n, int constants, Class<?> enumType) {
+		long ordinal;
+		try {
+			ordinal = toLong(n);
+		} catch (GlobalException e) {
+			ordinal = -1;
+		}
+		if (ordinal < 0 || ordinal >= constants) {
+			throw new GlobalException("Value " + n + " is not an ordinal of " + enumType.getSimpleName());
+		}
+		return (int) ordinal;
+	}
+
+	private static Date parseDate(String s) {
+		if (s.length() == 10) {
+			return java.sql.Date.valueOf(LocalDate.parse(s));
+		}
+		return parseTimestamp(s);
+	}
+
+	private static Timestamp parseTimestamp(String s) {
+		if (!s.isEmpty() && s.chars().allMatch(Character::isDigit)) {
+			return new Timestamp(Long.parseLong(s));
+		}
+		if (s.length() == 10) {
+			return Timestamp.valueOf(LocalDate.parse(s).atStartOfDay());
+		}
+		String iso = s.replace(' ', 'T');
+		if (iso.endsWith("Z") || iso.lastIndexOf('+') > 10 || iso.lastIndexOf('-') > 10) {
+			return Timestamp.from(OffsetDateTime.parse(iso).toInstant());
+		}
+		return Timestamp.valueOf(LocalDateTime.parse(iso));
+	}
+
+	private static BigDecimal toBigDecimal(Number n) {
+		if (n instanceof BigDecimal decimal) {
+			return decimal;
+		}
+		if (n instanceof BigInteger integer) {
+			return new BigDecimal(integer);
+		}
+		if (n instanceof Double || n instanceof Float) {
+			return BigDecimal.valueOf(n.doubleValue());
+		}
+		return BigDecimal.valueOf(n.longValue());
+	}
+
+	private static BigInteger toBigInteger(Number n) {
+		if (n instanceof BigInteger integer) {
+			return integer;
+		}
+		if (isIntegral(n)) {
+			return BigInteger.valueOf(n.longValue());
+		}
+		try {
+			return toBigDecimal(n).toBigIntegerExact();
+		} catch (ArithmeticException | NumberFormatException e) {
+			throw notExact(n, BigInteger.class);
+		}
+	}
+
+	private static long toLong(Number n) {
+		if (isIntegral(n)) {
+			return n.longValue();
+		}
+		try {
+			return toBigDecimal(n).longValueExact();
+		} catch (ArithmeticException | NumberFormatException e) {
+			throw notExact(n, Long.class);
+		}
+	}
+
+	private static long toIntegral(Number n, long min, long max, Class<?> target) {
+		long value;
+		try {
+			value = toLong(n);
+		} catch (GlobalException e) {
+			throw notExact(n, target);
+		}
+		if (value < min || value > max) {
+			throw notExact(n, target);
+		}
+		return value;
+	}
+
+	private static boolean isIntegral(Number n) {
+		return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte;
+	}
+
+	private static GlobalException notExact(Number n, Class<?> target) {
+		return new GlobalException("Value " + n + " cannot be converted to " + target.getSimpleName() + " exactly");
+	}
+
+	private static LocalDate toLocalDate(Object v) {
+		return v instanceof java.sql.Date date ? date.toLocalDate()
+				: Instant.ofEpochMilli(((Date) v).getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+	}
+
+	private static LocalDateTime toLocalDateTime(Object v) {
+		return v instanceof Timestamp timestamp ? timestamp.toLocalDateTime()
+				: Instant.ofEpochMilli(((Date) v).getTime()).atZone(ZoneId.systemDefault()).toLocalDateTime();
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return type;
+		}
+		if (type == long.class)
+			return Long.class;
+		if (type == int.class)
+			return Integer.class;
+		if (type == double.class)
+			return Double.class;
+		if (type == boolean.class)
+			return Boolean.class;
+		if (type == float.class)
+			return Float.class;
+		if (type == short.class)
+			return Short.class;
+		if (type == byte.class)
+			return Byte.class;
+		return Character.class;
+	}
+
+	private record ConversionKey(Class<?> source, Class<?> target) {
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.performx.util;
+
+/**
+ * Converts a non-null value of a known source type to a fixed target type.
+ *
+ * @author Nanda Gopal Ikkurthi
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ValueConverter {
+
+	ValueConverter IDENTITY = value -> value;
+
+	Object convert(Object value);
+
+}
@@ -0,0 +1,24 @@
+-- Cold archive of old rows (ColdArchiveStore, ColdArchiver).
+--
+-- Closed payroll months and performance reviews older than the retention are
+-- moved out of the database into compressed column-major segment files under
+-- performx.archive.dir, one or more per entity and month. Segments are only
+-- ever added. A segment belongs to the archive once its row here commits, in
+-- the same transaction that removes its rows from the source table; files
+-- without a row are left over by runs that failed and are removed by the next
+-- run. With several application instances the directory must be shared.
+
+CREATE TABLE IF NOT EXISTS cold_segment (
+    id          BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    entity_name VARCHAR(64)  NOT NULL,
+    period      INT          NOT NULL,
+    file_name   VARCHAR(128) NOT NULL,
+    row_count   BIGINT       NOT NULL,
+    byte_size   BIGINT       NOT NULL,
+    created_at  TIMESTAMP    NULL,
+    UNIQUE KEY uk_cold_segment_file (entity_name, file_name),
+    KEY idx_cold_segment_period (entity_name, period)
+);
+
+-- A payroll month moved to the cold archive keeps its payroll_archive row, so
+-- it cannot be run again; table_name then names its first segment.
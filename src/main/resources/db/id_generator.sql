@@ -0,0 +1,21 @@
+-- Pooled (table hi/lo) ID allocation for the high-volume entities.
+--
+-- Hibernate reserves a block of IDs per round trip on this table instead of
+-- relying on AUTO_INCREMENT, which would force one INSERT per round trip and
+-- disable JDBC batching. Each row holds the upper bound of the last reserved
+-- block; the block size is the entity's @TableGenerator allocationSize, so the
+-- seed is MAX(id) + allocationSize to continue after the existing rows.
+
+CREATE TABLE IF NOT EXISTS id_generator (
+    gen_name  VARCHAR(64) NOT NULL PRIMARY KEY,
+    gen_value BIGINT      NOT NULL
+);
+
+INSERT INTO id_generator (gen_name, gen_value)
+SELECT 'payroll', COALESCE(MAX(id), 0) + 500 FROM payroll;
+
+INSERT INTO id_generator (gen_name, gen_value)
+SELECT 'employee', COALESCE(MAX(id), 0) + 100 FROM employee;
+
+INSERT INTO id_generator (gen_name, gen_value)
+SELECT 'performance_review', COALESCE(MAX(id), 0) + 100 FROM performance_review;
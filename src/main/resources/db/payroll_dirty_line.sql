@@ -0,0 +1,15 @@
+-- Queue of payroll lines to recalculate (PayrollRecalculator).
+--
+-- A salary change through the employee service appends one row per open
+-- (employee_id, month) pay line, in the same transaction as the change. The
+-- recalculation worker drains the queue in ID order, rewrites the amounts of
+-- those lines from the current salary and deletes exactly the rows it read,
+-- so a line marked again meanwhile is recalculated once more. Rows are never
+-- updated; duplicates of a line are harmless.
+
+CREATE TABLE IF NOT EXISTS payroll_dirty_line (
+    id          BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    employee_id BIGINT      NOT NULL,
+    month       VARCHAR(7)  NOT NULL,
+    marked_at   TIMESTAMP   NULL
+);
@@ -0,0 +1,35 @@
+-- Month partitioning and archival of the payroll table (MySQL, PayrollStorage).
+--
+-- pay_period is the year-month key of a row, yyyyMM as an integer, kept in
+-- step with month by the entity. The table is range-partitioned on it: rows
+-- before the first monthly partition stay in p_history, later months get a
+-- partition of their own, split off p_future before their first payroll run.
+-- Filters on month also constrain pay_period, so MySQL prunes to the
+-- partitions of the months asked for.
+--
+-- Archiving a closed month exchanges its partition with an empty table
+-- payroll_archive_yyyyMM and records it in payroll_archive.
+--
+-- Adjust the p_history bound to the first month to partition before running.
+
+ALTER TABLE payroll ADD COLUMN pay_period INT NULL AFTER month;
+UPDATE payroll SET pay_period = CAST(REPLACE(month, '-', '') AS UNSIGNED) WHERE pay_period IS NULL;
+ALTER TABLE payroll MODIFY pay_period INT NOT NULL;
+
+-- The partitioning column must be part of every unique key
+ALTER TABLE payroll DROP PRIMARY KEY, ADD PRIMARY KEY (id, pay_period);
+CREATE INDEX idx_payroll_period_employee ON payroll (pay_period, employee_id);
+
+ALTER TABLE payroll PARTITION BY RANGE (pay_period) (
+    PARTITION p_history VALUES LESS THAN (202401),
+    PARTITION p_future  VALUES LESS THAN MAXVALUE
+);
+
+CREATE TABLE IF NOT EXISTS payroll_archive (
+    month         VARCHAR(7)     NOT NULL PRIMARY KEY,
+    pay_period    INT            NOT NULL,
+    table_name    VARCHAR(64)    NOT NULL,
+    row_count     BIGINT         NOT NULL,
+    total_net_pay DECIMAL(19, 2) NOT NULL,
+    archived_at   TIMESTAMP      NULL
+);
@@ -0,0 +1,33 @@
+-- Checkpoints of the partitioned payroll run (PayrollRunEngine).
+--
+-- payroll_run fixes the employee ID ranges of a month's run when it first
+-- starts; payroll_run_partition gets one row per finished range, written in
+-- the same transaction as that range's payroll rows. A rerun of the month
+-- skips every range that has a row here, so a failed run resumes where it
+-- stopped. Deleting a month's rows from both tables forces a full rerun.
+
+CREATE TABLE IF NOT EXISTS payroll_run (
+    month             VARCHAR(7)  NOT NULL PRIMARY KEY,
+    first_employee_id BIGINT      NOT NULL,
+    last_employee_id  BIGINT      NOT NULL,
+    partition_size    INT         NOT NULL,
+    partitions        INT         NOT NULL,
+    status            VARCHAR(16) NOT NULL,
+    started_at        TIMESTAMP   NULL,
+    finished_at       TIMESTAMP   NULL
+);
+
+CREATE TABLE IF NOT EXISTS payroll_run_partition (
+    id                VARCHAR(32)    NOT NULL PRIMARY KEY,
+    month             VARCHAR(7)     NOT NULL,
+    partition_no      INT            NOT NULL,
+    from_employee_id  BIGINT         NOT NULL,
+    to_employee_id    BIGINT         NOT NULL,
+    employees         INT            NOT NULL,
+    total_net_pay     DECIMAL(19, 2) NOT NULL,
+    completed_at      TIMESTAMP      NULL,
+    INDEX idx_payroll_run_partition_month (month)
+);
+
+-- Each partition replaces the month's rows of its employee range
+CREATE INDEX idx_payroll_month_employee ON payroll (month, employee_id);
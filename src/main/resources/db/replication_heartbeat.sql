@@ -0,0 +1,11 @@
+-- Replication heartbeat for read-replica lag detection.
+--
+-- The application rewrites the single row on the primary every health-check
+-- interval with its current time. Replication carries the row to each replica,
+-- so the replica's copy tells how far behind it is: lag = now - beat_at. Create
+-- the table on the primary only; it replicates like any other.
+
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id      INT       NOT NULL PRIMARY KEY,
+    beat_at TIMESTAMP NOT NULL
+);
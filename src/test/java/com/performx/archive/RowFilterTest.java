@@ -0,0 +1,110 @@
+package com.performx.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.performx.constant.FilterOperator;
+import com.performx.constant.LogicalOperator;
+import com.performx.constant.SortDirection;
+import com.performx.entity.Employee;
+import com.performx.request.FilterCondition;
+import com.performx.request.FilterRequest;
+import com.performx.request.SortOrder;
+import com.performx.util.TypeConverterRegistry;
+
+/**
+ * Archived rows must match the filters live rows match in MySQL under its
+ * default case-insensitive collation; each expectation is what the same
+ * condition selects from the database.
+ */
+class RowFilterTest {
+
+	private static final List<SegmentFormat.Column> COLUMNS = List.of(
+			new SegmentFormat.Column("name", String.class),
+			new SegmentFormat.Column("status", String.class),
+			new SegmentFormat.Column("salary", BigDecimal.class));
+	private static final Map<String, Integer> INDEX = RowFilter.SegmentRow.index(COLUMNS);
+
+	private static final List<Object[]> ROWS = List.of(
+			row("Alice", "ACTIVE", "1000"),
+			row("bob", "active", "2000"),
+			row("Carol", "Inactive", "3000"),
+			row("dave", null, "4000"));
+
+	private final RowFilter filter = new RowFilter(new TypeConverterRegistry());
+
+	@Test
+	void comparesStringsIgnoringCase() {
+		assertEquals(List.of("Alice", "bob"), names(condition("status", FilterOperator.EQUALS, "active")));
+		assertEquals(List.of("Carol"), names(condition("status", FilterOperator.NOT_EQUALS, "Active")));
+		assertEquals(List.of("Alice", "bob", "Carol"),
+				names(condition("status", FilterOperator.IN, List.of("ACTIVE", "inactive"))));
+		assertEquals(List.of("Carol"), names(condition("status", FilterOperator.NOT_IN, List.of("Active"))));
+		// 'bob' and 'Carol' sort between 'B' and 'D' ignoring case, 'Alice' and 'dave' do not
+		assertEquals(List.of("bob", "Carol"),
+				names(new FilterCondition("name", FilterOperator.BETWEEN, "B", "D")));
+		assertEquals(List.of("Carol", "dave"), names(condition("name", FilterOperator.GREATER_THAN_EQUAL, "c")));
+	}
+
+	@Test
+	void likeIgnoresCase() {
+		// the value is matched anywhere in the field, as '%value%'
+		assertEquals(List.of("Carol"), names(condition("status", FilterOperator.LIKE, "INACT")));
+		assertEquals(List.of("bob", "Carol"), names(condition("name", FilterOperator.LIKE, "O")));
+		assertEquals(List.of("Alice", "bob", "Carol"), names(condition("status", FilterOperator.LIKE, "act%")));
+	}
+
+	@Test
+	void nullsMatchOnlyNullChecks() {
+		assertEquals(List.of("dave"), names(condition("status", FilterOperator.IS_NULL, null)));
+		assertEquals(List.of(), names(condition("status", FilterOperator.EQUALS, null)));
+		FilterRequest either = FilterRequest.builder()
+				.conditions(List.of(condition("status", FilterOperator.IS_NULL, null),
+						condition("salary", FilterOperator.LESS_THAN, 1500)))
+				.logicalOperator(LogicalOperator.OR).build();
+		assertEquals(List.of("Alice", "dave"), names(either));
+	}
+
+	@Test
+	void sortsStringsIgnoringCase() {
+		List<Employee> employees = new ArrayList<>();
+		for (String name : List.of("dave", "Carol", "bob", "Alice")) {
+			Employee employee = new Employee();
+			employee.setName(name);
+			employees.add(employee);
+		}
+		employees.add(new Employee());
+
+		employees.sort(filter.comparator(List.of(new SortOrder("name", SortDirection.ASC))));
+
+		assertEquals(List.of("Alice", "bob", "Carol", "dave"),
+				employees.stream().skip(1).map(Employee::getName).toList());
+		assertEquals(null, employees.get(0).getName());
+	}
+
+	private List<String> names(FilterCondition condition) {
+		return names(FilterRequest.builder().conditions(List.of(condition)).build());
+	}
+
+	private List<String> names(FilterRequest request) {
+		return ROWS.stream()
+				.filter(values -> filter.matches(new RowFilter.SegmentRow(INDEX, COLUMNS, values), request))
+				.map(values -> (String) values[0])
+				.toList();
+	}
+
+	private static FilterCondition condition(String field, FilterOperator operator, Object value) {
+		return new FilterCondition(field, operator, value, null);
+	}
+
+	private static Object[] row(String name, String status, String salary) {
+		return new Object[] { name, status, new BigDecimal(salary) };
+	}
+
+}
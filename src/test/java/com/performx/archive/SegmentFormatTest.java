@@ -0,0 +1,101 @@
+package com.performx.archive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Segments are the only copy of archived rows: every value written must read
+ * back equal, with its type, scale and nanoseconds.
+ */
+class SegmentFormatTest {
+
+	private static final List<SegmentFormat.Column> COLUMNS = List.of(
+			new SegmentFormat.Column("id", Long.class),
+			new SegmentFormat.Column("employeeId", BigInteger.class),
+			new SegmentFormat.Column("month", String.class),
+			new SegmentFormat.Column("netPay", BigDecimal.class),
+			new SegmentFormat.Column("rate", Double.class),
+			new SegmentFormat.Column("rating", Integer.class),
+			new SegmentFormat.Column("active", Boolean.class),
+			new SegmentFormat.Column("reviewDate", java.sql.Date.class),
+			new SegmentFormat.Column("updatedAt", Date.class),
+			new SegmentFormat.Column("createdAt", Timestamp.class),
+			new SegmentFormat.Column("comments", String.class));
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void roundTripsEveryColumnType() throws Exception {
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(row(1_000L, BigInteger.valueOf(7), "2024-01", new BigDecimal("1234.50"), 0.1, 5, true,
+				java.sql.Date.valueOf("2024-01-31"), new Date(1_706_659_200_123L), timestamp(1_706_659_200_123L, 456_789),
+				null));
+		// every value goes down: negative deltas
+		rows.add(row(3L, new BigInteger("1180591620717411303424"), "2024-01", new BigDecimal("-0.0001"), -2.5, -3,
+				false, java.sql.Date.valueOf("1969-12-31"), new Date(-86_400_000L), timestamp(-1_500L, 1), null));
+		// nulls in every column, between non-null values
+		rows.add(new Object[COLUMNS.size()]);
+		rows.add(row(Long.MAX_VALUE, BigInteger.ZERO, "2024-02", new BigDecimal("1E+3"), Double.NaN, Integer.MIN_VALUE,
+				null, null, new Date(0L), timestamp(Long.MIN_VALUE / 4, 999_999), null));
+		rows.add(row(Long.MIN_VALUE, null, "", BigDecimal.ZERO, null, Integer.MAX_VALUE, true,
+				java.sql.Date.valueOf("2024-02-29"), null, null, null));
+
+		SegmentFormat.Segment segment = roundTrip(rows);
+
+		assertEquals(COLUMNS, segment.columns());
+		assertEquals(rows.size(), segment.rows().size());
+		for (int r = 0; r < rows.size(); r++) {
+			Object[] expected = rows.get(r);
+			Object[] actual = segment.rows().get(r);
+			assertArrayEquals(expected, actual, "row " + r + ": " + Arrays.toString(actual));
+			for (int c = 0; c < expected.length; c++) {
+				if (expected[c] != null) {
+					assertEquals(expected[c].getClass(), actual[c].getClass(), "row " + r + ", column " + c);
+				}
+			}
+		}
+		// equals() on a Timestamp compares the nanos, on a BigDecimal the scale
+		assertEquals(456_789 + 123_000_000, ((Timestamp) segment.rows().get(0)[9]).getNanos());
+		assertEquals(4, ((BigDecimal) segment.rows().get(1)[3]).scale());
+	}
+
+	@Test
+	void roundTripsAnEmptySegment() throws Exception {
+		SegmentFormat.Segment segment = roundTrip(List.of());
+
+		assertEquals(COLUMNS, segment.columns());
+		assertTrue(segment.rows().isEmpty());
+	}
+
+	private SegmentFormat.Segment roundTrip(List<Object[]> rows) throws Exception {
+		Path file = dir.resolve("202401-1.seg");
+		SegmentFormat.write(file, COLUMNS, rows);
+		return SegmentFormat.read(file);
+	}
+
+	private static Object[] row(Object... values) {
+		return values;
+	}
+
+	/** A timestamp at {@code millis} with {@code subMillisNanos} more nanoseconds. */
+	private static Timestamp timestamp(long millis, int subMillisNanos) {
+		Timestamp timestamp = new Timestamp(millis);
+		timestamp.setNanos(timestamp.getNanos() + subMillisNanos);
+		return timestamp;
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.performx.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Which entries a full region drops, and that concurrent readers and writers
+ * keep it near its size.
+ */
+class LocalStorageAccessTest {
+
+	@Test
+	void dropsTheLeastRecentlyReadEntries() throws InterruptedException {
+		LocalStorageAccess region = new LocalStorageAccess("employee", 32, 0);
+		for (int i = 0; i < 32; i++) {
+			region.putIntoCache(i, "v" + i, null);
+		}
+		Thread.sleep(1);
+		for (int i = 16; i < 32; i++) {
+			region.getFromCache(i, null);
+		}
+
+		region.putIntoCache(32, "v32", null);
+
+		// a batch of 32 / 16 entries below the size, all of them never read
+		assertEquals(30, region.size());
+		assertEquals(3, region.getEvictions());
+		for (int i = 16; i <= 32; i++) {
+			assertEquals("v" + i, region.getFromCache(i, null));
+		}
+	}
+
+	@Test
+	void expiredEntriesAreNotReturned() throws InterruptedException {
+		LocalStorageAccess region = new LocalStorageAccess("query", 10, 1_000_000L);
+		region.putIntoCache("key", "value", null);
+
+		Thread.sleep(5);
+
+		assertNull(region.getFromCache("key", null));
+		assertEquals(1, region.getExpirations());
+		assertEquals(0, region.size());
+	}
+
+	@Test
+	void staysNearItsSizeUnderConcurrentUse() throws Exception {
+		LocalStorageAccess region = new LocalStorageAccess("employee", 1000, 0);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int thread = t;
+				futures.add(pool.submit(() -> {
+					for (int i = 0; i < 20_000; i++) {
+						int key = (i * 31 + thread) % 5000;
+						if (region.getFromCache(key, null) == null) {
+							region.putIntoCache(key, key, null);
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		region.putIntoCache(-1, -1, null);
+		assertTrue(region.size() <= 1000, () -> "size " + region.size());
+		assertTrue(region.getEvictions() > 0);
+	}
+
+}
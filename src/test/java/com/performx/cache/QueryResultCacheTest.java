@@ -0,0 +1,113 @@
+package com.performx.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.performx.entity.Employee;
+import com.performx.entity.Payroll;
+
+/**
+ * When a filter result is served from the cache and when the query runs: each
+ * test counts the loads behind a series of reads.
+ */
+class QueryResultCacheTest {
+
+	private final QueryResultCache cache = new QueryResultCache(true, 100, 3, "60s", "0s");
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@AfterEach
+	void endTransaction() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void servesRepeatedReadsFromTheCache() {
+		List<String> first = read(Employee.class, "a", List.of("x"));
+
+		assertSame(first, read(Employee.class, "a", List.of("y")));
+		assertEquals(1, loads.get());
+		assertEquals(List.of("z"), read(Employee.class, "b", List.of("z")));
+		assertEquals(List.of("z"), read(Payroll.class, "a", List.of("z")));
+		assertEquals(3, loads.get());
+		assertEquals(1, cache.getStatistics().getHitCount());
+	}
+
+	@Test
+	void committedWriteInvalidatesOnlyItsType() {
+		read(Employee.class, "a", List.of("old"));
+		read(Payroll.class, "a", List.of("payroll"));
+
+		cache.invalidate(Employee.class);
+
+		assertEquals(List.of("new"), read(Employee.class, "a", List.of("new")));
+		assertEquals(List.of("payroll"), read(Payroll.class, "a", List.of("other")));
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void resultReadBeforeAWriteIsNotFoundAfterIt() {
+		// the write commits while the read is running: its result is stored under the old generation
+		cache.get(Employee.class, "a", () -> {
+			cache.invalidate(Employee.class);
+			return List.of("stale");
+		});
+
+		assertEquals(List.of("fresh"), read(Employee.class, "a", List.of("fresh")));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void readWriteTransactionsBypassTheCache() {
+		read(Employee.class, "a", List.of("committed"));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertEquals(List.of("uncommitted"), read(Employee.class, "a", List.of("uncommitted")));
+		assertEquals(List.of("uncommitted"), read(Employee.class, "b", List.of("uncommitted")));
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertEquals(List.of("committed"), read(Employee.class, "a", List.of("other")));
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void resultsOverMaxRowsAreNotStored() {
+		read(Employee.class, "large", List.of("1", "2", "3", "4"));
+		read(Employee.class, "large", List.of("1", "2", "3", "4"));
+		read(Employee.class, "limit", List.of("1", "2", "3"));
+		read(Employee.class, "limit", List.of("1", "2", "3"));
+
+		assertEquals(3, loads.get());
+		assertEquals(1, cache.getStatistics().getSize());
+	}
+
+	@Test
+	void disabledCacheAlwaysLoads() {
+		QueryResultCache disabled = new QueryResultCache(false, 100, 3, "60s", "0s");
+		Supplier<List<String>> loader = () -> {
+			loads.incrementAndGet();
+			return List.of("x");
+		};
+
+		disabled.get(Employee.class, "a", loader);
+		disabled.get(Employee.class, "a", loader);
+
+		assertEquals(2, loads.get());
+	}
+
+	private List<String> read(Class<?> entityClass, String fingerprint, List<String> result) {
+		return cache.get(entityClass, fingerprint, () -> {
+			loads.incrementAndGet();
+			return result;
+		});
+	}
+
+}
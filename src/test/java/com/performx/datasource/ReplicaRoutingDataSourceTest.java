@@ -0,0 +1,192 @@
+package com.performx.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.performx.dto.EmployeeDTO;
+import com.performx.filter.ReadYourWritesFilter;
+import com.performx.service.EmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Routing between two in-memory H2 databases standing in for a primary and
+ * one replica; nothing replicates, so each read shows which one served it.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=" + ReplicaRoutingDataSourceTest.PRIMARY_URL,
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false",
+		"performx.result-cache.enabled=false",
+		"performx.coalesce.enabled=false",
+		"performx.datasource.replicas[0].url=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+		"performx.datasource.replicas[0].username=sa",
+		"performx.datasource.replicas[0].password=",
+		"performx.datasource.health-check-interval=1h",
+		"performx.datasource.max-lag=5s",
+		"performx.datasource.read-your-writes-window=300ms" })
+class ReplicaRoutingDataSourceTest {
+
+	static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1;NON_KEYWORDS=MONTH,YEAR,VALUE";
+	static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;NON_KEYWORDS=MONTH,YEAR,VALUE";
+	private static final String HEARTBEAT_DDL = "create table if not exists replication_heartbeat "
+			+ "(id int not null primary key, beat_at timestamp not null)";
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private ReplicaRoutingDataSource router;
+
+	@Autowired
+	private HikariDataSource primaryDataSource;
+
+	@Autowired
+	private ReadYourWritesFilter readYourWritesFilter;
+
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+
+	@BeforeEach
+	void setUp() {
+		primary = new JdbcTemplate(primaryDataSource);
+		replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+		replica.execute("drop all objects");
+		primary.queryForList("script nodata", String.class).stream()
+				.filter(ddl -> ddl.startsWith("CREATE"))
+				.forEach(replica::execute);
+		primary.execute("delete from employee");
+		primary.execute(HEARTBEAT_DDL);
+		replica.execute(HEARTBEAT_DDL);
+		for (int i = 1; i <= 5; i++) {
+			replica.update("insert into employee (id, name, status) values (?, ?, 'ACTIVE')", 1000 + i, "replica-" + i);
+		}
+		replicateHeartbeat(0);
+		router.checkHealth();
+	}
+
+	@Test
+	void readsFollowWritesThenMoveToReplica() throws InterruptedException {
+		assertTrue(router.getReplicaStates().get(0).healthy());
+
+		employeeService.save(employee("a"));
+		employeeService.save(employee("b"));
+		assertEquals(2L, employeeService.count(), "read right after a write is served by the primary");
+
+		Thread.sleep(400);
+		assertEquals(5L, employeeService.count(), "read after the window is served by the replica");
+
+		assertEquals(5, replica.queryForObject("select count(*) from employee", Integer.class),
+				"writes never reach the replica");
+		assertEquals(2, primary.queryForObject("select count(*) from employee", Integer.class));
+	}
+
+	@Test
+	void readsFollowTheClientsWriteToAnotherThread() throws Exception {
+		MockHttpServletResponse written = serve(new MockHttpServletRequest(),
+				() -> employeeService.save(employee("a")));
+		Cookie lastWrite = written.getCookie(ReadYourWritesFilter.COOKIE);
+		assertEquals(written.getHeader(ReadYourWritesFilter.HEADER), lastWrite.getValue());
+
+		MockHttpServletRequest withCookie = new MockHttpServletRequest();
+		withCookie.setCookies(lastWrite);
+		MockHttpServletRequest withHeader = new MockHttpServletRequest();
+		withHeader.addHeader(ReadYourWritesFilter.HEADER, lastWrite.getValue());
+		MockHttpServletRequest otherClient = new MockHttpServletRequest();
+
+		// the client's next requests land on other threads: they still see its write
+		assertEquals(1L, onOtherThread(withCookie), "same client is served by the primary");
+		assertEquals(1L, onOtherThread(withHeader), "same client is served by the primary");
+		// another client on the writer's own thread reads the replica
+		AtomicLong count = new AtomicLong();
+		serve(otherClient, () -> count.set(employeeService.count()));
+		assertEquals(5L, count.get(), "another client is served by the replica");
+
+		Thread.sleep(400);
+		assertEquals(5L, onOtherThread(withCookie), "after the window the client is served by the replica");
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() {
+		primary.update("insert into employee (id, name, status) values (1, 'primary-1', 'ACTIVE')");
+
+		replicateHeartbeat(60_000);
+		router.checkHealth();
+		assertFalse(router.getReplicaStates().get(0).healthy());
+		long fallbacks = router.getPrimaryFallbacks();
+		assertEquals(1L, employeeService.count());
+		assertTrue(router.getPrimaryFallbacks() > fallbacks);
+
+		replicateHeartbeat(0);
+		router.checkHealth();
+		assertTrue(router.getReplicaStates().get(0).healthy());
+		assertEquals(5L, employeeService.count());
+	}
+
+	@Test
+	void replicaWithoutHeartbeatIsSkipped() {
+		replica.execute("delete from replication_heartbeat");
+		router.checkHealth();
+
+		List<ReplicaRoutingDataSource.ReplicaState> states = router.getReplicaStates();
+		assertFalse(states.get(0).healthy());
+		assertEquals(0L, employeeService.count());
+	}
+
+	/** Runs {@code action} as the service behind a request passing through the filter. */
+	private MockHttpServletResponse serve(MockHttpServletRequest request, Runnable action) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		readYourWritesFilter.doFilter(request, response, (req, res) -> action.run());
+		return response;
+	}
+
+	private long onOtherThread(MockHttpServletRequest request) throws Exception {
+		AtomicLong count = new AtomicLong();
+		Thread thread = new Thread(() -> {
+			try {
+				serve(request, () -> count.set(employeeService.count()));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		thread.start();
+		thread.join();
+		return count.get();
+	}
+
+	/** Stands in for replication of the heartbeat, {@code lagMillis} behind. */
+	private void replicateHeartbeat(long lagMillis) {
+		Timestamp beat = new Timestamp(System.currentTimeMillis() - lagMillis);
+		if (replica.update("update replication_heartbeat set beat_at = ? where id = 1", beat) == 0) {
+			replica.update("insert into replication_heartbeat (id, beat_at) values (1, ?)", beat);
+		}
+	}
+
+	private static EmployeeDTO employee(String name) {
+		EmployeeDTO dto = new EmployeeDTO();
+		dto.setName(name);
+		dto.setStatus("ACTIVE");
+		dto.setSalary(new BigDecimal("1000"));
+		return dto;
+	}
+
+}
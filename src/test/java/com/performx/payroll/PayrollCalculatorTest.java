@@ -0,0 +1,134 @@
+package com.performx.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The fixed-point payroll kernel against the {@link BigDecimal} reference:
+ * every amount must be identical, digit and scale, or the kernel must refuse.
+ */
+class PayrollCalculatorTest {
+
+	private static final String[] RATES = { "0", "0.1", "0.075", "0.05", "0.125", "0.333333", "1", "1.5", "-0.02",
+			"0.0000001", "0.123456789" };
+	private static final int[] PERIODS = { 1, 12, 13, 24, 26, 52 };
+
+	@Test
+	void randomSalariesMatchReference() {
+		Random random = new Random(20261018L);
+		List<BigDecimal> salaries = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			salaries.add(BigDecimal.valueOf(random.nextLong(10_000_000_000L), 2));
+		}
+		for (int periods : PERIODS) {
+			for (String bonus : RATES) {
+				for (String deduction : RATES) {
+					assertKernelMatches(new PayrollCalculator(periods, new BigDecimal(bonus),
+							new BigDecimal(deduction)), salaries);
+				}
+			}
+		}
+	}
+
+	@Test
+	void halfwayCasesRoundToEven() {
+		List<BigDecimal> salaries = new ArrayList<>();
+		// every cent remainder modulo 12, including the halfway remainder 6
+		for (long cents = 0; cents < 48; cents++) {
+			salaries.add(BigDecimal.valueOf(1_200_000 + cents, 2));
+			salaries.add(BigDecimal.valueOf(-1_200_000 - cents, 2));
+		}
+		// basic pay whose bonus and deductions land exactly on half a cent
+		for (long basic = 1; basic <= 40; basic++) {
+			salaries.add(BigDecimal.valueOf(basic * 12, 2));
+		}
+		for (String rate : new String[] { "0.5", "0.25", "0.125", "0.05", "0.005" }) {
+			assertKernelMatches(new PayrollCalculator(12, new BigDecimal(rate), new BigDecimal(rate)), salaries);
+		}
+		assertEquals(new BigDecimal("0.02"), pay(new PayrollCalculator(12, BigDecimal.ZERO, BigDecimal.ZERO),
+				new BigDecimal("0.30")).basicPay());
+		assertEquals(new BigDecimal("0.04"), pay(new PayrollCalculator(12, BigDecimal.ZERO, BigDecimal.ZERO),
+				new BigDecimal("0.54")).basicPay());
+	}
+
+	@Test
+	void boundarySalariesMatchReference() {
+		List<BigDecimal> salaries = new ArrayList<>();
+		salaries.add(null);
+		salaries.add(BigDecimal.ZERO);
+		salaries.add(new BigDecimal("0E+3"));
+		salaries.add(new BigDecimal("1E+6"));
+		salaries.add(new BigDecimal("0.01"));
+		salaries.add(new BigDecimal("1000.500"));
+		salaries.add(new BigDecimal("99999999.99"));
+		salaries.add(BigDecimal.valueOf(Long.MAX_VALUE / 10, 2));
+		salaries.add(BigDecimal.valueOf(Long.MIN_VALUE / 10, 2));
+		assertKernelMatches(new PayrollCalculator(12, new BigDecimal("0.1"), new BigDecimal("0.075")), salaries);
+		// the finest rates the kernel represents, on salaries small enough for them
+		assertKernelMatches(new PayrollCalculator(12, new BigDecimal("0.123456789012"),
+				new BigDecimal("0.000000000000000001")), salaries.subList(0, 6));
+	}
+
+	@Test
+	void unrepresentableInputsAreRefused() {
+		assertThrows(ArithmeticException.class, () -> FixedPoint.toMinor(new BigDecimal("1000.005")));
+		assertThrows(ArithmeticException.class, () -> FixedPoint.toMinor(new BigDecimal("1E+20")));
+
+		PayrollCalculator overflowing = new PayrollCalculator(1, new BigDecimal("0.1"), BigDecimal.ZERO);
+		assertThrows(ArithmeticException.class, () -> overflowing.calculate(new long[] { Long.MAX_VALUE }));
+
+		PayrollCalculator fineRate = new PayrollCalculator(12, new BigDecimal("1E-19"), BigDecimal.ZERO);
+		assertThrows(ArithmeticException.class, () -> fineRate.calculate(new long[] { 100 }));
+	}
+
+	@Test
+	void divideHalfEvenMatchesBigDecimal() {
+		Random random = new Random(7L);
+		for (int i = 0; i < 100_000; i++) {
+			long dividend = random.nextLong() >> random.nextInt(64);
+			long divisor = 1 + (random.nextLong(1L << random.nextInt(1, 40)));
+			long expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_EVEN)
+					.longValueExact();
+			assertEquals(expected, FixedPoint.divideHalfEven(dividend, divisor), dividend + " / " + divisor);
+		}
+	}
+
+	private static void assertKernelMatches(PayrollCalculator calculator, List<BigDecimal> salaries) {
+		long[] minor = new long[salaries.size()];
+		for (int i = 0; i < minor.length; i++) {
+			minor[i] = FixedPoint.toMinor(salaries.get(i));
+		}
+		PayColumns columns = calculator.calculate(minor);
+		BigDecimal total = BigDecimal.ZERO;
+		for (int i = 0; i < minor.length; i++) {
+			PayLine expected = calculator.calculate(salaries.get(i));
+			String context = "salary " + salaries.get(i);
+			assertIdentical(expected.basicPay(), FixedPoint.toDecimal(columns.basicPay(i)), context);
+			assertIdentical(expected.bonus(), FixedPoint.toDecimal(columns.bonus(i)), context);
+			assertIdentical(expected.deductions(), FixedPoint.toDecimal(columns.deductions(i)), context);
+			assertIdentical(expected.netPay(), FixedPoint.toDecimal(columns.netPay(i)), context);
+			total = total.add(expected.netPay());
+		}
+		assertIdentical(total.setScale(FixedPoint.SCALE), FixedPoint.toDecimal(columns.totalNetPay()), "total");
+	}
+
+	private static void assertIdentical(BigDecimal expected, BigDecimal actual, String context) {
+		// equals, not compareTo: the scale persisted must match as well
+		assertEquals(expected, actual, context);
+	}
+
+	private static PayLine pay(PayrollCalculator calculator, BigDecimal salary) {
+		PayColumns columns = calculator.calculate(new long[] { FixedPoint.toMinor(salary) });
+		return new PayLine(FixedPoint.toDecimal(columns.basicPay(0)), FixedPoint.toDecimal(columns.bonus(0)),
+				FixedPoint.toDecimal(columns.deductions(0)), FixedPoint.toDecimal(columns.netPay(0)));
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.performx.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import com.performx.response.PayrollDiffLine;
+import com.performx.response.PayrollDiffLine.Change;
+
+/**
+ * The merge-join of two months' ordered payroll rows, without a database.
+ */
+class PayrollReconcilerTest {
+
+	@Test
+	void reportsAddedRemovedAndChangedLines() {
+		List<PayrollDiffLine> lines = merge(
+				List.of(row(1, "1000.00", "100.00", "50.00", "1050.00"),
+						row(2, "2000.00", "0.00", "100.00", "1900.00"),
+						row(4, "500.00", "0.00", "0.00", "500.00")),
+				List.of(row(2, "2100.00", "10.00", "105.00", "2005.00"),
+						row(3, "800.00", "0.00", "8.00", "792.00"),
+						// a different scale is the same amount
+						row(4, "500", "0.0", "0", "500.000")));
+
+		assertEquals(3, lines.size());
+		assertLine(lines.get(0), 1L, Change.REMOVED, "-1000.00", "-100.00", "-50.00", "-1050.00", "1050.00", null);
+		assertLine(lines.get(1), 2L, Change.CHANGED, "100.00", "10.00", "5.00", "105.00", "1900.00", "2005.00");
+		assertLine(lines.get(2), 3L, Change.ADDED, "800.00", "0.00", "8.00", "792.00", null, "792.00");
+	}
+
+	@Test
+	void pairsDuplicateEmployeeLinesInOrder() {
+		List<PayrollDiffLine> lines = merge(
+				List.of(row(5, "100", "0", "0", "100"), row(5, "200", "0", "0", "200"), row(6, "1", "0", "0", "1")),
+				List.of(row(5, "100", "0", "0", "100"), row(6, "1", "0", "0", "1"), row(6, "2", "0", "0", "2")));
+
+		assertEquals(2, lines.size());
+		assertLine(lines.get(0), 5L, Change.REMOVED, "-200", "0", "0", "-200", "200", null);
+		assertLine(lines.get(1), 6L, Change.ADDED, "2", "0", "0", "2", null, "2");
+	}
+
+	@Test
+	void linesWithoutAnEmployeeSortFirst() {
+		List<PayrollDiffLine> lines = merge(
+				List.of(row(null, "10", "0", "0", "10"), row(1, "10", "0", "0", "10")),
+				List.of(row(null, "12", "0", "0", "12"), row(null, "3", "0", "0", "3"), row(1, "10", "0", "0", "10")));
+
+		assertEquals(2, lines.size());
+		assertLine(lines.get(0), null, Change.CHANGED, "2", "0", "0", "2", "10", "12");
+		assertLine(lines.get(1), null, Change.ADDED, "3", "0", "0", "3", null, "3");
+	}
+
+	@Test
+	void oneSideEmpty() {
+		List<Object[]> month = List.of(row(1, "10", "1", "2", "9"), row(2, "20", "0", "0", "20"));
+
+		List<PayrollDiffLine> added = merge(List.of(), month);
+		assertEquals(List.of(Change.ADDED, Change.ADDED), added.stream().map(PayrollDiffLine::getChange).toList());
+		assertLine(added.get(0), 1L, Change.ADDED, "10", "1", "2", "9", null, "9");
+
+		List<PayrollDiffLine> removed = merge(month, List.of());
+		assertEquals(List.of(Change.REMOVED, Change.REMOVED),
+				removed.stream().map(PayrollDiffLine::getChange).toList());
+		assertLine(removed.get(1), 2L, Change.REMOVED, "-20", "0", "0", "-20", "20", null);
+
+		PayrollReconciler.MergeIterator none = new PayrollReconciler.MergeIterator(
+				new ArrayList<Object[]>().iterator(), new ArrayList<Object[]>().iterator());
+		assertFalse(none.hasNext());
+		assertThrows(NoSuchElementException.class, none::next);
+	}
+
+	@Test
+	void missingAmountsCountAsZero() {
+		Object[] from = { BigInteger.ONE, new BigDecimal("10"), null, null, new BigDecimal("10") };
+		Object[] to = { BigInteger.ONE, new BigDecimal("10"), new BigDecimal("5"), null, new BigDecimal("15") };
+		List<PayrollDiffLine> lines = merge(List.<Object[]>of(from), List.<Object[]>of(to));
+
+		assertEquals(1, lines.size());
+		assertLine(lines.get(0), 1L, Change.CHANGED, "0", "5", "0", "5", "10", "15");
+	}
+
+	private static List<PayrollDiffLine> merge(List<Object[]> from, List<Object[]> to) {
+		List<PayrollDiffLine> lines = new ArrayList<>();
+		new PayrollReconciler.MergeIterator(from.iterator(), to.iterator()).forEachRemaining(lines::add);
+		return lines;
+	}
+
+	/** A row as the month query returns it. */
+	private static Object[] row(Integer employeeId, String basicPay, String bonus, String deductions, String netPay) {
+		return new Object[] { employeeId == null ? null : BigInteger.valueOf(employeeId), new BigDecimal(basicPay),
+				new BigDecimal(bonus), new BigDecimal(deductions), new BigDecimal(netPay) };
+	}
+
+	private static void assertLine(PayrollDiffLine line, Long employeeId, Change change, String basicPay,
+			String bonus, String deductions, String netPay, String fromNetPay, String toNetPay) {
+		assertEquals(employeeId, line.getEmployeeId(), line::toString);
+		assertEquals(change, line.getChange(), line::toString);
+		assertAmount(basicPay, line.getBasicPayDelta());
+		assertAmount(bonus, line.getBonusDelta());
+		assertAmount(deductions, line.getDeductionsDelta());
+		assertAmount(netPay, line.getNetPayDelta());
+		if (fromNetPay == null) {
+			assertNull(line.getFromNetPay());
+		} else {
+			assertAmount(fromNetPay, line.getFromNetPay());
+		}
+		if (toNetPay == null) {
+			assertNull(line.getToNetPay());
+		} else {
+			assertAmount(toNetPay, line.getToNetPay());
+		}
+	}
+
+	private static void assertAmount(String expected, BigDecimal actual) {
+		assertEquals(0, new BigDecimal(expected).compareTo(actual), () -> "expected " + expected + " but was " + actual);
+	}
+
+}
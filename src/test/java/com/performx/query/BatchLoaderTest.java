@@ -0,0 +1,220 @@
+package com.performx.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Which reads a set of concurrent lookups turns into. Key {@code 0} blocks its
+ * read until released, holding a read in flight while the other callers
+ * arrive.
+ */
+class BatchLoaderTest {
+
+	private static final long LONG_WINDOW = TimeUnit.SECONDS.toNanos(30);
+
+	private final List<Set<Integer>> reads = new CopyOnWriteArrayList<>();
+	private final CountDownLatch blockerStarted = new CountDownLatch(1);
+	private final CountDownLatch releaseBlocker = new CountDownLatch(1);
+	private final List<Thread> threads = new ArrayList<>();
+
+	@AfterEach
+	void release() {
+		releaseBlocker.countDown();
+		threads.forEach(Thread::interrupt);
+	}
+
+	@Test
+	void uncontendedLookupIsReadAtOnce() {
+		BatchLoader<Integer, String> loader = loader(LONG_WINDOW, 8);
+		long start = System.nanoTime();
+
+		assertEquals("v1", loader.load(1));
+		assertEquals(Map.of(2, "v2", 3, "v3"), loader.loadAll(List.of(2, 3)));
+
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+		assertEquals(List.of(Set.of(1), Set.of(2, 3)), reads);
+	}
+
+	@Test
+	void lookupsDuringAReadShareOneBatch() throws Exception {
+		BatchLoader<Integer, String> loader = loader(TimeUnit.MILLISECONDS.toNanos(300), 8);
+		CompletableFuture<String> blocker = inFlight(loader);
+
+		CompletableFuture<String> a = async(() -> loader.load(2));
+		CompletableFuture<String> b = async(() -> loader.load(2));
+		CompletableFuture<Map<Integer, String>> c = async(() -> loader.loadAll(List.of(2, 3)));
+
+		assertEquals("v2", a.get(10, TimeUnit.SECONDS));
+		assertEquals("v2", b.get(10, TimeUnit.SECONDS));
+		assertEquals(Map.of(2, "v2", 3, "v3"), c.get(10, TimeUnit.SECONDS));
+		assertEquals(List.of(Set.of(0), Set.of(2, 3)), reads);
+		assertEquals(5, loader.getRequestedKeys());
+		assertEquals(3, loader.getLoadedKeys());
+		assertEquals(2, loader.getBatches());
+
+		releaseBlocker.countDown();
+		assertEquals("v0", blocker.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void fullBatchIsReadWithoutWaitingForTheWindow() throws Exception {
+		BatchLoader<Integer, String> loader = loader(LONG_WINDOW, 3);
+		inFlight(loader);
+
+		CompletableFuture<String> a = async(() -> loader.load(1));
+		CompletableFuture<String> b = async(() -> loader.load(2));
+		CompletableFuture<String> c = async(() -> loader.load(3));
+
+		assertEquals("v1", a.get(10, TimeUnit.SECONDS));
+		assertEquals("v2", b.get(10, TimeUnit.SECONDS));
+		assertEquals("v3", c.get(10, TimeUnit.SECONDS));
+		assertEquals(Set.of(1, 2, 3), reads.get(1));
+	}
+
+	@Test
+	void keysThatDoNotFitOpenANewBatch() throws Exception {
+		BatchLoader<Integer, String> loader = loader(TimeUnit.MILLISECONDS.toNanos(300), 3);
+		inFlight(loader);
+
+		CompletableFuture<Map<Integer, String>> a = async(() -> loader.loadAll(List.of(1, 2)));
+		awaitOpenBatch(loader, 3);
+		CompletableFuture<Map<Integer, String>> b = async(() -> loader.loadAll(List.of(3, 4)));
+
+		assertEquals(Map.of(1, "v1", 2, "v2"), a.get(10, TimeUnit.SECONDS));
+		assertEquals(Map.of(3, "v3", 4, "v4"), b.get(10, TimeUnit.SECONDS));
+		assertEquals(Set.of(Set.of(1, 2), Set.of(3, 4)), Set.copyOf(reads.subList(1, 3)));
+	}
+
+	@Test
+	void setsOfABatchOrMoreBypassTheBatch() throws Exception {
+		BatchLoader<Integer, String> loader = loader(LONG_WINDOW, 3);
+		inFlight(loader);
+
+		assertEquals(Map.of(1, "v1", 2, "v2", 3, "v3"), loader.loadAll(List.of(1, 2, 3)));
+
+		assertEquals(List.of(Set.of(0), Set.of(1, 2, 3)), reads);
+	}
+
+	@Test
+	void failureReachesEveryCallerOfTheBatch() throws Exception {
+		RuntimeException failure = new IllegalStateException("database down");
+		assertEveryCallerGets(failure);
+	}
+
+	@Test
+	void errorReachesEveryCallerOfTheBatch() throws Exception {
+		Error failure = new OutOfMemoryError("heap");
+		assertEveryCallerGets(failure);
+	}
+
+	@Test
+	void uncontendedFailureIsThrownToTheCaller() {
+		IllegalStateException failure = new IllegalStateException("database down");
+		BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+			throw failure;
+		}, LONG_WINDOW, 8);
+
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> loader.load(1)));
+	}
+
+	private void assertEveryCallerGets(Throwable failure) throws Exception {
+		BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+			if (keys.contains(0)) {
+				return block(keys);
+			}
+			reads.add(Set.copyOf(keys));
+			if (failure instanceof Error error) {
+				throw error;
+			}
+			throw (RuntimeException) failure;
+		}, TimeUnit.MILLISECONDS.toNanos(300), 8);
+		inFlight(loader);
+
+		List<CompletableFuture<String>> callers = List.of(async(() -> loader.load(1)), async(() -> loader.load(1)),
+				async(() -> loader.load(2)));
+
+		for (CompletableFuture<String> caller : callers) {
+			ExecutionException e = assertThrows(ExecutionException.class, () -> caller.get(10, TimeUnit.SECONDS));
+			assertSame(failure, e.getCause());
+		}
+		assertEquals(List.of(Set.of(0), Set.of(1, 2)), reads);
+	}
+
+	private BatchLoader<Integer, String> loader(long windowNanos, int maxBatchSize) {
+		return new BatchLoader<>(this::read, windowNanos, maxBatchSize);
+	}
+
+	private Map<Integer, String> read(Collection<Integer> keys) {
+		if (keys.contains(0)) {
+			return block(keys);
+		}
+		reads.add(Set.copyOf(keys));
+		return values(keys);
+	}
+
+	private Map<Integer, String> block(Collection<Integer> keys) {
+		reads.add(Set.copyOf(keys));
+		blockerStarted.countDown();
+		try {
+			releaseBlocker.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return values(keys);
+	}
+
+	/** Starts a read of key 0 that stays in flight until the test ends. */
+	private CompletableFuture<String> inFlight(BatchLoader<Integer, String> loader) throws InterruptedException {
+		CompletableFuture<String> blocker = async(() -> loader.load(0));
+		assertTrue(blockerStarted.await(10, TimeUnit.SECONDS));
+		return blocker;
+	}
+
+	private static void awaitOpenBatch(BatchLoader<Integer, String> loader, long requestedKeys)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (loader.getRequestedKeys() < requestedKeys && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+	}
+
+	private <R> CompletableFuture<R> async(Supplier<R> call) {
+		CompletableFuture<R> future = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				future.complete(call.get());
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		});
+		threads.add(thread);
+		thread.start();
+		return future;
+	}
+
+	private static Map<Integer, String> values(Collection<Integer> keys) {
+		Map<Integer, String> values = new HashMap<>();
+		new LinkedHashSet<>(keys).forEach(key -> values.put(key, "v" + key));
+		return values;
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.performx.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.performx.constant.FilterOperator;
+import com.performx.dto.EmployeeDTO;
+import com.performx.request.FilterCondition;
+import com.performx.request.FilterRequest;
+import com.performx.service.EmployeeService;
+
+/**
+ * IN and NOT IN filters of every size against H2, with an
+ * {@code in-clause-size} of 8 and a temporary-table threshold of 20: each
+ * query must return exactly the rows the condition selects, whichever way its
+ * lists were sent.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:inlist;DB_CLOSE_DELAY=-1;NON_KEYWORDS=MONTH,YEAR,VALUE",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false",
+		"performx.result-cache.enabled=false",
+		"performx.query.in-clause-size=8",
+		"performx.query.in-list.temp-table-threshold=20" })
+class InListQueryTest {
+
+	private static final int EMPLOYEES = 60;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private InListStrategy inLists;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@BeforeEach
+	void setUp() {
+		if (jdbc.queryForObject("select count(*) from employee", Integer.class) == EMPLOYEES) {
+			return;
+		}
+		jdbc.execute("delete from employee");
+		for (int id = 1; id <= EMPLOYEES; id++) {
+			jdbc.update("insert into employee (id, name, department, status) values (?, ?, ?, 'ACTIVE')", id,
+					"e" + id, "D" + id % 7);
+		}
+	}
+
+	@Test
+	void inListsOfEverySize() {
+		for (int size : new int[] { 1, 5, 8, 9, 20, 21, 45 }) {
+			List<Long> ids = ids(size, 3, 1);
+			assertEquals(ids, findIds(condition("id", FilterOperator.IN, ids)), "IN of " + size);
+			assertEquals(expected(id -> !ids.contains(id)), findIds(condition("id", FilterOperator.NOT_IN, ids)),
+					"NOT IN of " + size);
+		}
+	}
+
+	@Test
+	void boundListsPastTheClauseSizeAreChunked() {
+		long chunked = inLists.getChunkedLists();
+
+		List<Long> ids = ids(15, 2, 3);
+		assertEquals(ids, findIds(condition("id", FilterOperator.IN, ids)));
+		assertEquals(expected(id -> !ids.contains(id)), findIds(condition("id", FilterOperator.NOT_IN, ids)));
+
+		assertTrue(inLists.getChunkedLists() > chunked);
+	}
+
+	@Test
+	void largeListsOfOneStatementShareTheTemporaryTableOnce() {
+		long tempTable = inLists.getTempTableLists();
+		List<Long> ids = ids(40, 1, 1);
+		List<String> names = new ArrayList<>();
+		for (long id = 11; id <= 50; id++) {
+			names.add("e" + id);
+		}
+		List<Long> excluded = ids(25, 2, 2);
+
+		List<Long> found = findIds(condition("id", FilterOperator.IN, ids),
+				condition("name", FilterOperator.IN, names), condition("id", FilterOperator.NOT_IN, excluded));
+
+		assertEquals(expected(id -> id >= 11 && id <= 40 && !excluded.contains(id)), found);
+		assertEquals(tempTable + 1, inLists.getTempTableLists());
+	}
+
+	@Test
+	void stringListsPastTheThresholdUseTheTemporaryTable() {
+		long tempTable = inLists.getTempTableLists();
+		List<String> departments = new ArrayList<>(List.of("D1", "D3"));
+		for (int i = 0; i < 23; i++) {
+			departments.add("X" + i);
+		}
+
+		assertEquals(expected(id -> departments.contains("D" + id % 7)),
+				findIds(condition("department", FilterOperator.IN, departments)));
+		assertEquals(expected(id -> !departments.contains("D" + id % 7)),
+				findIds(condition("department", FilterOperator.NOT_IN, departments)));
+		assertEquals(tempTable + 2, inLists.getTempTableLists());
+	}
+
+	@Test
+	void findMultiReadsLargeIdListsInChunks() {
+		List<Long> ids = new ArrayList<>(ids(30, 2, 2));
+		ids.add(1_000L);
+
+		List<Long> found = employeeService.findMulti(ids).stream().map(EmployeeDTO::getId).sorted().toList();
+
+		assertEquals(ids(30, 2, 2), found);
+	}
+
+	private List<Long> findIds(FilterCondition... conditions) {
+		FilterRequest request = FilterRequest.builder().conditions(List.of(conditions)).build();
+		return employeeService.findAll(request).stream().map(EmployeeDTO::getId).sorted().toList();
+	}
+
+	/** {@code size} IDs from {@code first}, {@code step} apart. */
+	private static List<Long> ids(int size, long first, long step) {
+		return LongStream.iterate(first, id -> id + step).limit(size).boxed().toList();
+	}
+
+	private static List<Long> expected(LongPredicate selected) {
+		return LongStream.rangeClosed(1, EMPLOYEES).filter(selected).boxed().toList();
+	}
+
+	private static FilterCondition condition(String field, FilterOperator operator, Object value) {
+		return new FilterCondition(field, operator, value, null);
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.performx.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Bucket sizes, chunk boundaries and the temporary-table cut-off, with an
+ * {@code in-clause-size} of 8 and a threshold of 20.
+ */
+class InListStrategyTest {
+
+	private final InListStrategy inLists = new InListStrategy(8, true, 20, 1);
+
+	@AfterEach
+	void shutdown() {
+		inLists.shutdown();
+	}
+
+	@Test
+	void padsToPowersOfTwoThenToMultiplesOfTheChunkSize() {
+		int[][] sizes = { { 0, 0 }, { 1, 1 }, { 2, 2 }, { 3, 4 }, { 4, 4 }, { 5, 8 }, { 7, 8 }, { 8, 8 }, { 9, 16 },
+				{ 16, 16 }, { 17, 24 } };
+		for (int[] size : sizes) {
+			assertEquals(size[1], inLists.paddedSize(size[0]), "size " + size[0]);
+		}
+	}
+
+	@Test
+	void padsByRepeatingTheLastValue() {
+		assertEquals(List.of(1, 2, 3, 3), inLists.pad(List.of(1, 2, 3)));
+		assertEquals(List.of(), inLists.pad(List.of()));
+		List<Integer> bucket = List.of(1, 2, 3, 4);
+		assertSame(bucket, inLists.pad(bucket));
+
+		InListStrategy unpadded = new InListStrategy(8, false, 20, 1);
+		try {
+			assertEquals(List.of(1, 2, 3), unpadded.pad(List.of(1, 2, 3)));
+		} finally {
+			unpadded.shutdown();
+		}
+	}
+
+	@Test
+	void splitsIntoPaddedChunksAtTheChunkSize() {
+		assertEquals(List.of(List.of(1)), inLists.chunks(values(1)));
+		assertEquals(List.of(values(8)), inLists.chunks(values(8)));
+		assertEquals(List.of(values(8), List.of(9)), inLists.chunks(values(9)));
+		assertEquals(List.of(values(8), List.of(9, 10, 11, 11)), inLists.chunks(values(11)));
+		assertEquals(2, inLists.getChunkedLists());
+
+		assertEquals(0, inLists.chunkCount(0));
+		assertEquals(1, inLists.chunkCount(1));
+		assertEquals(1, inLists.chunkCount(8));
+		assertEquals(2, inLists.chunkCount(9));
+		assertEquals(3, inLists.chunkCount(17));
+	}
+
+	@Test
+	void onlyLargeIntegralOrStringListsUseTheTemporaryTable() {
+		assertFalse(inLists.usesTempTable(20, Long.class));
+		assertTrue(inLists.usesTempTable(21, Long.class));
+		assertTrue(inLists.usesTempTable(21, long.class));
+		assertTrue(inLists.usesTempTable(21, BigInteger.class));
+		assertTrue(inLists.usesTempTable(21, String.class));
+		assertFalse(inLists.usesTempTable(21, BigDecimal.class));
+		assertFalse(inLists.usesTempTable(21, java.util.Date.class));
+
+		assertEquals("select v.numValue from InListValue v where v.listNo = 2", InListStrategy.subquery(Integer.class, 2));
+		assertEquals("select v.strValue from InListValue v where v.listNo = 0", InListStrategy.subquery(String.class, 0));
+	}
+
+	@Test
+	void readsChunksInOrder() {
+		List<List<Integer>> chunks = inLists.chunks(values(30));
+
+		List<Integer> firsts = inLists.inParallel(chunks, chunk -> chunk.get(0));
+
+		assertEquals(List.of(1, 9, 17, 25), firsts);
+	}
+
+	private static List<Integer> values(int size) {
+		return IntStream.rangeClosed(1, size).boxed().toList();
+	}
+
+}
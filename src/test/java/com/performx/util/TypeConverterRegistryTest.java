@@ -0,0 +1,121 @@
+package com.performx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.performx.constant.SortDirection;
+import com.performx.exception.GlobalException;
+
+/**
+ * The conversions filter values go through before they are bound: each
+ * source type a client can send, to each field type, and the values that must
+ * be rejected rather than bound as something else.
+ */
+class TypeConverterRegistryTest {
+
+	private final TypeConverterRegistry converters = new TypeConverterRegistry();
+
+	@Test
+	void convertsToBigInteger() {
+		assertEquals(BigInteger.valueOf(42), converters.convert("42", BigInteger.class));
+		assertEquals(BigInteger.valueOf(42), converters.convert(42, BigInteger.class));
+		assertEquals(BigInteger.valueOf(42), converters.convert(42L, BigInteger.class));
+		assertEquals(BigInteger.valueOf(42), converters.convert(new BigDecimal("42.000"), BigInteger.class));
+		assertEquals(BigInteger.TWO.pow(70), converters.convert(new BigDecimal(BigInteger.TWO.pow(70)), BigInteger.class));
+		assertEquals(BigInteger.TWO.pow(70), converters.convert(BigInteger.TWO.pow(70).toString(), BigInteger.class));
+	}
+
+	@Test
+	void convertsToDates() {
+		long millis = Timestamp.valueOf("2024-03-15 10:30:00").getTime();
+
+		assertEquals(java.sql.Date.valueOf("2024-03-15"), converters.convert("2024-03-15", Date.class));
+		assertEquals(new Date(millis), converters.convert(millis, Date.class));
+		assertEquals(java.sql.Date.valueOf("2024-03-15"), converters.convert(LocalDate.of(2024, 3, 15), Date.class));
+		assertEquals(java.sql.Date.valueOf("2024-03-15"),
+				converters.convert("2024-03-15", java.sql.Date.class));
+
+		assertEquals(new Timestamp(millis), converters.convert("2024-03-15 10:30:00", Timestamp.class));
+		assertEquals(new Timestamp(millis), converters.convert("2024-03-15T10:30:00", Timestamp.class));
+		assertEquals(new Timestamp(millis), converters.convert(String.valueOf(millis), Timestamp.class));
+		assertEquals(new Timestamp(millis), converters.convert(millis, Timestamp.class));
+		assertEquals(new Timestamp(millis), converters.convert(new Date(millis), Timestamp.class));
+		assertEquals(new Timestamp(millis),
+				converters.convert(LocalDateTime.of(2024, 3, 15, 10, 30), Timestamp.class));
+		assertEquals(Timestamp.from(Instant.parse("2024-03-15T10:30:00Z")),
+				converters.convert("2024-03-15T10:30:00Z", Timestamp.class));
+	}
+
+	@Test
+	void convertsToEnums() {
+		assertSame(SortDirection.DESC, converters.convert("DESC", SortDirection.class));
+		assertSame(SortDirection.DESC, converters.convert(" desc ", SortDirection.class));
+		assertSame(SortDirection.ASC, converters.convert(0, SortDirection.class));
+		assertSame(SortDirection.DESC, converters.convert(1L, SortDirection.class));
+		assertSame(SortDirection.DESC, converters.convert(new BigDecimal("1.0"), SortDirection.class));
+	}
+
+	@Test
+	void rejectsValuesTheEnumDoesNotHave() {
+		assertRejected(2, SortDirection.class, "Value 2 is not an ordinal of SortDirection");
+		assertRejected(-1, SortDirection.class, "Value -1 is not an ordinal of SortDirection");
+		assertRejected(0.5, SortDirection.class, "Value 0.5 is not an ordinal of SortDirection");
+		assertRejected(1L << 32, SortDirection.class, "Value 4294967296 is not an ordinal of SortDirection");
+		assertRejected("SIDEWAYS", SortDirection.class, "Value SIDEWAYS is not a constant of SortDirection");
+	}
+
+	@Test
+	void rejectsLossyIntegralConversions() {
+		assertRejected(12.5, Long.class, "Value 12.5 cannot be converted to Long exactly");
+		assertRejected(new BigDecimal("12.5"), Long.class, "Value 12.5 cannot be converted to Long exactly");
+		assertRejected(BigInteger.TWO.pow(64), Long.class, "cannot be converted to Long exactly");
+		assertRejected((1L << 32) + 1, Integer.class, "Value 4294967297 cannot be converted to Integer exactly");
+		assertRejected(40_000, Short.class, "Value 40000 cannot be converted to Short exactly");
+		assertRejected(128, Byte.class, "Value 128 cannot be converted to Byte exactly");
+		assertRejected(Double.NaN, Long.class, "Value NaN cannot be converted to Long exactly");
+		assertRejected(1.5f, BigInteger.class, "Value 1.5 cannot be converted to BigInteger exactly");
+
+		assertEquals(12L, converters.convert(12.0, Long.class));
+		assertEquals(Integer.MIN_VALUE, converters.convert((long) Integer.MIN_VALUE, int.class));
+		assertEquals((short) -32768, converters.convert(new BigDecimal("-32768.00"), Short.class));
+	}
+
+	@Test
+	void rejectsUnsupportedPairs() {
+		assertRejected(true, Date.class, "No converter from Boolean to Date");
+	}
+
+	@Test
+	void convertsInListsInBulk() {
+		List<Object> mixed = Arrays.asList("1", 2, 3L, null, new BigDecimal("4"), BigInteger.valueOf(5));
+
+		assertEquals(Arrays.asList(1L, 2L, 3L, null, 4L, 5L), converters.convertAll(mixed, Long.class));
+		assertEquals(Arrays.asList(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3), null,
+				BigInteger.valueOf(4), BigInteger.valueOf(5)), converters.convertAll(mixed, BigInteger.class));
+		assertEquals(List.of(SortDirection.ASC, SortDirection.DESC, SortDirection.DESC),
+				converters.convertAll(List.of("asc", 1, "DESC"), SortDirection.class));
+
+		GlobalException e = assertThrows(GlobalException.class,
+				() -> converters.convertAll(List.of(1, 2, 3.5), Integer.class));
+		assertEquals("Value 3.5 cannot be converted to Integer exactly", e.getMessage());
+	}
+
+	private void assertRejected(Object value, Class<?> target, String message) {
+		GlobalException e = assertThrows(GlobalException.class, () -> converters.convert(value, target));
+		assertEquals(true, e.getMessage().contains(message), e::getMessage);
+	}
+
+}